@@ -0,0 +1,73 @@
+// Load test comparing the platform-thread and virtual-thread request models.
+//
+// Run the backend once per mode against the same database (Java 21 runtime required for virtual threads):
+//   VIRTUAL_THREADS_ENABLED=false java -jar target/financehub-backend-1.0.0.jar
+//   VIRTUAL_THREADS_ENABLED=true  java -jar target/financehub-backend-1.0.0.jar
+// then run, tagging the results with the mode under test:
+//   k6 run -e BASE_URL=http://localhost:8080 -e MODE=platform loadtest/thread-model.js
+//   k6 run -e BASE_URL=http://localhost:8080 -e MODE=virtual  loadtest/thread-model.js
+//
+// Compare http_req_duration p95/p99, http_reqs rate and the 503 count (db bulkhead rejections)
+// per endpoint between the two runs.
+
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const MODE = __ENV.MODE || 'unknown';
+const RATE = parseInt(__ENV.RATE || '400');
+const DURATION = __ENV.DURATION || '2m';
+
+export const options = {
+  tags: { mode: MODE },
+  scenarios: {
+    transactions: {
+      executor: 'constant-arrival-rate',
+      exec: 'transactions',
+      rate: RATE,
+      timeUnit: '1s',
+      duration: DURATION,
+      preAllocatedVUs: 200,
+      maxVUs: 2000,
+    },
+    analytics: {
+      executor: 'constant-arrival-rate',
+      exec: 'analytics',
+      rate: RATE,
+      timeUnit: '1s',
+      duration: DURATION,
+      preAllocatedVUs: 200,
+      maxVUs: 2000,
+    },
+  },
+  thresholds: {
+    'http_req_duration{scenario:transactions}': ['p(95)<500'],
+    'http_req_duration{scenario:analytics}': ['p(95)<500'],
+  },
+};
+
+export function setup() {
+  const res = http.post(`${BASE_URL}/api/auth/login`,
+    JSON.stringify({
+      username: __ENV.USERNAME || 'admin@financehub.com',
+      password: __ENV.PASSWORD || 'Admin123!',
+    }),
+    { headers: { 'Content-Type': 'application/json' } });
+  check(res, { 'logged in': (r) => r.status === 200 });
+  return { token: res.json('token') };
+}
+
+function params(data) {
+  return { headers: { Authorization: `Bearer ${data.token}` } };
+}
+
+export function transactions(data) {
+  const res = http.get(`${BASE_URL}/api/transactions?page=0&size=20`, params(data));
+  check(res, { 'transactions ok': (r) => r.status === 200 });
+}
+
+export function analytics(data) {
+  const res = http.get(
+    `${BASE_URL}/api/analytics/summary?startDate=2020-01-01&endDate=2030-12-31`, params(data));
+  check(res, { 'analytics ok': (r) => r.status === 200 });
+}
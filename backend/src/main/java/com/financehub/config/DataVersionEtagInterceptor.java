@@ -0,0 +1,77 @@
+package com.financehub.config;
+
+import com.financehub.security.UserPrincipal;
+import com.financehub.service.UserDataVersions;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.time.LocalDate;
+
+/**
+ * Conditional GET for user data endpoints. The weak ETag combines the user id, the user's
+ * {@link UserDataVersions data version} and today's date (some reports cover "the last 30 days").
+ * A matching {@code If-None-Match} is answered with 304 before the controller runs, so an unchanged
+ * poll costs one version lookup instead of the database queries and the response body.
+ * With several nodes ({@code cluster.coordination.enabled}) the versions must be shared through Redis:
+ * a node that keeps its own versions misses writes handled by the others and would answer 304 for
+ * changed data, so that combination fails startup unless ETags are off ({@code data-version.etags}).
+ *
+ * @author tekteku
+ * @version 1.0
+ * @since 2025-11-17
+ */
+@Component
+@Slf4j
+public class DataVersionEtagInterceptor implements HandlerInterceptor {
+
+    private final UserDataVersions dataVersions;
+    private final boolean enabled;
+
+    public DataVersionEtagInterceptor(UserDataVersions dataVersions,
+                                      @Value("${data-version.etags:true}") boolean enabled,
+                                      @Value("${cluster.coordination.enabled:true}") boolean clustered) {
+        if (enabled && clustered && !dataVersions.isShared()) {
+            throw new IllegalStateException(
+                    "data-version.etags with cluster.coordination.enabled requires data-version.shared");
+        }
+        this.dataVersions = dataVersions;
+        this.enabled = enabled;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!enabled) {
+            return true;
+        }
+        if (!HttpMethod.GET.matches(request.getMethod()) && !HttpMethod.HEAD.matches(request.getMethod())) {
+            return true;
+        }
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof UserPrincipal principal)) {
+            return true;
+        }
+
+        long version;
+        try {
+            version = dataVersions.current(principal.getId());
+        } catch (RuntimeException e) {
+            log.warn("Data version unavailable, serving {} without ETag: {}", request.getRequestURI(), e.getMessage());
+            return true;
+        }
+        String etag = "W/\"" + principal.getId() + "-" + version + "-" + LocalDate.now().toEpochDay() + "\"";
+        // Spring Security sends no-store unless a Cache-Control header is present; revalidate on every use instead
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().cachePrivate().getHeaderValue());
+        // Sets the ETag header, and the 304 status when If-None-Match matches
+        return !new ServletWebRequest(request, response).checkNotModified(etag);
+    }
+}
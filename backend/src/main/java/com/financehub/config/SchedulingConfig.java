@@ -0,0 +1,16 @@
+package com.financehub.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables {@code @Scheduled} background jobs such as balance journal compaction.
+ * 
+ * @author tekteku
+ * @version 1.0
+ * @since 2025-11-15
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -1,7 +1,10 @@
 package com.financehub.config;
 
+import com.financehub.security.BoundedPasswordEncoder;
 import com.financehub.security.JwtAuthenticationFilter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -16,6 +19,7 @@ import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.*;
 
+import java.time.Duration;
 import java.util.Arrays;
 
 /**
@@ -66,6 +70,8 @@ public class SecurityConfig {
         ));
         config.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "DELETE", "OPTIONS", "PATCH"));
         config.setAllowedHeaders(Arrays.asList("*"));
+        // Lets the SPA read the data version ETag and send it back in If-None-Match
+        config.setExposedHeaders(Arrays.asList("ETag"));
         config.setAllowCredentials(true);
         config.setMaxAge(3600L);
         
@@ -74,9 +80,18 @@ public class SecurityConfig {
         return source;
     }
     
+    /**
+     * BCrypt encoder whose hashing runs on a bounded executor, see {@link BoundedPasswordEncoder}.
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder(12);
+    public PasswordEncoder passwordEncoder(
+            @Value("${security.password.bcrypt-strength:12}") int strength,
+            @Value("${security.password.hash-threads:2}") int threads,
+            @Value("${security.password.queue-capacity:32}") int queueCapacity,
+            @Value("${security.password.wait-timeout:5s}") Duration waitTimeout,
+            MeterRegistry meterRegistry) {
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(strength), strength,
+                threads, queueCapacity, waitTimeout, meterRegistry);
     }
     
     @Bean
@@ -0,0 +1,84 @@
+package com.financehub.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Extra wiring for the virtual-thread execution mode ({@code spring.threads.virtual.enabled=true}, Java 21+).
+ * Spring Boot already moves Tomcat request handling, {@code @Async} and scheduling onto virtual threads;
+ * this adds a bulkhead in front of the connection pool so request concurrency is no longer capped by
+ * the Tomcat thread count but database concurrency still is. The password hashing executor is CPU bound
+ * and deliberately stays on platform threads.
+ *
+ * @author tekteku
+ * @version 1.0
+ * @since 2025-11-13
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+@Slf4j
+public class VirtualThreadConfig {
+
+    @Bean
+    public static BeanPostProcessor databaseBulkheadPostProcessor(
+            Environment environment, ObjectProvider<MeterRegistry> meterRegistry) {
+        return new DatabaseBulkheadPostProcessor(environment, meterRegistry);
+    }
+
+    /**
+     * Puts the bulkhead where connections are taken, the JPA entity manager factory and the JdbcTemplate,
+     * and leaves the {@link HikariDataSource} bean itself alone so pool metrics and metadata still find it.
+     * Both get the same wrapper: it is the key transactions bind their connection to, which lets
+     * JdbcTemplate calls join the surrounding JPA transaction.
+     */
+    static class DatabaseBulkheadPostProcessor implements BeanPostProcessor {
+
+        private final Environment environment;
+        private final ObjectProvider<MeterRegistry> meterRegistry;
+        private BulkheadDataSource bulkhead;
+
+        DatabaseBulkheadPostProcessor(Environment environment, ObjectProvider<MeterRegistry> meterRegistry) {
+            this.environment = environment;
+            this.meterRegistry = meterRegistry;
+        }
+
+        @Override
+        public Object postProcessBeforeInitialization(Object bean, String beanName) {
+            if (bean instanceof LocalContainerEntityManagerFactoryBean entityManagerFactory) {
+                entityManagerFactory.setDataSource(guard(entityManagerFactory.getDataSource()));
+            } else if (bean instanceof JdbcTemplate jdbcTemplate) {
+                jdbcTemplate.setDataSource(guard(jdbcTemplate.getDataSource()));
+            }
+            return bean;
+        }
+
+        private synchronized DataSource guard(DataSource dataSource) {
+            if (!(dataSource instanceof HikariDataSource hikari)) {
+                return dataSource;
+            }
+            if (bulkhead == null) {
+                Duration waitTimeout = environment.getProperty(
+                        "database.bulkhead.wait-timeout", Duration.class, Duration.ofSeconds(5));
+                int permits = hikari.getMaximumPoolSize();
+                log.info("Virtual threads enabled, limiting database concurrency to {} connections", permits);
+                bulkhead = new BulkheadDataSource(hikari, permits, waitTimeout, meterRegistry.getObject());
+            } else if (bulkhead.getTargetDataSource() != hikari) {
+                throw new IllegalStateException("Database bulkhead supports a single connection pool");
+            }
+            return bulkhead;
+        }
+    }
+}
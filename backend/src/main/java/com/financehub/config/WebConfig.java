@@ -0,0 +1,29 @@
+package com.financehub.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Registers the conditional GET interceptor on the endpoints whose responses only change with the
+ * user's data version. Import job progress changes on its own and is left out.
+ * 
+ * @author tekteku
+ * @version 1.0
+ * @since 2025-11-17
+ */
+@Configuration
+@RequiredArgsConstructor
+public class WebConfig implements WebMvcConfigurer {
+    
+    private final DataVersionEtagInterceptor etagInterceptor;
+    
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(etagInterceptor)
+                .addPathPatterns("/api/accounts/**", "/api/budgets/**", "/api/categories/**",
+                        "/api/transactions/**", "/api/analytics/**")
+                .excludePathPatterns("/api/transactions/import/**");
+    }
+}
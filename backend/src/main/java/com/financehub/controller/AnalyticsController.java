@@ -1,8 +1,9 @@
 package com.financehub.controller;
 
 import com.financehub.dto.*;
-import com.financehub.security.JwtTokenProvider;
+import com.financehub.security.UserPrincipal;
 import com.financehub.service.AnalyticsService;
+import com.financehub.service.CashFlowForecastService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -10,6 +11,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDate;
@@ -31,7 +33,7 @@ import java.util.List;
 public class AnalyticsController {
     
     private final AnalyticsService analyticsService;
-    private final JwtTokenProvider tokenProvider;
+    private final CashFlowForecastService forecastService;
     
     /**
      * Get financial summary for a date range
@@ -41,8 +43,8 @@ public class AnalyticsController {
     public ResponseEntity<ApiResponse<AnalyticsSummary>> getFinancialSummary(
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
-            @RequestHeader("Authorization") String token) {
-        Long userId = tokenProvider.getUserIdFromToken(token.replace("Bearer ", ""));
+            @AuthenticationPrincipal UserPrincipal principal) {
+        Long userId = principal.getId();
         AnalyticsSummary summary = analyticsService.getFinancialSummary(userId, startDate, endDate);
         
         return ResponseEntity.ok(ApiResponse.<AnalyticsSummary>builder()
@@ -60,8 +62,8 @@ public class AnalyticsController {
     public ResponseEntity<ApiResponse<List<CategoryExpense>>> getExpensesByCategory(
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
-            @RequestHeader("Authorization") String token) {
-        Long userId = tokenProvider.getUserIdFromToken(token.replace("Bearer ", ""));
+            @AuthenticationPrincipal UserPrincipal principal) {
+        Long userId = principal.getId();
         List<CategoryExpense> expenses = analyticsService.getExpensesByCategory(userId, startDate, endDate);
         
         return ResponseEntity.ok(ApiResponse.<List<CategoryExpense>>builder()
@@ -79,8 +81,8 @@ public class AnalyticsController {
     public ResponseEntity<ApiResponse<List<MonthlyTrend>>> getMonthlyTrends(
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
-            @RequestHeader("Authorization") String token) {
-        Long userId = tokenProvider.getUserIdFromToken(token.replace("Bearer ", ""));
+            @AuthenticationPrincipal UserPrincipal principal) {
+        Long userId = principal.getId();
         List<MonthlyTrend> trends = analyticsService.getMonthlyTrends(userId, startDate, endDate);
         
         return ResponseEntity.ok(ApiResponse.<List<MonthlyTrend>>builder()
@@ -90,6 +92,26 @@ public class AnalyticsController {
                 .build());
     }
     
+    /**
+     * Get income and expense time series
+     */
+    @GetMapping("/timeseries")
+    @Operation(summary = "Get time series", description = "Get income and expenses per DAY, WEEK, MONTH, QUARTER or YEAR")
+    public ResponseEntity<ApiResponse<TimeSeries>> getTimeSeries(
+            @RequestParam(defaultValue = "MONTH") TimeSeries.Bucket bucket,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @AuthenticationPrincipal UserPrincipal principal) {
+        Long userId = principal.getId();
+        TimeSeries series = analyticsService.getTimeSeries(userId, bucket, startDate, endDate);
+        
+        return ResponseEntity.ok(ApiResponse.<TimeSeries>builder()
+                .success(true)
+                .message("Time series retrieved successfully")
+                .data(series)
+                .build());
+    }
+    
     /**
      * Get cash flow analysis
      */
@@ -98,8 +120,8 @@ public class AnalyticsController {
     public ResponseEntity<ApiResponse<CashFlow>> getCashFlow(
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
-            @RequestHeader("Authorization") String token) {
-        Long userId = tokenProvider.getUserIdFromToken(token.replace("Bearer ", ""));
+            @AuthenticationPrincipal UserPrincipal principal) {
+        Long userId = principal.getId();
         CashFlow cashFlow = analyticsService.getCashFlow(userId, startDate, endDate);
         
         return ResponseEntity.ok(ApiResponse.<CashFlow>builder()
@@ -109,14 +131,53 @@ public class AnalyticsController {
                 .build());
     }
     
+    /**
+     * Get projected daily account balances from recurring transactions
+     */
+    @GetMapping("/forecast")
+    @Operation(summary = "Get cash flow forecast",
+               description = "Get projected daily balances per account from today to the end date, from recurring transactions")
+    public ResponseEntity<ApiResponse<CashFlowForecast>> getForecast(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @AuthenticationPrincipal UserPrincipal principal) {
+        Long userId = principal.getId();
+        CashFlowForecast forecast = forecastService.getForecast(userId, LocalDate.now(), endDate);
+        
+        return ResponseEntity.ok(ApiResponse.<CashFlowForecast>builder()
+                .success(true)
+                .message("Cash flow forecast retrieved successfully")
+                .data(forecast)
+                .build());
+    }
+    
+    /**
+     * Get summary, cash flow, category breakdown and monthly trends in one call
+     */
+    @GetMapping("/overview")
+    @Operation(summary = "Get analytics overview",
+               description = "Get summary, cash flow, expenses by category and monthly trends for a date range in one response")
+    public ResponseEntity<ApiResponse<AnalyticsOverview>> getOverview(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @AuthenticationPrincipal UserPrincipal principal) {
+        Long userId = principal.getId();
+        AnalyticsOverview overview = analyticsService.getOverview(userId, startDate, endDate);
+        
+        return ResponseEntity.ok(ApiResponse.<AnalyticsOverview>builder()
+                .success(true)
+                .message("Analytics overview retrieved successfully")
+                .data(overview)
+                .build());
+    }
+    
     /**
      * Get dashboard statistics (last 30 days)
      */
     @GetMapping("/dashboard")
     @Operation(summary = "Get dashboard stats", description = "Get quick statistics for dashboard (last 30 days)")
     public ResponseEntity<ApiResponse<AnalyticsSummary>> getDashboardStats(
-            @RequestHeader("Authorization") String token) {
-        Long userId = tokenProvider.getUserIdFromToken(token.replace("Bearer ", ""));
+            @AuthenticationPrincipal UserPrincipal principal) {
+        Long userId = principal.getId();
         AnalyticsSummary stats = analyticsService.getDashboardStats(userId);
         
         return ResponseEntity.ok(ApiResponse.<AnalyticsSummary>builder()
@@ -3,7 +3,7 @@ package com.financehub.controller;
 import com.financehub.dto.ApiResponse;
 import com.financehub.dto.BudgetRequest;
 import com.financehub.dto.BudgetResponse;
-import com.financehub.security.JwtTokenProvider;
+import com.financehub.security.UserPrincipal;
 import com.financehub.service.BudgetService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
@@ -13,6 +13,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -33,7 +34,6 @@ import java.util.List;
 public class BudgetController {
     
     private final BudgetService budgetService;
-    private final JwtTokenProvider tokenProvider;
     
     /**
      * Get all budgets for the authenticated user
@@ -41,8 +41,8 @@ public class BudgetController {
     @GetMapping
     @Operation(summary = "Get all budgets", description = "Retrieve all budgets for the authenticated user")
     public ResponseEntity<ApiResponse<List<BudgetResponse>>> getAllBudgets(
-            @RequestHeader("Authorization") String token) {
-        Long userId = tokenProvider.getUserIdFromToken(token.replace("Bearer ", ""));
+            @AuthenticationPrincipal UserPrincipal principal) {
+        Long userId = principal.getId();
         List<BudgetResponse> budgets = budgetService.getAllBudgets(userId);
         
         return ResponseEntity.ok(ApiResponse.<List<BudgetResponse>>builder()
@@ -58,8 +58,8 @@ public class BudgetController {
     @GetMapping("/active")
     @Operation(summary = "Get active budgets", description = "Retrieve only active budgets")
     public ResponseEntity<ApiResponse<List<BudgetResponse>>> getActiveBudgets(
-            @RequestHeader("Authorization") String token) {
-        Long userId = tokenProvider.getUserIdFromToken(token.replace("Bearer ", ""));
+            @AuthenticationPrincipal UserPrincipal principal) {
+        Long userId = principal.getId();
         List<BudgetResponse> budgets = budgetService.getActiveBudgets(userId);
         
         return ResponseEntity.ok(ApiResponse.<List<BudgetResponse>>builder()
@@ -76,8 +76,8 @@ public class BudgetController {
     @Operation(summary = "Get budget by ID", description = "Retrieve a specific budget by its ID")
     public ResponseEntity<ApiResponse<BudgetResponse>> getBudgetById(
             @PathVariable Long id,
-            @RequestHeader("Authorization") String token) {
-        Long userId = tokenProvider.getUserIdFromToken(token.replace("Bearer ", ""));
+            @AuthenticationPrincipal UserPrincipal principal) {
+        Long userId = principal.getId();
         BudgetResponse budget = budgetService.getBudgetById(id, userId);
         
         return ResponseEntity.ok(ApiResponse.<BudgetResponse>builder()
@@ -94,8 +94,8 @@ public class BudgetController {
     @Operation(summary = "Create budget", description = "Create a new budget for expense tracking")
     public ResponseEntity<ApiResponse<BudgetResponse>> createBudget(
             @Valid @RequestBody BudgetRequest request,
-            @RequestHeader("Authorization") String token) {
-        Long userId = tokenProvider.getUserIdFromToken(token.replace("Bearer ", ""));
+            @AuthenticationPrincipal UserPrincipal principal) {
+        Long userId = principal.getId();
         BudgetResponse budget = budgetService.createBudget(request, userId);
         
         return ResponseEntity.status(HttpStatus.CREATED)
@@ -114,8 +114,8 @@ public class BudgetController {
     public ResponseEntity<ApiResponse<BudgetResponse>> updateBudget(
             @PathVariable Long id,
             @Valid @RequestBody BudgetRequest request,
-            @RequestHeader("Authorization") String token) {
-        Long userId = tokenProvider.getUserIdFromToken(token.replace("Bearer ", ""));
+            @AuthenticationPrincipal UserPrincipal principal) {
+        Long userId = principal.getId();
         BudgetResponse budget = budgetService.updateBudget(id, request, userId);
         
         return ResponseEntity.ok(ApiResponse.<BudgetResponse>builder()
@@ -132,8 +132,8 @@ public class BudgetController {
     @Operation(summary = "Delete budget", description = "Delete a budget")
     public ResponseEntity<ApiResponse<Void>> deleteBudget(
             @PathVariable Long id,
-            @RequestHeader("Authorization") String token) {
-        Long userId = tokenProvider.getUserIdFromToken(token.replace("Bearer ", ""));
+            @AuthenticationPrincipal UserPrincipal principal) {
+        Long userId = principal.getId();
         budgetService.deleteBudget(id, userId);
         
         return ResponseEntity.ok(ApiResponse.<Void>builder()
@@ -148,8 +148,8 @@ public class BudgetController {
     @GetMapping("/alerts")
     @Operation(summary = "Get budget alerts", description = "Retrieve budgets that have exceeded their alert threshold")
     public ResponseEntity<ApiResponse<List<BudgetResponse>>> getBudgetAlerts(
-            @RequestHeader("Authorization") String token) {
-        Long userId = tokenProvider.getUserIdFromToken(token.replace("Bearer ", ""));
+            @AuthenticationPrincipal UserPrincipal principal) {
+        Long userId = principal.getId();
         List<BudgetResponse> budgets = budgetService.getBudgetsExceedingThreshold(userId);
         
         return ResponseEntity.ok(ApiResponse.<List<BudgetResponse>>builder()
@@ -1,12 +1,11 @@
 package com.financehub.controller;
 
 import com.financehub.dto.InvestmentDTO;
-import com.financehub.entity.User;
 import com.financehub.service.InvestmentService;
-import com.financehub.service.UserService;
+import com.financehub.security.UserPrincipal;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.math.BigDecimal;
@@ -19,27 +18,23 @@ import java.util.Map;
 public class InvestmentController {
 
     private final InvestmentService investmentService;
-    private final UserService userService;
 
     @PostMapping
-    public ResponseEntity<InvestmentDTO> invest(@RequestBody Map<String, Object> payload, Authentication authentication) {
-        User user = userService.getUserByUsername(authentication.getName());
+    public ResponseEntity<InvestmentDTO> invest(@RequestBody Map<String, Object> payload, @AuthenticationPrincipal UserPrincipal principal) {
         Long projectId = Long.valueOf(payload.get("projectId").toString());
         BigDecimal amount = new BigDecimal(payload.get("amount").toString());
         Long accountId = Long.valueOf(payload.get("accountId").toString());
         
-        return ResponseEntity.ok(investmentService.invest(projectId, amount, user.getId(), accountId));
+        return ResponseEntity.ok(investmentService.invest(projectId, amount, principal.getId(), accountId));
     }
 
     @GetMapping("/my-investments")
-    public ResponseEntity<List<InvestmentDTO>> getMyInvestments(Authentication authentication) {
-        User user = userService.getUserByUsername(authentication.getName());
-        return ResponseEntity.ok(investmentService.getMyInvestments(user.getId()));
+    public ResponseEntity<List<InvestmentDTO>> getMyInvestments(@AuthenticationPrincipal UserPrincipal principal) {
+        return ResponseEntity.ok(investmentService.getMyInvestments(principal.getId()));
     }
 
     @GetMapping("/total-invested")
-    public ResponseEntity<BigDecimal> getTotalInvested(Authentication authentication) {
-        User user = userService.getUserByUsername(authentication.getName());
-        return ResponseEntity.ok(investmentService.getTotalInvestedAmount(user.getId()));
+    public ResponseEntity<BigDecimal> getTotalInvested(@AuthenticationPrincipal UserPrincipal principal) {
+        return ResponseEntity.ok(investmentService.getTotalInvestedAmount(principal.getId()));
     }
 }
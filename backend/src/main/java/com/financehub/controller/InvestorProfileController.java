@@ -1,12 +1,11 @@
 package com.financehub.controller;
 
 import com.financehub.dto.InvestorProfileDTO;
-import com.financehub.entity.User;
 import com.financehub.service.InvestorProfileService;
-import com.financehub.service.UserService;
+import com.financehub.security.UserPrincipal;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 @RestController
@@ -15,12 +14,10 @@ import org.springframework.web.bind.annotation.*;
 public class InvestorProfileController {
 
     private final InvestorProfileService profileService;
-    private final UserService userService;
 
     @GetMapping("/me")
-    public ResponseEntity<InvestorProfileDTO> getMyProfile(Authentication authentication) {
-        User user = userService.getUserByUsername(authentication.getName());
-        return ResponseEntity.ok(profileService.getInvestorProfile(user.getId()));
+    public ResponseEntity<InvestorProfileDTO> getMyProfile(@AuthenticationPrincipal UserPrincipal principal) {
+        return ResponseEntity.ok(profileService.getInvestorProfile(principal.getId()));
     }
 
     @GetMapping("/{userId}")
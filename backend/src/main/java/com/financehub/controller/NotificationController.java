@@ -1,12 +1,11 @@
 package com.financehub.controller;
 
 import com.financehub.dto.NotificationDTO;
-import com.financehub.entity.User;
 import com.financehub.service.NotificationService;
-import com.financehub.service.UserService;
+import com.financehub.security.UserPrincipal;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -17,24 +16,20 @@ import java.util.List;
 public class NotificationController {
 
     private final NotificationService notificationService;
-    private final UserService userService;
 
     @GetMapping
-    public ResponseEntity<List<NotificationDTO>> getNotifications(Authentication authentication) {
-        User user = userService.getUserByUsername(authentication.getName());
-        return ResponseEntity.ok(notificationService.getUserNotifications(user.getId()));
+    public ResponseEntity<List<NotificationDTO>> getNotifications(@AuthenticationPrincipal UserPrincipal principal) {
+        return ResponseEntity.ok(notificationService.getUserNotifications(principal.getId()));
     }
 
     @GetMapping("/unread")
-    public ResponseEntity<List<NotificationDTO>> getUnreadNotifications(Authentication authentication) {
-        User user = userService.getUserByUsername(authentication.getName());
-        return ResponseEntity.ok(notificationService.getUnreadNotifications(user.getId()));
+    public ResponseEntity<List<NotificationDTO>> getUnreadNotifications(@AuthenticationPrincipal UserPrincipal principal) {
+        return ResponseEntity.ok(notificationService.getUnreadNotifications(principal.getId()));
     }
 
     @GetMapping("/unread-count")
-    public ResponseEntity<Long> getUnreadCount(Authentication authentication) {
-        User user = userService.getUserByUsername(authentication.getName());
-        return ResponseEntity.ok(notificationService.getUnreadCount(user.getId()));
+    public ResponseEntity<Long> getUnreadCount(@AuthenticationPrincipal UserPrincipal principal) {
+        return ResponseEntity.ok(notificationService.getUnreadCount(principal.getId()));
     }
 
     @PutMapping("/{id}/read")
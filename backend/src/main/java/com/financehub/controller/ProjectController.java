@@ -1,12 +1,11 @@
 package com.financehub.controller;
 
 import com.financehub.dto.ProjectDTO;
-import com.financehub.entity.User;
 import com.financehub.service.ProjectService;
-import com.financehub.service.UserService;
+import com.financehub.security.UserPrincipal;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -17,7 +16,6 @@ import java.util.List;
 public class ProjectController {
 
     private final ProjectService projectService;
-    private final UserService userService;
 
     @GetMapping
     public ResponseEntity<List<ProjectDTO>> getAllActiveProjects() {
@@ -35,15 +33,13 @@ public class ProjectController {
     }
 
     @GetMapping("/my-projects")
-    public ResponseEntity<List<ProjectDTO>> getMyProjects(Authentication authentication) {
-        User user = userService.getUserByUsername(authentication.getName());
-        return ResponseEntity.ok(projectService.getMyProjects(user.getId()));
+    public ResponseEntity<List<ProjectDTO>> getMyProjects(@AuthenticationPrincipal UserPrincipal principal) {
+        return ResponseEntity.ok(projectService.getMyProjects(principal.getId()));
     }
 
     @PostMapping
-    public ResponseEntity<ProjectDTO> createProject(@RequestBody ProjectDTO projectDTO, Authentication authentication) {
-        User user = userService.getUserByUsername(authentication.getName());
-        return ResponseEntity.ok(projectService.createProject(projectDTO, user.getId()));
+    public ResponseEntity<ProjectDTO> createProject(@RequestBody ProjectDTO projectDTO, @AuthenticationPrincipal UserPrincipal principal) {
+        return ResponseEntity.ok(projectService.createProject(projectDTO, principal.getId()));
     }
 
     @GetMapping("/{id}")
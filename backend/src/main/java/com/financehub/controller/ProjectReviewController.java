@@ -1,12 +1,11 @@
 package com.financehub.controller;
 
 import com.financehub.dto.ProjectReviewDTO;
-import com.financehub.entity.User;
 import com.financehub.service.ProjectReviewService;
-import com.financehub.service.UserService;
+import com.financehub.security.UserPrincipal;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -17,15 +16,13 @@ import java.util.List;
 public class ProjectReviewController {
 
     private final ProjectReviewService reviewService;
-    private final UserService userService;
 
     @PostMapping("/projects/{projectId}")
     public ResponseEntity<ProjectReviewDTO> createReview(
             @PathVariable Long projectId,
             @RequestBody ProjectReviewDTO reviewDTO,
-            Authentication authentication) {
-        User user = userService.getUserByUsername(authentication.getName());
-        return ResponseEntity.ok(reviewService.createReview(projectId, user.getId(), reviewDTO));
+            @AuthenticationPrincipal UserPrincipal principal) {
+        return ResponseEntity.ok(reviewService.createReview(projectId, principal.getId(), reviewDTO));
     }
 
     @GetMapping("/projects/{projectId}")
@@ -1,9 +1,16 @@
 package com.financehub.controller;
 
 import com.financehub.dto.ApiResponse;
+import com.financehub.dto.CursorPage;
+import com.financehub.dto.ImportJobStatus;
 import com.financehub.dto.TransactionRequest;
 import com.financehub.dto.TransactionResponse;
 import com.financehub.entity.Transaction;
+import com.financehub.security.UserPrincipal;
+import com.financehub.service.TransactionExportService;
+import com.financehub.service.TransactionExportService.ExportFormat;
+import com.financehub.service.TransactionImportService;
+import com.financehub.service.TransactionImportService.ImportFormat;
 import com.financehub.service.TransactionService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -16,14 +23,21 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.OutputStream;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * REST controller for transaction management.
@@ -41,6 +55,8 @@ import java.util.List;
 public class TransactionController {
     
     private final TransactionService transactionService;
+    private final TransactionExportService transactionExportService;
+    private final TransactionImportService transactionImportService;
     
     @Operation(summary = "Get all transactions", description = "Retrieve all transactions with pagination")
     @GetMapping
@@ -72,6 +88,38 @@ public class TransactionController {
         return ResponseEntity.ok(transactions);
     }
     
+    @Operation(summary = "Get transactions (cursor)",
+            description = "Retrieve transactions newest first using keyset pagination, pass nextCursor to continue")
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorPage<TransactionResponse>> getTransactionsPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        log.debug("GET /api/transactions/cursor - Get transactions after cursor");
+        return ResponseEntity.ok(transactionService.getTransactionsPage(cursor, size));
+    }
+    
+    @Operation(summary = "Get transactions by type (cursor)",
+            description = "Retrieve transactions of a type using keyset pagination")
+    @GetMapping("/type/{type}/cursor")
+    public ResponseEntity<CursorPage<TransactionResponse>> getTransactionsPageByType(
+            @PathVariable Transaction.TransactionType type,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        log.debug("GET /api/transactions/type/{}/cursor - Get transactions by type after cursor", type);
+        return ResponseEntity.ok(transactionService.getTransactionsPageByType(type, cursor, size));
+    }
+    
+    @Operation(summary = "Get transactions by account (cursor)",
+            description = "Retrieve transactions of an account using keyset pagination")
+    @GetMapping("/account/{accountId}/cursor")
+    public ResponseEntity<CursorPage<TransactionResponse>> getTransactionsPageByAccount(
+            @PathVariable Long accountId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        log.debug("GET /api/transactions/account/{}/cursor - Get transactions by account after cursor", accountId);
+        return ResponseEntity.ok(transactionService.getTransactionsPageByAccount(accountId, cursor, size));
+    }
+    
     @Operation(summary = "Get recent transactions", description = "Retrieve the 10 most recent transactions")
     @GetMapping("/recent")
     public ResponseEntity<ApiResponse<List<TransactionResponse>>> getRecentTransactions() {
@@ -126,6 +174,63 @@ public class TransactionController {
         return ResponseEntity.ok(ApiResponse.success(transactions));
     }
     
+    @Operation(summary = "Export transactions",
+            description = "Stream transactions within a date range as CSV or NDJSON, gzip-compressed when accepted")
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportTransactions(
+            @AuthenticationPrincipal UserPrincipal principal,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(defaultValue = "CSV") ExportFormat format,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        log.debug("GET /api/transactions/export - Export {} from {} to {}", format, startDate, endDate);
+        transactionExportService.validateRange(startDate, endDate);
+        
+        Long userId = principal.getId();
+        boolean gzip = acceptEncoding != null && acceptEncoding.toLowerCase().contains("gzip");
+        StreamingResponseBody body = out -> {
+            OutputStream target = gzip ? new GZIPOutputStream(out, 8192) : out;
+            transactionExportService.export(userId, startDate, endDate, format, target);
+            if (target instanceof GZIPOutputStream gzipStream) {
+                gzipStream.finish();
+            }
+        };
+        
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_TYPE, format.getContentType() + ";charset=UTF-8")
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"transactions-"
+                        + startDate + "-" + endDate + "." + format.getExtension() + "\"")
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+    
+    @Operation(summary = "Import transactions",
+            description = "Upload a CSV or OFX file for bulk import, poll the returned job for progress and row errors")
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ApiResponse<ImportJobStatus>> importTransactions(
+            @AuthenticationPrincipal UserPrincipal principal,
+            @RequestParam("file") MultipartFile file,
+            @RequestParam(required = false) Long accountId,
+            @RequestParam(required = false) ImportFormat format) {
+        log.debug("POST /api/transactions/import - Import '{}'", file.getOriginalFilename());
+        ImportJobStatus job = transactionImportService.startImport(
+                principal.getId(), principal.getUsername(), accountId, format, file);
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.success("Import started", job));
+    }
+    
+    @Operation(summary = "Get import progress", description = "Retrieve progress and row errors of an import job")
+    @GetMapping("/import/{jobId}")
+    public ResponseEntity<ApiResponse<ImportJobStatus>> getImportStatus(
+            @AuthenticationPrincipal UserPrincipal principal,
+            @PathVariable String jobId) {
+        log.debug("GET /api/transactions/import/{} - Get import progress", jobId);
+        return ResponseEntity.ok(ApiResponse.success(transactionImportService.getStatus(principal.getId(), jobId)));
+    }
+    
     @Operation(summary = "Get total income", description = "Get total income for a period")
     @GetMapping("/income/total")
     public ResponseEntity<ApiResponse<BigDecimal>> getTotalIncome(
@@ -0,0 +1,26 @@
+package com.financehub.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO combining the dashboard analytics for one date range in a single payload.
+ * 
+ * @author tekteku
+ * @version 1.0
+ * @since 2025-11-16
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AnalyticsOverview {
+    private AnalyticsSummary summary;
+    private CashFlow cashFlow;
+    private List<CategoryExpense> expensesByCategory;
+    private List<MonthlyTrend> monthlyTrends;
+}
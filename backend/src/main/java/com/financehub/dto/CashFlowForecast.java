@@ -0,0 +1,46 @@
+package com.financehub.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * DTO for the projected daily balances of a user's accounts from their recurring transactions.
+ * Element i of every account's balances is the projected end-of-day balance on dates[i], in the account's currency.
+ *
+ * @author tekteku
+ * @version 1.0
+ * @since 2025-11-17
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CashFlowForecast {
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private List<LocalDate> dates;
+    private List<AccountProjection> accounts;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class AccountProjection {
+        private Long accountId;
+        private String accountName;
+        private String currency;
+        private BigDecimal openingBalance;
+        private BigDecimal projectedInflows;
+        private BigDecimal projectedOutflows;
+        private BigDecimal closingBalance;
+        private BigDecimal lowestBalance;
+        private LocalDate lowestBalanceDate;
+        private List<BigDecimal> balances;
+    }
+}
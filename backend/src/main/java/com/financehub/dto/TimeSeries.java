@@ -0,0 +1,91 @@
+package com.financehub.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.IsoFields;
+import java.util.List;
+
+/**
+ * DTO for income and expenses over consecutive time buckets, as parallel arrays.
+ * Element i of income, expenses and net belongs to the bucket starting at periods[i]. Every bucket between
+ * the start and end date is present, including buckets without any transaction.
+ *
+ * @author tekteku
+ * @version 1.0
+ * @since 2025-11-17
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TimeSeries {
+    private Bucket bucket;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private String currency;
+    private List<LocalDate> periods;
+    private List<BigDecimal> income;
+    private List<BigDecimal> expenses;
+    private List<BigDecimal> net;
+
+    /**
+     * Bucket size. Weeks are ISO weeks starting on Monday; quarters start in January, April, July and October.
+     */
+    public enum Bucket {
+        DAY, WEEK, MONTH, QUARTER, YEAR;
+
+        /**
+         * First day of the bucket containing the date.
+         */
+        public LocalDate truncate(LocalDate date) {
+            return switch (this) {
+                case DAY -> date;
+                case WEEK -> date.with(DayOfWeek.MONDAY);
+                case MONTH -> date.withDayOfMonth(1);
+                case QUARTER -> date.with(IsoFields.DAY_OF_QUARTER, 1);
+                case YEAR -> date.withDayOfYear(1);
+            };
+        }
+
+        /**
+         * First day of the i-th bucket after the one starting at first.
+         */
+        public LocalDate plus(LocalDate first, long i) {
+            return switch (this) {
+                case DAY -> first.plusDays(i);
+                case WEEK -> first.plusWeeks(i);
+                case MONTH -> first.plusMonths(i);
+                case QUARTER -> first.plusMonths(3 * i);
+                case YEAR -> first.plusYears(i);
+            };
+        }
+
+        /**
+         * Position of the bucket containing the date, counted from the bucket starting at first.
+         */
+        public long index(LocalDate first, LocalDate date) {
+            LocalDate start = truncate(date);
+            return switch (this) {
+                case DAY -> ChronoUnit.DAYS.between(first, start);
+                case WEEK -> ChronoUnit.WEEKS.between(first, start);
+                case MONTH -> ChronoUnit.MONTHS.between(first, start);
+                case QUARTER -> ChronoUnit.MONTHS.between(first, start) / 3;
+                case YEAR -> ChronoUnit.YEARS.between(first, start);
+            };
+        }
+
+        /**
+         * Number of buckets touched by [startDate, endDate].
+         */
+        public long count(LocalDate startDate, LocalDate endDate) {
+            return index(truncate(startDate), endDate) + 1;
+        }
+    }
+}
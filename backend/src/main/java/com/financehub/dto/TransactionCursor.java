@@ -0,0 +1,47 @@
+package com.financehub.dto;
+
+import com.financehub.exception.BadRequestException;
+import lombok.Value;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+
+/**
+ * Seek position in a transaction listing ordered by (transactionDate DESC, id DESC).
+ * Encoded as an opaque URL-safe token so clients cannot depend on its layout.
+ */
+@Value
+public class TransactionCursor {
+    
+    /**
+     * Position before every stored transaction, used for the first page.
+     */
+    public static final TransactionCursor START = new TransactionCursor(LocalDate.of(9999, 12, 31), Long.MAX_VALUE);
+    
+    LocalDate transactionDate;
+    Long id;
+    
+    public String encode() {
+        String raw = transactionDate + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    /**
+     * Decode a client supplied cursor, a blank cursor means the first page.
+     */
+    public static TransactionCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return START;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(':');
+            return new TransactionCursor(
+                    LocalDate.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new BadRequestException("Invalid cursor");
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.financehub.dto;
+
+import com.financehub.entity.Transaction.TransactionType;
+import lombok.AllArgsConstructor;
+import lombok.Value;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Flat, read-only view of a transaction used by the export endpoint.
+ * Selected with a JPQL constructor expression so rows never enter the persistence context.
+ */
+@Value
+@AllArgsConstructor
+public class TransactionExportRow {
+    Long id;
+    LocalDate transactionDate;
+    TransactionType type;
+    BigDecimal amount;
+    String description;
+    String payee;
+    String notes;
+    Long accountId;
+    String accountName;
+    String categoryName;
+}
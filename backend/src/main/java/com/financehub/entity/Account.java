@@ -2,6 +2,8 @@ package com.financehub.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.Formula;
 
 import java.math.BigDecimal;
 import java.util.HashSet;
@@ -19,6 +21,7 @@ import java.util.Set;
     @Index(name = "idx_user_account", columnList = "user_id"),
     @Index(name = "idx_account_type", columnList = "type")
 })
+@DynamicUpdate
 @Data
 @EqualsAndHashCode(callSuper = true)
 @NoArgsConstructor
@@ -27,7 +30,8 @@ import java.util.Set;
 public class Account extends AuditableEntity {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "accounts_seq")
+    @SequenceGenerator(name = "accounts_seq", sequenceName = "accounts_seq", allocationSize = 50)
     private Long id;
     
     @Column(nullable = false, length = 100)
@@ -37,9 +41,14 @@ public class Account extends AuditableEntity {
     @Column(nullable = false, length = 20)
     private AccountType type;
     
+    /** Compacted checkpoint; outstanding changes live in the balance journal. */
     @Column(nullable = false, precision = 15, scale = 2)
     private BigDecimal balance = BigDecimal.ZERO;
     
+    /** Checkpoint plus outstanding journal deltas, evaluated in the same select as the account. */
+    @Formula("balance + coalesce((select sum(j.delta) from balance_journal j where j.account_id = id), 0)")
+    private BigDecimal currentBalance;
+    
     @Column(length = 3)
     private String currency = "USD";
     
@@ -62,6 +71,14 @@ public class Account extends AuditableEntity {
     @OneToMany(mappedBy = "account", cascade = CascadeType.ALL, orphanRemoval = true)
     private Set<Transaction> transactions = new HashSet<>();
     
+    /**
+     * The balance including outstanding journal deltas; falls back to the checkpoint for
+     * accounts that have not been loaded from the database.
+     */
+    public BigDecimal getCurrentBalance() {
+        return currentBalance != null ? currentBalance : balance;
+    }
+    
     public enum AccountType {
         CHECKING,
         SAVINGS,
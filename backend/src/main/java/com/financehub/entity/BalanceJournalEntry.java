@@ -0,0 +1,49 @@
+package com.financehub.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Append-only balance delta of an account.
+ * The balance of an account is its compacted checkpoint ({@link Account#getBalance()}) plus the sum
+ * of its outstanding entries; the compactor folds entries into the checkpoint and deletes them.
+ * Entries are never updated, so they skip the auditing columns of the other entities.
+ *
+ * @author tekteku
+ * @version 1.0
+ * @since 2025-11-15
+ */
+@Entity
+@Table(name = "balance_journal", indexes = {
+    @Index(name = "idx_balance_journal_account", columnList = "account_id, id")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BalanceJournalEntry {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "balance_journal_seq")
+    @SequenceGenerator(name = "balance_journal_seq", sequenceName = "balance_journal_seq", allocationSize = 50)
+    private Long id;
+    
+    @Column(name = "account_id", nullable = false, updatable = false)
+    private Long accountId;
+    
+    /** Transaction that caused the change, null for manual adjustments. Not a foreign key, transactions can be deleted. */
+    @Column(name = "transaction_id", updatable = false)
+    private Long transactionId;
+    
+    @Column(nullable = false, updatable = false, precision = 15, scale = 2)
+    private BigDecimal delta;
+    
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
@@ -1,10 +1,12 @@
 package com.financehub.entity;
 
+import com.financehub.util.Money;
 import jakarta.persistence.*;
 import lombok.*;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 
 /**
  * Entity representing a budget for expense tracking and management.
@@ -17,8 +19,11 @@ import java.time.LocalDate;
 @Table(name = "budgets", indexes = {
     @Index(name = "idx_user_budget", columnList = "user_id"),
     @Index(name = "idx_budget_period", columnList = "start_date, end_date"),
-    @Index(name = "idx_category_budget", columnList = "category_id")
+    @Index(name = "idx_category_budget", columnList = "category_id"),
+    @Index(name = "idx_budget_user_active", columnList = "user_id, is_active"),
+    @Index(name = "idx_budget_alert_pending", columnList = "alert_pending_since")
 })
+@NamedEntityGraph(name = Budget.GRAPH_WITH_CATEGORY, attributeNodes = @NamedAttributeNode("category"))
 @Data
 @EqualsAndHashCode(callSuper = true)
 @NoArgsConstructor
@@ -26,8 +31,15 @@ import java.time.LocalDate;
 @Builder
 public class Budget extends AuditableEntity {
     
+    /** Fetch plan for mapping to BudgetResponse: category joined into the same select. */
+    public static final String GRAPH_WITH_CATEGORY = "Budget.withCategory";
+    
+    /** Alert threshold of budgets created or updated without one, in percent. */
+    public static final BigDecimal DEFAULT_ALERT_THRESHOLD = BigDecimal.valueOf(80);
+    
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "budgets_seq")
+    @SequenceGenerator(name = "budgets_seq", sequenceName = "budgets_seq", allocationSize = 50)
     private Long id;
     
     @Column(nullable = false, length = 100)
@@ -36,6 +48,7 @@ public class Budget extends AuditableEntity {
     @Column(nullable = false, precision = 15, scale = 2)
     private BigDecimal amount;
     
+    /** Expenses within the date window and category, kept current by transaction writes. */
     @Column(nullable = false, precision = 15, scale = 2)
     private BigDecimal spent = BigDecimal.ZERO;
     
@@ -57,8 +70,9 @@ public class Budget extends AuditableEntity {
     @JoinColumn(name = "category_id")
     private Category category;
     
+    /** Alert threshold in percent of the amount; null (left by older updates) means the default. */
     @Column(name = "alert_threshold", precision = 5, scale = 2)
-    private BigDecimal alertThreshold = BigDecimal.valueOf(80);
+    private BigDecimal alertThreshold = DEFAULT_ALERT_THRESHOLD;
     
     @Column(name = "is_active", nullable = false)
     private Boolean isActive = true;
@@ -66,6 +80,22 @@ public class Budget extends AuditableEntity {
     @Column(length = 500)
     private String description;
     
+    /** Whether the alert for the current crossing of the threshold was sent; cleared once spent drops below it. */
+    @Column(name = "alert_notified")
+    private Boolean alertNotified;
+    
+    /** When spent, amount or threshold changed without the alert state being re-evaluated yet, otherwise null. */
+    @Column(name = "alert_pending_since")
+    private LocalDateTime alertPendingSince;
+    
+    /**
+     * The alert threshold, or the default one when none is set.
+     */
+    @Transient
+    public BigDecimal getEffectiveAlertThreshold() {
+        return alertThreshold != null ? alertThreshold : DEFAULT_ALERT_THRESHOLD;
+    }
+    
     public enum BudgetPeriod {
         WEEKLY,
         MONTHLY,
@@ -79,11 +109,7 @@ public class Budget extends AuditableEntity {
      */
     @Transient
     public BigDecimal getSpentPercentage() {
-        if (amount.compareTo(BigDecimal.ZERO) == 0) {
-            return BigDecimal.ZERO;
-        }
-        return spent.divide(amount, 2, BigDecimal.ROUND_HALF_UP)
-                .multiply(BigDecimal.valueOf(100));
+        return BigDecimal.valueOf(spentPercentHundredths(), 2);
     }
     
     /**
@@ -91,6 +117,17 @@ public class Budget extends AuditableEntity {
      */
     @Transient
     public Boolean isAlertTriggered() {
-        return getSpentPercentage().compareTo(alertThreshold) >= 0;
+        return spentPercentHundredths() >= Money.toMinorUnits(getEffectiveAlertThreshold());
+    }
+    
+    /**
+     * Spent percentage in hundredths of a percent, computed on minor units instead of BigDecimal division.
+     */
+    private long spentPercentHundredths() {
+        Money total = Money.of(amount);
+        if (total.isZero()) {
+            return 0;
+        }
+        return Money.of(spent).percentOf(total, 2);
     }
 }
@@ -0,0 +1,32 @@
+package com.financehub.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Backend replica taking part in job coordination. A node is live while its heartbeat is recent; the live
+ * nodes split the shards of sharded jobs between them.
+ * Rows are written with plain SQL (see {@code JobLeaseRepository}); the entity exists for the schema.
+ *
+ * @author tekteku
+ * @version 1.0
+ * @since 2025-11-17
+ */
+@Entity
+@Table(name = "cluster_nodes")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ClusterNode {
+
+    @Id
+    @Column(name = "node_id", length = 100)
+    private String nodeId;
+
+    @Column(name = "heartbeat_at", nullable = false)
+    private LocalDateTime heartbeatAt;
+}
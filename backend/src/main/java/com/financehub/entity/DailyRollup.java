@@ -0,0 +1,67 @@
+package com.financehub.entity;
+
+import com.financehub.entity.Transaction.TransactionType;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Per-day transaction totals of a user, by category and type.
+ * Maintained from every transaction write path and read by analytics, so report cost grows with the
+ * number of days in the range rather than the number of transactions.
+ * Rows are written with plain SQL upserts (see {@code DailyRollupBatchRepository}); the entity exists
+ * for the schema and for reads.
+ *
+ * @author tekteku
+ * @version 1.0
+ * @since 2025-11-16
+ */
+@Entity
+@Table(name = "daily_rollups")
+@IdClass(DailyRollup.Key.class)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DailyRollup {
+    
+    /** Category key of uncategorized transactions; the key columns cannot be null. */
+    public static final long NO_CATEGORY = 0L;
+    
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+    
+    @Id
+    @Column(name = "rollup_day")
+    private LocalDate day;
+    
+    @Id
+    @Column(name = "category_id")
+    private Long categoryId;
+    
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private TransactionType type;
+    
+    @Column(nullable = false, precision = 17, scale = 2)
+    private BigDecimal total;
+    
+    @Column(name = "tx_count", nullable = false)
+    private Long txCount;
+    
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private Long userId;
+        private LocalDate day;
+        private Long categoryId;
+        private TransactionType type;
+    }
+}
@@ -0,0 +1,32 @@
+package com.financehub.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Marker of a completed backfill of the daily rollup table, one row per rollup version.
+ * A database without the row of the current version gets its rollups rebuilt from the transactions on startup.
+ * Rows are written with plain SQL (see {@code DailyRollupBatchRepository}); the entity exists for the schema.
+ *
+ * @author tekteku
+ * @version 1.0
+ * @since 2025-11-16
+ */
+@Entity
+@Table(name = "daily_rollup_backfills")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DailyRollupBackfill {
+    
+    @Id
+    @Column(name = "rollup_version")
+    private Integer version;
+    
+    @Column(name = "completed_at", nullable = false)
+    private LocalDateTime completedAt;
+}
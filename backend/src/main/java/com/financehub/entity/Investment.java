@@ -18,7 +18,8 @@ import java.time.LocalDateTime;
 public class Investment extends AuditableEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "investments_seq")
+    @SequenceGenerator(name = "investments_seq", sequenceName = "investments_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -0,0 +1,42 @@
+package com.financehub.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Time-limited ownership of a background job, or of one shard of a sharded job, by a cluster node.
+ * A lease is held while its owner keeps renewing it; once it expires any node may take it over.
+ * Rows are written with compare-and-set SQL (see {@code JobLeaseRepository}); the entity exists for the schema.
+ *
+ * @author tekteku
+ * @version 1.0
+ * @since 2025-11-17
+ */
+@Entity
+@Table(name = "job_leases", indexes = {
+    @Index(name = "idx_job_lease_owner", columnList = "owner")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobLease {
+
+    /** Job name, suffixed with {@code #<shard>} for the shards of a sharded job. */
+    @Id
+    @Column(length = 100)
+    private String name;
+
+    /** Node id of the current or last holder. */
+    @Column(nullable = false, length = 100)
+    private String owner;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Column(name = "acquired_at", nullable = false)
+    private LocalDateTime acquiredAt;
+}
@@ -17,7 +17,8 @@ import java.time.LocalDateTime;
 public class Notification extends AuditableEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "notifications_seq")
+    @SequenceGenerator(name = "notifications_seq", sequenceName = "notifications_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -45,6 +46,7 @@ public class Notification extends AuditableEntity {
         PROJECT_UPDATE,
         REVIEW,
         MILESTONE,
-        SYSTEM
+        SYSTEM,
+        BUDGET
     }
 }
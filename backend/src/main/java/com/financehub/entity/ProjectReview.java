@@ -15,7 +15,8 @@ import lombok.NoArgsConstructor;
 public class ProjectReview extends AuditableEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "project_reviews_seq")
+    @SequenceGenerator(name = "project_reviews_seq", sequenceName = "project_reviews_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
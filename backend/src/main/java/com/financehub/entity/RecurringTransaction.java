@@ -5,6 +5,8 @@ import lombok.*;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Iterator;
 
 /**
  * Entity representing a recurring transaction template.
@@ -26,7 +28,8 @@ import java.time.LocalDate;
 public class RecurringTransaction extends AuditableEntity {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "recurring_transactions_seq")
+    @SequenceGenerator(name = "recurring_transactions_seq", sequenceName = "recurring_transactions_seq", allocationSize = 50)
     private Long id;
     
     @Column(nullable = false, length = 100)
@@ -76,11 +79,71 @@ public class RecurringTransaction extends AuditableEntity {
     private String payee;
     
     public enum RecurrenceFrequency {
-        DAILY,
-        WEEKLY,
-        BIWEEKLY,
-        MONTHLY,
-        QUARTERLY,
-        YEARLY
+        DAILY(ChronoUnit.DAYS, 1),
+        WEEKLY(ChronoUnit.WEEKS, 1),
+        BIWEEKLY(ChronoUnit.WEEKS, 2),
+        MONTHLY(ChronoUnit.MONTHS, 1),
+        QUARTERLY(ChronoUnit.MONTHS, 3),
+        YEARLY(ChronoUnit.YEARS, 1);
+        
+        private final ChronoUnit unit;
+        private final int step;
+        
+        RecurrenceFrequency(ChronoUnit unit, int step) {
+            this.unit = unit;
+            this.step = step;
+        }
+        
+        /**
+         * The n-th occurrence of a schedule starting at startDate (n = 0 is the start date itself).
+         * Counted from the start date, so a schedule on the 31st falls on the last day of shorter months
+         * without drifting.
+         */
+        public LocalDate occurrence(LocalDate startDate, long n) {
+            return startDate.plus(n * step, unit);
+        }
+        
+        /**
+         * First occurrence of a schedule starting at startDate that is strictly after the given date.
+         */
+        public LocalDate occurrenceAfter(LocalDate startDate, LocalDate date) {
+            if (date.isBefore(startDate)) {
+                return startDate;
+            }
+            long n = unit.between(startDate, date) / step;
+            LocalDate next = occurrence(startDate, n);
+            while (!next.isAfter(date)) {
+                next = occurrence(startDate, ++n);
+            }
+            return next;
+        }
+        
+        /**
+         * Lazy, unbounded iterator over the occurrences of a schedule starting at startDate, from the first one
+         * on or after the given date. Each occurrence is computed from the start date when it is requested.
+         */
+        public Iterator<LocalDate> occurrencesFrom(LocalDate startDate, LocalDate from) {
+            long first = 0;
+            if (from.isAfter(startDate)) {
+                first = unit.between(startDate, from) / step;
+                while (occurrence(startDate, first).isBefore(from)) {
+                    first++;
+                }
+            }
+            long start = first;
+            return new Iterator<>() {
+                private long n = start;
+                
+                @Override
+                public boolean hasNext() {
+                    return true;
+                }
+                
+                @Override
+                public LocalDate next() {
+                    return occurrence(startDate, n++);
+                }
+            };
+        }
     }
 }
@@ -18,7 +18,13 @@ import java.time.LocalDate;
     @Index(name = "idx_account_transaction", columnList = "account_id"),
     @Index(name = "idx_transaction_date", columnList = "transaction_date"),
     @Index(name = "idx_transaction_type", columnList = "type"),
-    @Index(name = "idx_category_transaction", columnList = "category_id")
+    @Index(name = "idx_category_transaction", columnList = "category_id"),
+    @Index(name = "idx_transaction_account_date_id", columnList = "account_id, transaction_date DESC, id DESC"),
+    @Index(name = "idx_transaction_user_date_id", columnList = "user_id, transaction_date DESC, id DESC")
+})
+@NamedEntityGraph(name = Transaction.GRAPH_WITH_ACCOUNT_AND_CATEGORY, attributeNodes = {
+    @NamedAttributeNode("account"),
+    @NamedAttributeNode("category")
 })
 @Data
 @EqualsAndHashCode(callSuper = true)
@@ -27,8 +33,12 @@ import java.time.LocalDate;
 @Builder
 public class Transaction extends AuditableEntity {
     
+    /** Fetch plan for mapping to TransactionResponse: account and category joined into the same select. */
+    public static final String GRAPH_WITH_ACCOUNT_AND_CATEGORY = "Transaction.withAccountAndCategory";
+    
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "transactions_seq")
+    @SequenceGenerator(name = "transactions_seq", sequenceName = "transactions_seq", allocationSize = 50)
     private Long id;
     
     @Column(nullable = false, precision = 15, scale = 2)
@@ -51,6 +61,13 @@ public class Transaction extends AuditableEntity {
     @JoinColumn(name = "account_id", nullable = false)
     private Account account;
     
+    /**
+     * Owner of the account, copied onto the row so a user's listing is one range of
+     * idx_transaction_user_date_id instead of a join through accounts. Set on every insert and update.
+     */
+    @Column(name = "user_id")
+    private Long userId;
+    
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "category_id")
     private Category category;
@@ -65,9 +82,29 @@ public class Transaction extends AuditableEntity {
     @Column(name = "is_recurring", nullable = false)
     private Boolean isRecurring = false;
     
+    @PrePersist
+    @PreUpdate
+    void copyAccountOwner() {
+        if (account != null) {
+            userId = account.getUser().getId();
+        }
+    }
+    
     public enum TransactionType {
         INCOME,
         EXPENSE,
-        TRANSFER
+        TRANSFER;
+        
+        /**
+         * Signed change a transaction of this type applies to its account balance.
+         * Transfers do not move the balance yet.
+         */
+        public BigDecimal balanceEffect(BigDecimal amount) {
+            return switch (this) {
+                case INCOME -> amount;
+                case EXPENSE -> amount.negate();
+                case TRANSFER -> BigDecimal.ZERO;
+            };
+        }
     }
 }
@@ -0,0 +1,10 @@
+package com.financehub.exception;
+
+/**
+ * Exception thrown when a request is rejected because a bounded resource is saturated.
+ */
+public class ServiceUnavailableException extends RuntimeException {
+    public ServiceUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -22,7 +22,7 @@ public class EntityMapper {
                 .id(account.getId())
                 .name(account.getName())
                 .type(account.getType())
-                .balance(account.getBalance())
+                .balance(account.getCurrentBalance())
                 .currency(account.getCurrency())
                 .color(account.getColor())
                 .icon(account.getIcon())
@@ -49,7 +49,7 @@ public class EntityMapper {
     public void updateAccountFromRequest(Account account, AccountRequest request) {
         account.setName(request.getName());
         account.setType(request.getType());
-        account.setBalance(request.getBalance());
+        // Balance changes go through the ledger, see AccountService.updateAccount
         account.setCurrency(request.getCurrency());
         account.setColor(request.getColor());
         account.setIcon(request.getIcon());
@@ -146,7 +146,7 @@ public class EntityMapper {
                 .period(budget.getPeriod())
                 .categoryId(budget.getCategory() != null ? budget.getCategory().getId() : null)
                 .categoryName(budget.getCategory() != null ? budget.getCategory().getName() : null)
-                .alertThreshold(budget.getAlertThreshold())
+                .alertThreshold(budget.getEffectiveAlertThreshold())
                 .isAlertTriggered(budget.isAlertTriggered())
                 .isActive(budget.getIsActive())
                 .description(budget.getDescription())
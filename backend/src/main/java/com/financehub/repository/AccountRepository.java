@@ -2,12 +2,16 @@ package com.financehub.repository;
 
 import com.financehub.entity.Account;
 import com.financehub.entity.Account.AccountType;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -29,14 +33,44 @@ public interface AccountRepository extends JpaRepository<Account, Long> {
     
     Optional<Account> findByIdAndUserId(Long id, Long userId);
     
-    @Query("SELECT SUM(a.balance) FROM Account a WHERE a.user.id = :userId AND a.isActive = true")
+    @Query("SELECT SUM(a.currentBalance) FROM Account a WHERE a.user.id = :userId AND a.isActive = true")
     BigDecimal calculateTotalBalance(@Param("userId") Long userId);
     
-    @Query("SELECT SUM(a.balance) FROM Account a WHERE a.user.id = :userId AND a.type = :type AND a.isActive = true")
+    @Query("SELECT SUM(a.currentBalance) FROM Account a WHERE a.user.id = :userId AND a.type = :type AND a.isActive = true")
     BigDecimal calculateTotalBalanceByType(@Param("userId") Long userId, @Param("type") AccountType type);
     
+    /** Current balance over all accounts of the user, including inactive ones. */
+    @Query("SELECT COALESCE(SUM(a.currentBalance), 0) FROM Account a WHERE a.user.id = :userId")
+    BigDecimal sumCurrentBalanceByUserId(@Param("userId") Long userId);
+    
     @Query("SELECT COUNT(a) FROM Account a WHERE a.user.id = :userId AND a.isActive = true")
     Long countActiveAccountsByUser(@Param("userId") Long userId);
     
     boolean existsByIdAndUserId(Long id, Long userId);
+    
+    /**
+     * Lock the account row, used to serialize withdrawals that must not overdraw the account.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a FROM Account a WHERE a.id = :id AND a.user.id = :userId")
+    Optional<Account> findByIdAndUserIdForUpdate(@Param("id") Long id, @Param("userId") Long userId);
+    
+    /**
+     * Lock the account row, used to serialize compactions of the account's balance journal.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a FROM Account a WHERE a.id = :id")
+    Optional<Account> findByIdForUpdate(@Param("id") Long id);
+    
+    /*
+     * Moves the balance checkpoint as an in-database increment, used when the balance journal is compacted.
+     * Pending changes are flushed first; Account instances already loaded keep their old balance.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Account a SET a.balance = a.balance + :delta, a.updatedAt = :now WHERE a.id = :accountId")
+    int adjustBalance(
+            @Param("accountId") Long accountId,
+            @Param("delta") BigDecimal delta,
+            @Param("now") LocalDateTime now
+    );
 }
@@ -0,0 +1,42 @@
+package com.financehub.repository;
+
+import com.financehub.entity.BalanceJournalEntry;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository for the append-only account balance journal.
+ * 
+ * @author tekteku
+ * @version 1.0
+ * @since 2025-11-15
+ */
+@Repository
+public interface BalanceJournalRepository extends JpaRepository<BalanceJournalEntry, Long> {
+    
+    @Query("SELECT a.balance + COALESCE((SELECT SUM(j.delta) FROM BalanceJournalEntry j " +
+           "WHERE j.accountId = a.id), 0) FROM Account a WHERE a.id = :accountId")
+    BigDecimal currentBalance(@Param("accountId") Long accountId);
+    
+    @Query("SELECT DISTINCT j.accountId FROM BalanceJournalEntry j WHERE MOD(j.accountId, :shardCount) IN :shards")
+    List<Long> findAccountIdsWithEntries(@Param("shardCount") int shardCount,
+                                         @Param("shards") Collection<Integer> shards,
+                                         Pageable limit);
+    
+    @Query("SELECT j FROM BalanceJournalEntry j WHERE j.accountId = :accountId ORDER BY j.id")
+    List<BalanceJournalEntry> findOldestByAccountId(@Param("accountId") Long accountId, Pageable limit);
+    
+    long countByAccountId(Long accountId);
+    
+    @Modifying
+    @Query("DELETE FROM BalanceJournalEntry j WHERE j.id IN :ids")
+    int deleteByIds(@Param("ids") Collection<Long> ids);
+}
@@ -1,12 +1,20 @@
 package com.financehub.repository;
 
 import com.financehub.entity.Budget;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,10 +28,13 @@ import java.util.Optional;
 @Repository
 public interface BudgetRepository extends JpaRepository<Budget, Long> {
     
+    @EntityGraph(Budget.GRAPH_WITH_CATEGORY)
     List<Budget> findByUserId(Long userId);
     
+    @EntityGraph(Budget.GRAPH_WITH_CATEGORY)
     List<Budget> findByUserIdAndIsActive(Long userId, Boolean isActive);
     
+    @EntityGraph(Budget.GRAPH_WITH_CATEGORY)
     Optional<Budget> findByIdAndUserId(Long id, Long userId);
     
     @Query("SELECT b FROM Budget b WHERE b.user.id = :userId " +
@@ -40,9 +51,66 @@ public interface BudgetRepository extends JpaRepository<Budget, Long> {
             @Param("categoryId") Long categoryId
     );
     
-    @Query("SELECT b FROM Budget b WHERE b.user.id = :userId " +
-           "AND (b.spent / b.amount * 100) >= b.alertThreshold AND b.isActive = true")
+    /*
+     * Compares the maintained spent column without dividing, so zero amounts never match and no rounding
+     * is involved. A missing threshold counts as {@link Budget#DEFAULT_ALERT_THRESHOLD}.
+     */
+    @EntityGraph(Budget.GRAPH_WITH_CATEGORY)
+    @Query("SELECT b FROM Budget b WHERE b.user.id = :userId AND b.isActive = true " +
+           "AND b.amount > 0 AND b.spent * 100 >= COALESCE(b.alertThreshold, 80) * b.amount")
     List<Budget> findBudgetsExceedingThreshold(@Param("userId") Long userId);
     
+    /*
+     * Date window and category of every budget of the user overlapping [startDate, endDate], as
+     * (id, start date, end date, category id or null).
+     */
+    @Query("SELECT b.id, b.startDate, b.endDate, b.category.id FROM Budget b WHERE b.user.id = :userId " +
+           "AND b.startDate <= :endDate AND b.endDate >= :startDate")
+    List<Object[]> findWindowsOverlapping(
+            @Param("userId") Long userId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
+    );
+    
+    /*
+     * Moves the maintained spent amount as an in-database increment, so concurrent writers never lose an update,
+     * and queues the budget for alert evaluation. Pending changes are flushed first; Budget instances already
+     * loaded keep their old amount.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Budget b SET b.spent = b.spent + :delta, b.updatedAt = :now, " +
+           "b.alertPendingSince = COALESCE(b.alertPendingSince, :now) WHERE b.id = :budgetId")
+    int adjustSpent(
+            @Param("budgetId") Long budgetId,
+            @Param("delta") BigDecimal delta,
+            @Param("now") LocalDateTime now
+    );
+    
+    /*
+     * Expenses within each budget's date window as (budget id, total), read from the daily rollups in one
+     * grouped query. Budgets without a category count every expense; budgets without any matching
+     * rollup are left out.
+     */
+    @Query("SELECT b.id, SUM(r.total) FROM Budget b JOIN DailyRollup r " +
+           "ON r.userId = b.user.id AND r.type = 'EXPENSE' AND r.day BETWEEN b.startDate AND b.endDate " +
+           "AND (b.category.id IS NULL OR r.categoryId = b.category.id) " +
+           "WHERE b.user.id = :userId AND b.id IN :budgetIds " +
+           "GROUP BY b.id")
+    List<Object[]> sumSpentByBudget(
+            @Param("userId") Long userId,
+            @Param("budgetIds") Collection<Long> budgetIds
+    );
+    
+    /**
+     * Budgets of users in the given shards (user id modulo shardCount) queued for alert evaluation, oldest first,
+     * locked until the evaluating transaction ends.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM Budget b WHERE b.alertPendingSince IS NOT NULL " +
+           "AND MOD(b.user.id, :shardCount) IN :shards ORDER BY b.alertPendingSince, b.id")
+    List<Budget> findPendingAlerts(@Param("shardCount") int shardCount,
+                                   @Param("shards") Collection<Integer> shards,
+                                   Pageable limit);
+    
     boolean existsByIdAndUserId(Long id, Long userId);
 }
@@ -0,0 +1,174 @@
+package com.financehub.repository;
+
+import com.financehub.entity.Transaction.TransactionType;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.DatabaseMetaData;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Plain JDBC write path for the daily rollup table.
+ * Each delta is a single upsert that increments the row in place, so concurrent writers to the same
+ * day only contend on that one row and never lose an update. Deltas are applied in key order to keep
+ * lock acquisition consistent between transactions.
+ *
+ * @author tekteku
+ * @version 1.0
+ * @since 2025-11-16
+ */
+@Repository
+public class DailyRollupBatchRepository {
+    
+    /** Atomic upsert on PostgreSQL: a concurrent insert of the same key turns into the increment. */
+    private static final String POSTGRES_UPSERT_SQL =
+            "INSERT INTO daily_rollups (user_id, rollup_day, category_id, type, total, tx_count) " +
+            "VALUES (?, ?, ?, ?, ?, ?) " +
+            "ON CONFLICT (user_id, rollup_day, category_id, type) DO UPDATE SET " +
+            "total = daily_rollups.total + EXCLUDED.total, tx_count = daily_rollups.tx_count + EXCLUDED.tx_count";
+    
+    /**
+     * Standard SQL equivalent for other databases (H2 in tests). MERGE is not atomic against a
+     * concurrent insert of the same key, so it runs row by row and is retried on a duplicate key.
+     */
+    private static final String MERGE_UPSERT_SQL =
+            "MERGE INTO daily_rollups r USING (VALUES (CAST(? AS BIGINT), CAST(? AS DATE), CAST(? AS BIGINT), " +
+            "CAST(? AS VARCHAR(20)), CAST(? AS NUMERIC(17,2)), CAST(? AS BIGINT))) " +
+            "AS v (user_id, rollup_day, category_id, type, total, tx_count) " +
+            "ON r.user_id = v.user_id AND r.rollup_day = v.rollup_day AND r.category_id = v.category_id " +
+            "AND r.type = v.type " +
+            "WHEN MATCHED THEN UPDATE SET total = r.total + v.total, tx_count = r.tx_count + v.tx_count " +
+            "WHEN NOT MATCHED THEN INSERT (user_id, rollup_day, category_id, type, total, tx_count) " +
+            "VALUES (v.user_id, v.rollup_day, v.category_id, v.type, v.total, v.tx_count)";
+    
+    private static final int[] UPSERT_TYPES = {
+        Types.BIGINT, Types.DATE, Types.BIGINT, Types.VARCHAR, Types.NUMERIC, Types.BIGINT
+    };
+    
+    /**
+     * Writers hold a key share lock on their users while applying deltas and a rebuild holds the exclusive
+     * lock, so the two never interleave while writers don't block each other. H2 only has FOR UPDATE.
+     */
+    private static final String POSTGRES_LOCK_WRITER_SQL = "SELECT id FROM users WHERE id = ? FOR KEY SHARE";
+    
+    private static final String LOCK_REBUILD_SQL = "SELECT id FROM users WHERE id = ? FOR UPDATE";
+    
+    private static final String DELETE_USER_SQL = "DELETE FROM daily_rollups WHERE user_id = ?";
+    
+    private static final String REBUILD_USER_SQL =
+            "INSERT INTO daily_rollups (user_id, rollup_day, category_id, type, total, tx_count) " +
+            "SELECT a.user_id, t.transaction_date, COALESCE(t.category_id, 0), t.type, SUM(t.amount), COUNT(*) " +
+            "FROM transactions t JOIN accounts a ON a.id = t.account_id " +
+            "WHERE a.user_id = ? " +
+            "GROUP BY a.user_id, t.transaction_date, COALESCE(t.category_id, 0), t.type";
+    
+    private static final String BACKFILLED_SQL =
+            "SELECT COUNT(*) FROM daily_rollup_backfills WHERE rollup_version = ?";
+    
+    private static final String MARK_BACKFILLED_SQL =
+            "INSERT INTO daily_rollup_backfills (rollup_version, completed_at) VALUES (?, ?)";
+    
+    private static final Comparator<Delta> KEY_ORDER = Comparator.comparing(Delta::userId)
+            .thenComparing(Delta::day)
+            .thenComparing(Delta::categoryId)
+            .thenComparing(Delta::type);
+    
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean postgres;
+    
+    public DailyRollupBatchRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.postgres = isPostgres(jdbcTemplate);
+    }
+    
+    /**
+     * Add the deltas to their rollup rows, creating missing rows.
+     */
+    public void apply(List<Delta> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        List<Delta> ordered = new ArrayList<>(deltas);
+        ordered.sort(KEY_ORDER);
+        ordered.stream().map(Delta::userId).distinct().forEach(userId ->
+                jdbcTemplate.queryForList(postgres ? POSTGRES_LOCK_WRITER_SQL : LOCK_REBUILD_SQL, Long.class, userId));
+        
+        List<Object[]> args = new ArrayList<>(ordered.size());
+        for (Delta d : ordered) {
+            args.add(new Object[]{
+                d.userId(), Date.valueOf(d.day()), d.categoryId(), d.type().name(), d.amount(), d.count()
+            });
+        }
+        if (postgres) {
+            jdbcTemplate.batchUpdate(POSTGRES_UPSERT_SQL, args, UPSERT_TYPES);
+            return;
+        }
+        for (Object[] row : args) {
+            try {
+                jdbcTemplate.update(MERGE_UPSERT_SQL, row, UPSERT_TYPES);
+            } catch (DuplicateKeyException e) {
+                // Another transaction inserted the row first; the retry takes the update branch
+                jdbcTemplate.update(MERGE_UPSERT_SQL, row, UPSERT_TYPES);
+            }
+        }
+    }
+    
+    /**
+     * Recompute all rollup rows of a user from the transactions table, holding the user's lock against
+     * writers applying deltas.
+     *
+     * @return the number of rollup rows written
+     */
+    public int rebuildUser(Long userId) {
+        jdbcTemplate.queryForList(LOCK_REBUILD_SQL, Long.class, userId);
+        jdbcTemplate.update(DELETE_USER_SQL, userId);
+        return jdbcTemplate.update(REBUILD_USER_SQL, userId);
+    }
+    
+    /**
+     * Whether the rollups were backfilled for the given rollup version.
+     */
+    public boolean isBackfilled(int version) {
+        Integer count = jdbcTemplate.queryForObject(BACKFILLED_SQL, Integer.class, version);
+        return count != null && count > 0;
+    }
+    
+    /**
+     * Record the backfill of the given rollup version; recording it again is a no-op.
+     */
+    public void markBackfilled(int version, LocalDateTime now) {
+        try {
+            jdbcTemplate.update(MARK_BACKFILLED_SQL, version, Timestamp.valueOf(now));
+        } catch (DuplicateKeyException e) {
+            // Recorded by an earlier or forced rebuild
+        }
+    }
+    
+    private static boolean isPostgres(JdbcTemplate jdbcTemplate) {
+        try {
+            String product = JdbcUtils.extractDatabaseMetaData(
+                    jdbcTemplate.getDataSource(), DatabaseMetaData::getDatabaseProductName);
+            return "PostgreSQL".equals(product);
+        } catch (MetaDataAccessException e) {
+            throw new IllegalStateException("Cannot determine the database product", e);
+        }
+    }
+    
+    /**
+     * Change to one rollup row. {@code categoryId} is {@code DailyRollup.NO_CATEGORY} for uncategorized rows.
+     */
+    public record Delta(Long userId, LocalDate day, long categoryId, TransactionType type,
+                        BigDecimal amount, long count) {
+    }
+}
@@ -0,0 +1,86 @@
+package com.financehub.repository;
+
+import com.financehub.entity.DailyRollup;
+import com.financehub.entity.Transaction.TransactionType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Read queries over the daily rollup table. Same shapes as the corresponding
+ * TransactionRepository aggregates, at one row per day instead of one per transaction.
+ * 
+ * @author tekteku
+ * @version 1.0
+ * @since 2025-11-16
+ */
+@Repository
+public interface DailyRollupRepository extends JpaRepository<DailyRollup, DailyRollup.Key> {
+    
+    @Query("SELECT COALESCE(SUM(r.total), 0) FROM DailyRollup r WHERE r.userId = :userId " +
+           "AND r.type = :type AND r.day BETWEEN :startDate AND :endDate")
+    BigDecimal sumByUserIdTypeAndDateRange(
+            @Param("userId") Long userId,
+            @Param("type") TransactionType type,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
+    );
+    
+    @Query("SELECT c.name as categoryName, COALESCE(SUM(r.total), 0) as amount " +
+           "FROM DailyRollup r LEFT JOIN Category c ON c.id = r.categoryId " +
+           "WHERE r.userId = :userId AND r.type = 'EXPENSE' " +
+           "AND r.day BETWEEN :startDate AND :endDate " +
+           "GROUP BY c.name " +
+           "ORDER BY amount DESC")
+    List<Object[]> sumExpensesByCategory(
+            @Param("userId") Long userId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
+    );
+    
+    @Query("SELECT EXTRACT(YEAR FROM r.day) as yr, EXTRACT(MONTH FROM r.day) as mon, " +
+           "COALESCE(SUM(CASE WHEN r.type = 'INCOME' THEN r.total ELSE 0 END), 0) as income, " +
+           "COALESCE(SUM(CASE WHEN r.type = 'EXPENSE' THEN r.total ELSE 0 END), 0) as expenses " +
+           "FROM DailyRollup r " +
+           "WHERE r.userId = :userId AND r.day BETWEEN :startDate AND :endDate " +
+           "GROUP BY EXTRACT(YEAR FROM r.day), EXTRACT(MONTH FROM r.day) " +
+           "ORDER BY yr, mon")
+    List<Object[]> getMonthlyTrends(
+            @Param("userId") Long userId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
+    );
+    
+    /*
+     * Income and expense totals per (day, type), in day order. Grouping on the stored day keeps the read an
+     * index range scan; callers bucket the days into weeks, months, quarters or years.
+     */
+    @Query("SELECT r.day, r.type, SUM(r.total) FROM DailyRollup r " +
+           "WHERE r.userId = :userId AND r.day BETWEEN :startDate AND :endDate " +
+           "GROUP BY r.day, r.type " +
+           "ORDER BY r.day")
+    List<Object[]> sumByDayAndType(
+            @Param("userId") Long userId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
+    );
+    
+    /*
+     * Every period aggregate at once: (year, month, category name, type, total), at most one row per
+     * month, category and type. The analytics overview derives all of its sections from this result.
+     */
+    @Query("SELECT EXTRACT(YEAR FROM r.day), EXTRACT(MONTH FROM r.day), c.name, r.type, SUM(r.total) " +
+           "FROM DailyRollup r LEFT JOIN Category c ON c.id = r.categoryId " +
+           "WHERE r.userId = :userId AND r.day BETWEEN :startDate AND :endDate " +
+           "GROUP BY EXTRACT(YEAR FROM r.day), EXTRACT(MONTH FROM r.day), c.name, r.type")
+    List<Object[]> sumByMonthCategoryAndType(
+            @Param("userId") Long userId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
+    );
+}
@@ -0,0 +1,147 @@
+package com.financehub.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Plain JDBC access to job leases and cluster node heartbeats.
+ * Acquiring a lease is a compare-and-set: the update only matches a lease the caller already holds or one
+ * that has expired, and a missing lease is created by an insert that loses to any concurrent insert on the
+ * primary key. Statements run outside any job transaction, so leases change hands as soon as they are written.
+ *
+ * @author tekteku
+ * @version 1.0
+ * @since 2025-11-17
+ */
+@Repository
+@RequiredArgsConstructor
+public class JobLeaseRepository {
+
+    private static final String ACQUIRE_SQL =
+            "UPDATE job_leases SET acquired_at = CASE WHEN owner = ? THEN acquired_at ELSE ? END, " +
+            "owner = ?, expires_at = ? WHERE name = ? AND (owner = ? OR expires_at <= ?)";
+
+    private static final String INSERT_SQL =
+            "INSERT INTO job_leases (name, owner, expires_at, acquired_at) VALUES (?, ?, ?, ?)";
+
+    private static final String RENEW_ALL_SQL = "UPDATE job_leases SET expires_at = ? WHERE owner = ?";
+
+    private static final String RELEASE_SQL = "DELETE FROM job_leases WHERE name = ? AND owner = ?";
+
+    private static final String RELEASE_ALL_SQL = "DELETE FROM job_leases WHERE owner = ?";
+
+    private static final String FIND_BY_PREFIX_SQL =
+            "SELECT name, owner, expires_at FROM job_leases WHERE name LIKE ? ORDER BY name";
+
+    private static final String FIND_SHARDED_JOBS_SQL =
+            "SELECT DISTINCT SUBSTRING(name, 1, POSITION('#' IN name) - 1) FROM job_leases WHERE name LIKE '%#%'";
+
+    private static final String HEARTBEAT_SQL = "UPDATE cluster_nodes SET heartbeat_at = ? WHERE node_id = ?";
+
+    private static final String INSERT_NODE_SQL = "INSERT INTO cluster_nodes (node_id, heartbeat_at) VALUES (?, ?)";
+
+    private static final String FIND_LIVE_NODES_SQL =
+            "SELECT node_id FROM cluster_nodes WHERE heartbeat_at > ? ORDER BY node_id";
+
+    private static final String DELETE_NODE_SQL = "DELETE FROM cluster_nodes WHERE node_id = ?";
+
+    private static final String DELETE_STALE_NODES_SQL = "DELETE FROM cluster_nodes WHERE heartbeat_at <= ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Take lease {@code name} for {@code owner} until {@code expiresAt}, or extend it if the owner already holds it.
+     *
+     * @return whether the owner holds the lease now
+     */
+    public boolean tryAcquire(String name, String owner, LocalDateTime now, LocalDateTime expiresAt) {
+        Timestamp nowTs = Timestamp.valueOf(now);
+        Timestamp expiresTs = Timestamp.valueOf(expiresAt);
+        if (jdbcTemplate.update(ACQUIRE_SQL, owner, nowTs, owner, expiresTs, name, owner, nowTs) == 1) {
+            return true;
+        }
+        try {
+            return jdbcTemplate.update(INSERT_SQL, name, owner, expiresTs, nowTs) == 1;
+        } catch (DuplicateKeyException e) {
+            // Held by another node, or created by one since the update
+            return false;
+        }
+    }
+
+    /**
+     * Extend every lease held by {@code owner}.
+     *
+     * @return the number of leases extended
+     */
+    public int renewAll(String owner, LocalDateTime expiresAt) {
+        return jdbcTemplate.update(RENEW_ALL_SQL, Timestamp.valueOf(expiresAt), owner);
+    }
+
+    public void release(String name, String owner) {
+        jdbcTemplate.update(RELEASE_SQL, name, owner);
+    }
+
+    public void releaseAll(String owner) {
+        jdbcTemplate.update(RELEASE_ALL_SQL, owner);
+    }
+
+    /**
+     * Leases whose name starts with {@code prefix}, held or expired, by name.
+     */
+    public List<Lease> findByPrefix(String prefix) {
+        return jdbcTemplate.query(FIND_BY_PREFIX_SQL, (rs, i) -> new Lease(rs.getString(1), rs.getString(2),
+                rs.getTimestamp(3).toLocalDateTime()), prefix + "%");
+    }
+
+    /**
+     * Names of the sharded jobs that have shard leases.
+     */
+    public List<String> findShardedJobs() {
+        return jdbcTemplate.queryForList(FIND_SHARDED_JOBS_SQL, String.class);
+    }
+
+    /**
+     * Record a heartbeat of node {@code nodeId}, registering it on its first heartbeat.
+     */
+    public void heartbeat(String nodeId, LocalDateTime now) {
+        Timestamp nowTs = Timestamp.valueOf(now);
+        if (jdbcTemplate.update(HEARTBEAT_SQL, nowTs, nodeId) == 0) {
+            jdbcTemplate.update(INSERT_NODE_SQL, nodeId, nowTs);
+        }
+    }
+
+    /**
+     * Ids of the nodes with a heartbeat after {@code since}, in id order.
+     */
+    public List<String> findLiveNodes(LocalDateTime since) {
+        return jdbcTemplate.queryForList(FIND_LIVE_NODES_SQL, String.class, Timestamp.valueOf(since));
+    }
+
+    public void deleteNode(String nodeId) {
+        jdbcTemplate.update(DELETE_NODE_SQL, nodeId);
+    }
+
+    public int deleteStaleNodes(LocalDateTime before) {
+        return jdbcTemplate.update(DELETE_STALE_NODES_SQL, Timestamp.valueOf(before));
+    }
+
+    /**
+     * A lease row; expired when {@code expiresAt} is not after the current time.
+     */
+    public record Lease(String name, String owner, LocalDateTime expiresAt) {
+
+        public boolean isHeldBy(String node, LocalDateTime now) {
+            return owner.equals(node) && expiresAt.isAfter(now);
+        }
+
+        public boolean isExpired(LocalDateTime now) {
+            return !expiresAt.isAfter(now);
+        }
+    }
+}
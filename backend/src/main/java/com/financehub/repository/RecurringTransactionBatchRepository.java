@@ -0,0 +1,73 @@
+package com.financehub.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Plain JDBC write path for advancing recurring transaction schedules in bulk.
+ * Each advance is a compare-and-set on the next occurrence date: it only applies while the template
+ * still has the next occurrence date the caller read, so two runs that read the same template cannot
+ * both post its occurrences. The row stays locked until the caller's transaction ends.
+ *
+ * @author tekteku
+ * @version 1.0
+ * @since 2025-11-17
+ */
+@Repository
+@RequiredArgsConstructor
+public class RecurringTransactionBatchRepository {
+
+    private static final String ADVANCE_SQL =
+            "UPDATE recurring_transactions SET next_occurrence_date = ?, last_occurrence_date = ?, updated_at = ? " +
+            "WHERE id = ? AND next_occurrence_date = ?";
+
+    private static final int[] ADVANCE_TYPES = {
+        Types.DATE, Types.DATE, Types.TIMESTAMP, Types.BIGINT, Types.DATE
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Apply the advances as one JDBC batch.
+     *
+     * @return for each advance, whether it was applied
+     */
+    public boolean[] advance(List<Advance> advances, Timestamp now) {
+        if (advances.isEmpty()) {
+            return new boolean[0];
+        }
+        List<Object[]> args = new ArrayList<>(advances.size());
+        for (Advance a : advances) {
+            args.add(new Object[]{
+                Date.valueOf(a.nextOccurrenceDate()), Date.valueOf(a.lastOccurrenceDate()), now,
+                a.id(), Date.valueOf(a.expectedNextOccurrenceDate())
+            });
+        }
+        int[] counts = jdbcTemplate.batchUpdate(ADVANCE_SQL, args, ADVANCE_TYPES);
+        boolean[] applied = new boolean[counts.length];
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] == Statement.SUCCESS_NO_INFO) {
+                // Without per-row counts the compare-and-set result is unknown, which must never be guessed
+                throw new IllegalStateException("JDBC driver did not report update counts for the batch");
+            }
+            applied[i] = counts[i] == 1;
+        }
+        return applied;
+    }
+
+    /**
+     * Move template {@code id} from {@code expectedNextOccurrenceDate} to the given next and last occurrences.
+     */
+    public record Advance(Long id, LocalDate expectedNextOccurrenceDate, LocalDate nextOccurrenceDate,
+                          LocalDate lastOccurrenceDate) {
+    }
+}
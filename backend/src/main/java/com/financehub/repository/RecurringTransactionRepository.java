@@ -1,12 +1,15 @@
 package com.financehub.repository;
 
 import com.financehub.entity.RecurringTransaction;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -37,5 +40,36 @@ public interface RecurringTransactionRepository extends JpaRepository<RecurringT
            "AND r.autoCreate = true AND r.nextOccurrenceDate <= :date")
     List<RecurringTransaction> findAutoCreateDueTransactions(@Param("date") LocalDate date);
     
+    /*
+     * One page of the auto-created templates due on or before the date, in id order after afterId, with their
+     * accounts. Templates whose next occurrence is past their end date are finished and left out.
+     * Only templates of users in the given shards (user id modulo shardCount) are returned.
+     */
+    @EntityGraph(attributePaths = "account")
+    @Query("SELECT r FROM RecurringTransaction r WHERE r.isActive = true AND r.autoCreate = true " +
+           "AND r.nextOccurrenceDate <= :date " +
+           "AND (r.endDate IS NULL OR r.nextOccurrenceDate <= r.endDate) " +
+           "AND MOD(r.account.user.id, :shardCount) IN :shards " +
+           "AND r.id > :afterId ORDER BY r.id")
+    List<RecurringTransaction> findAutoCreateDuePage(
+            @Param("shardCount") int shardCount,
+            @Param("shards") Collection<Integer> shards,
+            @Param("date") LocalDate date,
+            @Param("afterId") Long afterId,
+            Pageable limit
+    );
+    
+    /*
+     * Active templates of a user's active accounts with an occurrence that may fall between from and until.
+     */
+    @Query("SELECT r FROM RecurringTransaction r WHERE r.account.user.id = :userId AND r.isActive = true " +
+           "AND r.account.isActive = true AND r.nextOccurrenceDate <= :until " +
+           "AND (r.endDate IS NULL OR r.endDate >= :from)")
+    List<RecurringTransaction> findForecastable(
+            @Param("userId") Long userId,
+            @Param("from") LocalDate from,
+            @Param("until") LocalDate until
+    );
+    
     boolean existsByIdAndAccountUserId(Long id, Long userId);
 }
@@ -0,0 +1,96 @@
+package com.financehub.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Plain JDBC write path for bulk transaction inserts.
+ * Bypasses the persistence context so rows are sent as JDBC batches; with
+ * {@code reWriteBatchedInserts} the PostgreSQL driver turns each batch into multi-row inserts.
+ * Ids are taken from the entity's sequence in blocks, following the same pooled scheme as Hibernate,
+ * so both write paths can share it. Callers are responsible for balances and auditing columns.
+ *
+ * @author tekteku
+ * @version 1.0
+ * @since 2025-11-14
+ */
+@Repository
+@RequiredArgsConstructor
+public class TransactionBatchRepository {
+    
+    /** Must match the allocationSize of the Transaction id generator. */
+    private static final int ID_BLOCK_SIZE = 50;
+    
+    private static final String NEXT_ID_BLOCK_SQL = "SELECT nextval('transactions_seq')";
+    
+    private static final String INSERT_SQL =
+            "INSERT INTO transactions (id, amount, type, transaction_date, description, notes, payee, " +
+            "user_id, account_id, category_id, recurring_transaction_id, is_recurring, created_at, updated_at, " +
+            "created_by, last_modified_by) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    
+    private static final int[] INSERT_TYPES = {
+        Types.BIGINT, Types.NUMERIC, Types.VARCHAR, Types.DATE, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR,
+        Types.BIGINT, Types.BIGINT, Types.BIGINT, Types.BIGINT, Types.BOOLEAN, Types.TIMESTAMP, Types.TIMESTAMP, Types.VARCHAR,
+        Types.VARCHAR
+    };
+    
+    private final JdbcTemplate jdbcTemplate;
+    
+    /**
+     * Insert one batch of transactions.
+     */
+    public void insertBatch(List<Row> rows, Timestamp now, String createdBy) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        long[] ids = allocateIds(rows.size());
+        List<Object[]> args = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            Row r = rows.get(i);
+            args.add(new Object[]{
+                ids[i], r.amount(), r.type(), Date.valueOf(r.date()), r.description(), r.notes(), r.payee(),
+                r.userId(), r.accountId(), r.categoryId(), r.recurringTransactionId(), r.recurringTransactionId() != null,
+                now, now, createdBy, createdBy
+            });
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, args, INSERT_TYPES);
+    }
+    
+    /**
+     * Each sequence value V reserves the ids (V - blockSize, V], exactly like Hibernate's pooled optimizer.
+     */
+    private long[] allocateIds(int count) {
+        long[] ids = new long[count];
+        int filled = 0;
+        while (filled < count) {
+            long hi = jdbcTemplate.queryForObject(NEXT_ID_BLOCK_SQL, Long.class);
+            for (long id = Math.max(hi - ID_BLOCK_SIZE + 1, 1); id <= hi && filled < count; id++) {
+                ids[filled++] = id;
+            }
+        }
+        return ids;
+    }
+    
+    /**
+     * Column values of a transaction row, already validated and resolved; userId is the account's owner.
+     * Rows generated from a recurring template carry its id and are flagged as recurring.
+     */
+    public record Row(BigDecimal amount, String type, LocalDate date, String description, String notes,
+                      String payee, Long userId, Long accountId, Long categoryId, Long recurringTransactionId) {
+        
+        public Row(BigDecimal amount, String type, LocalDate date, String description,
+                   String notes, String payee, Long userId, Long accountId, Long categoryId) {
+            this(amount, type, date, description, notes, payee, userId, accountId, categoryId, null);
+        }
+    }
+}
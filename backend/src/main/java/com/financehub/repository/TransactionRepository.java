@@ -1,11 +1,16 @@
 package com.financehub.repository;
 
+import com.financehub.dto.TransactionExportRow;
 import com.financehub.entity.Transaction;
 import com.financehub.entity.Transaction.TransactionType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -13,6 +18,7 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repository for Transaction entity operations.
@@ -24,22 +30,105 @@ import java.util.Optional;
 @Repository
 public interface TransactionRepository extends JpaRepository<Transaction, Long> {
     
+    /*
+     * Listings that are mapped to TransactionResponse load account and category in the same
+     * select through the entity graph, instead of one lazy load per row.
+     */
+    @EntityGraph(Transaction.GRAPH_WITH_ACCOUNT_AND_CATEGORY)
     Page<Transaction> findByAccountUserId(Long userId, Pageable pageable);
     
+    @EntityGraph(Transaction.GRAPH_WITH_ACCOUNT_AND_CATEGORY)
     Page<Transaction> findByAccountUserIdAndType(Long userId, TransactionType type, Pageable pageable);
     
+    @EntityGraph(Transaction.GRAPH_WITH_ACCOUNT_AND_CATEGORY)
     Page<Transaction> findByAccountId(Long accountId, Pageable pageable);
     
+    @EntityGraph(Transaction.GRAPH_WITH_ACCOUNT_AND_CATEGORY)
     Optional<Transaction> findByIdAndAccountUserId(Long id, Long userId);
     
+    /*
+     * Keyset (seek) variants of the listings above: rows strictly after the cursor in
+     * (transactionDate DESC, id DESC) order, without a COUNT query.
+     * Pass PageRequest.ofSize(n) to bound the result.
+     * The cursor is written as "date <= :date AND (date < :date OR id < :id)" so the date is a range
+     * bound on the (owner, transaction_date DESC, id DESC) indexes, and the user-wide listings filter
+     * on the denormalized t.userId, one range of idx_transaction_user_date_id without joining accounts.
+     */
+    @Query("SELECT t FROM Transaction t WHERE t.userId = :userId " +
+           "AND t.transactionDate <= :date AND (t.transactionDate < :date OR t.id < :id) " +
+           "ORDER BY t.transactionDate DESC, t.id DESC")
+    @EntityGraph(Transaction.GRAPH_WITH_ACCOUNT_AND_CATEGORY)
+    List<Transaction> findByUserIdBefore(
+            @Param("userId") Long userId,
+            @Param("date") LocalDate date,
+            @Param("id") Long id,
+            Pageable limit
+    );
+    
+    @Query("SELECT t FROM Transaction t WHERE t.userId = :userId AND t.type = :type " +
+           "AND t.transactionDate <= :date AND (t.transactionDate < :date OR t.id < :id) " +
+           "ORDER BY t.transactionDate DESC, t.id DESC")
+    @EntityGraph(Transaction.GRAPH_WITH_ACCOUNT_AND_CATEGORY)
+    List<Transaction> findByUserIdAndTypeBefore(
+            @Param("userId") Long userId,
+            @Param("type") TransactionType type,
+            @Param("date") LocalDate date,
+            @Param("id") Long id,
+            Pageable limit
+    );
+    
+    @Query("SELECT t FROM Transaction t WHERE t.account.id = :accountId " +
+           "AND t.transactionDate <= :date AND (t.transactionDate < :date OR t.id < :id) " +
+           "ORDER BY t.transactionDate DESC, t.id DESC")
+    @EntityGraph(Transaction.GRAPH_WITH_ACCOUNT_AND_CATEGORY)
+    List<Transaction> findByAccountIdBefore(
+            @Param("accountId") Long accountId,
+            @Param("date") LocalDate date,
+            @Param("id") Long id,
+            Pageable limit
+    );
+    
     @Query("SELECT t FROM Transaction t WHERE t.account.user.id = :userId " +
            "AND t.transactionDate BETWEEN :startDate AND :endDate")
+    @EntityGraph(Transaction.GRAPH_WITH_ACCOUNT_AND_CATEGORY)
     List<Transaction> findByUserIdAndDateRange(
             @Param("userId") Long userId,
             @Param("startDate") LocalDate startDate,
             @Param("endDate") LocalDate endDate
     );
     
+    /*
+     * Server-side cursor over export rows. Must be consumed inside a read-only transaction and closed;
+     * the fetch size makes the PostgreSQL driver pull rows in chunks instead of buffering the result.
+     */
+    @Query("SELECT new com.financehub.dto.TransactionExportRow(t.id, t.transactionDate, t.type, t.amount, " +
+           "t.description, t.payee, t.notes, a.id, a.name, c.name) " +
+           "FROM Transaction t JOIN t.account a LEFT JOIN t.category c " +
+           "WHERE a.user.id = :userId AND t.transactionDate BETWEEN :startDate AND :endDate " +
+           "ORDER BY t.transactionDate, t.id")
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<TransactionExportRow> streamExportRows(
+            @Param("userId") Long userId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
+    );
+    
+    /*
+     * (id, date, amount, category id, type) of every transaction of a user in (date, id) order,
+     * used to load the in-memory column cache. Same streaming rules as streamExportRows.
+     */
+    @Query("SELECT t.id, t.transactionDate, t.amount, c.id, t.type " +
+           "FROM Transaction t JOIN t.account a LEFT JOIN t.category c " +
+           "WHERE a.user.id = :userId ORDER BY t.transactionDate, t.id")
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<Object[]> streamColumns(@Param("userId") Long userId);
+    
     @Query("SELECT t FROM Transaction t WHERE t.account.user.id = :userId " +
            "AND t.type = :type AND t.transactionDate BETWEEN :startDate AND :endDate")
     List<Transaction> findByUserIdTypeAndDateRange(
@@ -74,6 +163,7 @@ public interface TransactionRepository extends JpaRepository<Transaction, Long>
             @Param("endDate") LocalDate endDate
     );
     
+    @EntityGraph(Transaction.GRAPH_WITH_ACCOUNT_AND_CATEGORY)
     List<Transaction> findTop10ByAccountUserIdOrderByTransactionDateDesc(Long userId);
     
     @Query("SELECT COALESCE(SUM(t.amount), 0) FROM Transaction t " +
@@ -108,14 +198,14 @@ public interface TransactionRepository extends JpaRepository<Transaction, Long>
             @Param("endDate") LocalDate endDate
     );
     
-    @Query("SELECT FUNCTION('TO_CHAR', t.transactionDate, 'YYYY-MM') as month, " +
+    @Query("SELECT EXTRACT(YEAR FROM t.transactionDate) as yr, EXTRACT(MONTH FROM t.transactionDate) as mon, " +
            "COALESCE(SUM(CASE WHEN t.type = 'INCOME' THEN t.amount ELSE 0 END), 0) as income, " +
            "COALESCE(SUM(CASE WHEN t.type = 'EXPENSE' THEN t.amount ELSE 0 END), 0) as expenses " +
            "FROM Transaction t " +
            "WHERE t.account.user.id = :userId " +
            "AND t.transactionDate BETWEEN :startDate AND :endDate " +
-           "GROUP BY FUNCTION('TO_CHAR', t.transactionDate, 'YYYY-MM') " +
-           "ORDER BY month")
+           "GROUP BY EXTRACT(YEAR FROM t.transactionDate), EXTRACT(MONTH FROM t.transactionDate) " +
+           "ORDER BY yr, mon")
     List<Object[]> getMonthlyTrends(
             @Param("userId") Long userId,
             @Param("startDate") LocalDate startDate,
@@ -0,0 +1,196 @@
+package com.financehub.security;
+
+import com.financehub.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Password encoder that runs the expensive hash operations of its delegate on a dedicated,
+ * size-limited executor with a bounded queue. When the queue is full the call fails fast with
+ * {@link ServiceUnavailableException} instead of tying up request threads behind a login storm.
+ * The queue only admits what the threads can hash within the wait timeout, judged from a moving
+ * average of the hash time, so overload is rejected up front rather than by callers timing out
+ * while their abandoned hashes keep the threads busy.
+ * Hashes whose BCrypt cost differs from the configured strength are reported as needing an upgrade,
+ * so the authentication provider rehashes them on the next successful login.
+ *
+ * @author tekteku
+ * @version 1.0
+ * @since 2025-11-12
+ */
+@Slf4j
+public class BoundedPasswordEncoder implements PasswordEncoder, AutoCloseable {
+
+    private static final Pattern BCRYPT_COST = Pattern.compile("\\A\\$2[abxy]?\\$(\\d\\d)\\$");
+
+    /** Weight of the latest hash in the moving average of the hash time. */
+    private static final double HASH_TIME_WEIGHT = 0.2;
+
+    private final PasswordEncoder delegate;
+    private final int strength;
+    private final int threads;
+    private final int queueCapacity;
+    private final Duration waitTimeout;
+    private final ThreadPoolExecutor executor;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong hashNanos = new AtomicLong();
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Counter rejectedCounter;
+    private final Counter timeoutCounter;
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, int strength, int threads, int queueCapacity,
+                                  Duration waitTimeout, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.strength = strength;
+        this.threads = threads;
+        this.queueCapacity = queueCapacity;
+        this.waitTimeout = waitTimeout;
+        this.executor = new ThreadPoolExecutor(
+                threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new HashingThreadFactory(),
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.encodeTimer = Timer.builder("auth.password.hash")
+                .description("Time spent hashing or verifying passwords")
+                .tag("operation", "encode")
+                .register(meterRegistry);
+        this.matchesTimer = Timer.builder("auth.password.hash")
+                .description("Time spent hashing or verifying passwords")
+                .tag("operation", "matches")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("auth.password.rejected")
+                .description("Password operations rejected because the hashing queue was full")
+                .register(meterRegistry);
+        this.timeoutCounter = Counter.builder("auth.password.timeouts")
+                .description("Password operations that did not finish within the wait timeout")
+                .register(meterRegistry);
+        meterRegistry.gauge("auth.password.queue.depth", executor, e -> e.getQueue().size());
+        meterRegistry.gauge("auth.password.active", executor, ThreadPoolExecutor::getActiveCount);
+        meterRegistry.gauge("auth.password.capacity", this, BoundedPasswordEncoder::capacity);
+
+        // One hash up front, so the first burst is already admitted according to the real hash time
+        long start = System.nanoTime();
+        delegate.encode("calibration");
+        hashNanos.set(System.nanoTime() - start);
+        log.info("Password hashing takes {}ms, admitting up to {} operations", hashNanos.get() / 1_000_000, capacity());
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return submit(() -> encodeTimer.record(() -> delegate.encode(rawPassword)));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return submit(() -> matchesTimer.record(() -> delegate.matches(rawPassword, encodedPassword)));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null) {
+            return false;
+        }
+        Matcher matcher = BCRYPT_COST.matcher(encodedPassword);
+        return matcher.find() && Integer.parseInt(matcher.group(1)) != strength;
+    }
+
+    /**
+     * Operations admitted at once, running or queued: as many as the threads finish within the wait
+     * timeout at the current hash time, at most the configured queue on top of the threads, and never
+     * fewer than the threads so the hash time estimate keeps being refreshed.
+     */
+    int capacity() {
+        long rounds = waitTimeout.toNanos() / Math.max(1, hashNanos.get());
+        return (int) Math.max(threads, Math.min(threads + queueCapacity, threads * rounds));
+    }
+
+    private <T> T submit(Callable<T> task) {
+        int admitted;
+        do {
+            admitted = inFlight.get();
+            if (admitted >= capacity()) {
+                rejectedCounter.increment();
+                log.warn("Password hashing queue is full ({} queued), rejecting request", executor.getQueue().size());
+                throw new ServiceUnavailableException("Authentication service is busy, please retry shortly");
+            }
+        } while (!inFlight.compareAndSet(admitted, admitted + 1));
+
+        FutureTask<T> future = new FutureTask<>(() -> {
+            long start = System.nanoTime();
+            try {
+                return task.call();
+            } finally {
+                recordHashTime(System.nanoTime() - start);
+                inFlight.decrementAndGet();
+            }
+        });
+        try {
+            executor.execute(future);
+        } catch (RejectedExecutionException e) {
+            inFlight.decrementAndGet();
+            rejectedCounter.increment();
+            throw new ServiceUnavailableException("Authentication service is busy, please retry shortly");
+        }
+
+        try {
+            return future.get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            abandon(future);
+            timeoutCounter.increment();
+            log.warn("Password hashing did not finish within {}ms", waitTimeout.toMillis());
+            throw new ServiceUnavailableException("Authentication service is busy, please retry shortly");
+        } catch (InterruptedException e) {
+            abandon(future);
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException("Password verification was interrupted");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+
+    /**
+     * Drop a hash that is still queued. One in progress cannot be interrupted, it runs to completion
+     * and keeps counting against the capacity until then.
+     */
+    private void abandon(FutureTask<?> future) {
+        if (executor.remove(future)) {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    private void recordHashTime(long nanos) {
+        hashNanos.getAndUpdate(average -> (long) (average + HASH_TIME_WEIGHT * (nanos - average)));
+    }
+
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+
+    private static class HashingThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "password-hash-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
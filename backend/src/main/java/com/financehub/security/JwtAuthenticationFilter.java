@@ -1,5 +1,6 @@
 package com.financehub.security;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -9,7 +10,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
@@ -21,6 +21,9 @@ import java.io.IOException;
 /**
  * JWT Authentication Filter that validates JWT tokens on each request.
  * Extracts the token from the Authorization header and validates it.
+ * The principal is rebuilt from the token claims, so no user lookup is needed per request.
+ * Each token is verified exactly once and the claims are exposed as a request attribute.
+ * Repeated tokens are served from {@link VerifiedTokenCache} until they expire.
  * 
  * @author tekteku
  * @version 1.0
@@ -32,6 +35,7 @@ import java.io.IOException;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
     
     private final JwtUtils jwtUtils;
+    private final VerifiedTokenCache verifiedTokenCache;
     private final UserDetailsService userDetailsService;
     
     @Override
@@ -43,22 +47,29 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         try {
             String jwt = parseJwt(request);
             
-            if (jwt != null && jwtUtils.validateToken(jwt)) {
-                String username = jwtUtils.getUsernameFromToken(jwt);
+            Claims claims = jwt != null ? verifiedTokenCache.getOrVerify(jwt, jwtUtils::verifyToken) : null;
+            
+            if (claims != null) {
+                request.setAttribute(JwtUtils.CLAIMS_ATTRIBUTE, claims);
+                UserPrincipal principal = jwtUtils.toPrincipal(claims);
                 
-                UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+                // Tokens issued before the user ID claim existed fall back to a lookup until they expire
+                if (principal == null) {
+                    principal = (UserPrincipal) userDetailsService.loadUserByUsername(claims.getSubject());
+                    principal.eraseCredentials();
+                }
                 
                 UsernamePasswordAuthenticationToken authentication = 
                         new UsernamePasswordAuthenticationToken(
-                                userDetails,
+                                principal,
                                 null,
-                                userDetails.getAuthorities()
+                                principal.getAuthorities()
                         );
                 
                 authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                 SecurityContextHolder.getContext().setAuthentication(authentication);
                 
-                log.debug("Set authentication for user: {}", username);
+                log.debug("Set authentication for user: {}", principal.getUsername());
             }
         } catch (Exception e) {
             log.error("Cannot set user authentication: {}", e.getMessage());
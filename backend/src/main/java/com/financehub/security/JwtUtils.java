@@ -4,16 +4,18 @@ import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.util.Collection;
 import java.util.Date;
+import java.util.List;
 
 /**
  * Utility class for JWT token operations.
  * Handles token generation, validation, and extraction.
+ * The signing key and parser are built once and shared, both are immutable and thread-safe.
  * 
  * @author tekteku
  * @version 1.0
@@ -23,77 +25,112 @@ import java.util.Date;
 @Slf4j
 public class JwtUtils {
     
-    @Value("${jwt.secret}")
-    private String jwtSecret;
-    
-    @Value("${jwt.expiration}")
-    private long jwtExpiration;
+    public static final String CLAIM_USER_ID = "uid";
+    public static final String CLAIM_ROLES = "roles";
     
     /**
-     * Get the signing key for JWT operations.
+     * Request attribute under which the filter stores the verified claims of the current token.
      */
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+    public static final String CLAIMS_ATTRIBUTE = JwtUtils.class.getName() + ".CLAIMS";
+    
+    private final SecretKey signingKey;
+    private final JwtParser parser;
+    private final long jwtExpiration;
+    
+    public JwtUtils(@Value("${jwt.secret}") String jwtSecret,
+                    @Value("${jwt.expiration}") long jwtExpiration) {
+        this.signingKey = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser().verifyWith(signingKey).build();
+        this.jwtExpiration = jwtExpiration;
     }
     
     /**
      * Generate JWT token for authenticated user.
+     * The user ID and roles are embedded so requests can be authenticated without a database lookup.
      */
-    public String generateToken(UserDetails userDetails) {
+    public String generateToken(UserPrincipal principal) {
         return Jwts.builder()
-                .subject(userDetails.getUsername())
+                .subject(principal.getUsername())
+                .claim(CLAIM_USER_ID, principal.getId())
+                .claim(CLAIM_ROLES, principal.getRoles())
                 .issuedAt(new Date())
                 .expiration(new Date(System.currentTimeMillis() + jwtExpiration))
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
     
     /**
-     * Extract username from JWT token.
+     * Verify the token signature and expiry and return its claims.
+     * 
+     * @throws JwtException if the token is invalid
      */
-    public String getUsernameFromToken(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .getSubject();
+    public Claims parseClaims(String token) {
+        return parser.parseSignedClaims(token).getPayload();
     }
     
     /**
-     * Validate JWT token.
+     * Verify the token and return its claims, or null if the token is invalid.
      */
-    public boolean validateToken(String authToken) {
+    public Claims verifyToken(String authToken) {
         try {
-            Jwts.parser()
-                    .verifyWith(getSigningKey())
-                    .build()
-                    .parseSignedClaims(authToken);
-            return true;
-        } catch (SecurityException e) {
-            log.error("Invalid JWT signature: {}", e.getMessage());
-        } catch (MalformedJwtException e) {
-            log.error("Invalid JWT token: {}", e.getMessage());
+            return parseClaims(authToken);
         } catch (ExpiredJwtException e) {
             log.error("JWT token is expired: {}", e.getMessage());
+        } catch (MalformedJwtException e) {
+            log.error("Invalid JWT token: {}", e.getMessage());
         } catch (UnsupportedJwtException e) {
             log.error("JWT token is unsupported: {}", e.getMessage());
+        } catch (JwtException e) {
+            log.error("Invalid JWT signature: {}", e.getMessage());
         } catch (IllegalArgumentException e) {
             log.error("JWT claims string is empty: {}", e.getMessage());
         }
-        return false;
+        return null;
+    }
+    
+    /**
+     * Validate JWT token.
+     */
+    public boolean validateToken(String authToken) {
+        return verifyToken(authToken) != null;
+    }
+    
+    /**
+     * Build the authenticated principal from already verified claims.
+     * Returns null for tokens issued before the user ID claim was introduced.
+     */
+    public UserPrincipal toPrincipal(Claims claims) {
+        Number userId = claims.get(CLAIM_USER_ID, Number.class);
+        if (userId == null) {
+            return null;
+        }
+        
+        Collection<?> roles = claims.get(CLAIM_ROLES, Collection.class);
+        List<String> roleNames = roles == null ? List.of() : roles.stream().map(String::valueOf).toList();
+        
+        return new UserPrincipal(userId.longValue(), claims.getSubject(), null, roleNames);
+    }
+    
+    /**
+     * Extract username from JWT token.
+     */
+    public String getUsernameFromToken(String token) {
+        return parseClaims(token).getSubject();
+    }
+    
+    /**
+     * Extract user ID from JWT token.
+     */
+    public Long getUserIdFromToken(String token) {
+        Number userId = parseClaims(token).get(CLAIM_USER_ID, Number.class);
+        return userId != null ? userId.longValue() : null;
     }
     
     /**
      * Get expiration date from JWT token.
      */
     public Date getExpirationDateFromToken(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .getExpiration();
+        return parseClaims(token).getExpiration();
     }
     
     /**
@@ -107,4 +144,4 @@ public class JwtUtils {
             return true;
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,38 @@
+package com.financehub.security;
+
+import com.financehub.exception.UnauthorizedException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * Static accessors for the authenticated user of the current request.
+ *
+ * @author tekteku
+ * @version 1.0
+ * @since 2025-11-12
+ */
+public final class SecurityUtils {
+
+    private SecurityUtils() {
+    }
+
+    /**
+     * Get the principal of the current request.
+     */
+    public static UserPrincipal getCurrentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+        if (authentication == null || !(authentication.getPrincipal() instanceof UserPrincipal principal)) {
+            throw new UnauthorizedException("User is not authenticated");
+        }
+
+        return principal;
+    }
+
+    /**
+     * Get the ID of the current user without touching the database.
+     */
+    public static Long getCurrentUserId() {
+        return getCurrentUser().getId();
+    }
+}
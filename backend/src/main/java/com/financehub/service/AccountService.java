@@ -9,10 +9,9 @@ import com.financehub.exception.ResourceNotFoundException;
 import com.financehub.mapper.EntityMapper;
 import com.financehub.repository.AccountRepository;
 import com.financehub.repository.UserRepository;
+import com.financehub.security.SecurityUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -35,6 +34,8 @@ public class AccountService {
     private final AccountRepository accountRepository;
     private final UserRepository userRepository;
     private final EntityMapper mapper;
+    private final BalanceLedgerService ledgerService;
+    private final UserDataVersions dataVersions;
     
     /**
      * Get all accounts for the current user.
@@ -95,6 +96,7 @@ public class AccountService {
         account.setUser(user);
         
         account = accountRepository.save(account);
+        dataVersions.bump(userId);
         log.info("Account created successfully: {}", account.getId());
         
         return mapper.toAccountResponse(account);
@@ -113,8 +115,16 @@ public class AccountService {
         Account account = accountRepository.findByIdAndUserId(id, userId)
                 .orElseThrow(() -> new ResourceNotFoundException("Account", "id", id));
         
+        // A changed balance is recorded as a journal adjustment, the checkpoint stays untouched
+        BigDecimal adjustment = request.getBalance().subtract(account.getCurrentBalance());
+        if (adjustment.signum() != 0) {
+            ledgerService.record(account.getId(), adjustment, null);
+            account.setCurrentBalance(request.getBalance());
+        }
+        
         mapper.updateAccountFromRequest(account, request);
         account = accountRepository.save(account);
+        dataVersions.bump(userId);
         
         log.info("Account updated successfully: {}", account.getId());
         return mapper.toAccountResponse(account);
@@ -133,6 +143,7 @@ public class AccountService {
         
         account.setIsActive(false);
         accountRepository.save(account);
+        dataVersions.bump(userId);
         
         log.info("Account deleted successfully: {}", id);
     }
@@ -168,13 +179,6 @@ public class AccountService {
     }
     
     private Long getCurrentUserId() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String username = authentication.getName();
-        
-        User user = userRepository.findByUsername(username)
-                .orElseGet(() -> userRepository.findByEmail(username)
-                        .orElseThrow(() -> new ResourceNotFoundException("User not found")));
-        
-        return user.getId();
+        return SecurityUtils.getCurrentUserId();
     }
 }
@@ -1,27 +1,41 @@
 package com.financehub.service;
 
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.financehub.dto.AnalyticsOverview;
 import com.financehub.dto.AnalyticsSummary;
 import com.financehub.dto.CategoryExpense;
 import com.financehub.dto.CashFlow;
 import com.financehub.dto.MonthlyTrend;
-import com.financehub.entity.Account;
+import com.financehub.dto.TimeSeries;
 import com.financehub.entity.Transaction.TransactionType;
+import com.financehub.exception.BadRequestException;
 import com.financehub.repository.AccountRepository;
-import com.financehub.repository.TransactionRepository;
+import com.financehub.repository.CategoryRepository;
+import com.financehub.repository.DailyRollupRepository;
+import com.financehub.util.Money;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 
 /**
  * Service for analytics and reporting operations.
+ * Period aggregates are read from the daily rollup table (see {@link DailyRollupService}), so their
+ * cost depends on the number of days in the range, not on the number of transactions.
+ * When the column cache is enabled, they are computed in memory from {@link TransactionColumns} instead.
+ * Results are cached per user in {@link UserResultCache} when it is enabled.
+ * Sums and shares are accumulated as {@link Money} minor units and only turned into BigDecimal for the DTOs.
  * 
  * @author tekteku
  * @version 1.0
@@ -32,8 +46,21 @@ import java.util.stream.Collectors;
 @Slf4j
 public class AnalyticsService {
     
-    private final TransactionRepository transactionRepository;
+    private static final TypeReference<AnalyticsSummary> SUMMARY = new TypeReference<>() {};
+    private static final TypeReference<List<CategoryExpense>> CATEGORY_EXPENSES = new TypeReference<>() {};
+    private static final TypeReference<List<MonthlyTrend>> MONTHLY_TRENDS = new TypeReference<>() {};
+    private static final TypeReference<CashFlow> CASH_FLOW = new TypeReference<>() {};
+    private static final TypeReference<AnalyticsOverview> OVERVIEW = new TypeReference<>() {};
+    private static final TypeReference<TimeSeries> TIME_SERIES = new TypeReference<>() {};
+    
+    /** Largest time series served, ten years of daily buckets. */
+    static final int MAX_BUCKETS = 3660;
+    
+    private final DailyRollupRepository rollupRepository;
     private final AccountRepository accountRepository;
+    private final CategoryRepository categoryRepository;
+    private final TransactionColumnCache columnCache;
+    private final UserResultCache resultCache;
     
     /**
      * Get financial summary for a date range
@@ -41,26 +68,25 @@ public class AnalyticsService {
     @Transactional(readOnly = true)
     public AnalyticsSummary getFinancialSummary(Long userId, LocalDate startDate, LocalDate endDate) {
         log.debug("Fetching financial summary for user: {} from {} to {}", userId, startDate, endDate);
+        return resultCache.get(userId, "summary", SUMMARY,
+                () -> computeFinancialSummary(userId, startDate, endDate), startDate, endDate);
+    }
+    
+    private AnalyticsSummary computeFinancialSummary(Long userId, LocalDate startDate, LocalDate endDate) {
+        TransactionColumns columns = columnCache.get(userId);
+        if (columns != null) {
+            return toSummary(fromCents(columns.sumCents(TransactionType.INCOME, startDate, endDate)),
+                    fromCents(columns.sumCents(TransactionType.EXPENSE, startDate, endDate)), startDate, endDate);
+        }
         
-        BigDecimal totalIncome = transactionRepository.sumByUserIdTypeAndDateRange(
+        BigDecimal totalIncome = rollupRepository.sumByUserIdTypeAndDateRange(
                 userId, TransactionType.INCOME, startDate, endDate);
         
-        BigDecimal totalExpenses = transactionRepository.sumByUserIdTypeAndDateRange(
+        BigDecimal totalExpenses = rollupRepository.sumByUserIdTypeAndDateRange(
                 userId, TransactionType.EXPENSE, startDate, endDate);
         
-        totalIncome = totalIncome != null ? totalIncome : BigDecimal.ZERO;
-        totalExpenses = totalExpenses != null ? totalExpenses : BigDecimal.ZERO;
-        
-        BigDecimal balance = totalIncome.subtract(totalExpenses);
-        
-        return AnalyticsSummary.builder()
-                .totalIncome(totalIncome)
-                .totalExpenses(totalExpenses)
-                .balance(balance)
-                .currency("USD")
-                .startDate(startDate)
-                .endDate(endDate)
-                .build();
+        return toSummary(fromCents(Money.toMinorUnits(totalIncome)), fromCents(Money.toMinorUnits(totalExpenses)),
+                startDate, endDate);
     }
     
     /**
@@ -69,31 +95,44 @@ public class AnalyticsService {
     @Transactional(readOnly = true)
     public List<CategoryExpense> getExpensesByCategory(Long userId, LocalDate startDate, LocalDate endDate) {
         log.debug("Fetching expenses by category for user: {} from {} to {}", userId, startDate, endDate);
+        return resultCache.get(userId, "expenses-by-category", CATEGORY_EXPENSES,
+                () -> computeExpensesByCategory(userId, startDate, endDate), startDate, endDate);
+    }
+    
+    private List<CategoryExpense> computeExpensesByCategory(Long userId, LocalDate startDate, LocalDate endDate) {
+        TransactionColumns columns = columnCache.get(userId);
+        if (columns != null) {
+            return toCategoryExpenses(categoryRows(columns.sumCentsByCategory(TransactionType.EXPENSE, startDate, endDate)));
+        }
         
-        List<Object[]> results = transactionRepository.sumExpensesByCategory(userId, startDate, endDate);
-        
-        BigDecimal totalExpenses = results.stream()
-                .map(row -> (BigDecimal) row[1])
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        Map<String, Money> byName = new LinkedHashMap<>();
+        for (Object[] row : rollupRepository.sumExpensesByCategory(userId, startDate, endDate)) {
+            byName.put((String) row[0], Money.of((BigDecimal) row[1]));
+        }
+        return toCategoryExpenses(byName);
+    }
+    
+    /**
+     * Category amounts, in the order given, with each category's share of the total.
+     */
+    private static List<CategoryExpense> toCategoryExpenses(Map<String, Money> amounts) {
+        long total = 0;
+        for (Money amount : amounts.values()) {
+            total = Math.addExact(total, amount.minorUnits());
+        }
         
-        if (totalExpenses.compareTo(BigDecimal.ZERO) == 0) {
+        if (total == 0) {
             return new ArrayList<>();
         }
         
-        return results.stream()
-                .map(row -> {
-                    String categoryName = (String) row[0];
-                    BigDecimal amount = (BigDecimal) row[1];
-                    BigDecimal percentage = amount.divide(totalExpenses, 4, RoundingMode.HALF_UP)
-                            .multiply(BigDecimal.valueOf(100));
-                    
-                    return CategoryExpense.builder()
-                            .categoryName(categoryName != null ? categoryName : "Uncategorized")
-                            .amount(amount)
-                            .percentage(percentage)
-                            .build();
-                })
-                .collect(Collectors.toList());
+        Money totalExpenses = Money.ofMinor(total);
+        List<CategoryExpense> expenses = new ArrayList<>(amounts.size());
+        amounts.forEach((categoryName, amount) -> expenses.add(CategoryExpense.builder()
+                .categoryName(categoryName != null ? categoryName : "Uncategorized")
+                .amount(amount.toBigDecimal())
+                .percentage(amount.percentageOf(totalExpenses, 4))
+                .build()));
+        return expenses;
     }
     
     /**
@@ -102,58 +141,187 @@ public class AnalyticsService {
     @Transactional(readOnly = true)
     public List<MonthlyTrend> getMonthlyTrends(Long userId, LocalDate startDate, LocalDate endDate) {
         log.debug("Fetching monthly trends for user: {} from {} to {}", userId, startDate, endDate);
+        return resultCache.get(userId, "monthly-trends", MONTHLY_TRENDS,
+                () -> computeMonthlyTrends(userId, startDate, endDate), startDate, endDate);
+    }
+    
+    private List<MonthlyTrend> computeMonthlyTrends(Long userId, LocalDate startDate, LocalDate endDate) {
+        TransactionColumns columns = columnCache.get(userId);
+        if (columns != null) {
+            return toTrends(columns.sumCentsByMonth(startDate, endDate));
+        }
         
-        List<Object[]> results = transactionRepository.getMonthlyTrends(userId, startDate, endDate);
+        List<Object[]> results = rollupRepository.getMonthlyTrends(userId, startDate, endDate);
         
         return results.stream()
                 .map(row -> {
-                    String month = (String) row[0];
-                    BigDecimal income = (BigDecimal) row[1];
-                    BigDecimal expenses = (BigDecimal) row[2];
-                    BigDecimal balance = income.subtract(expenses);
+                    String month = formatMonth(row[0], row[1]);
+                    long income = Money.toMinorUnits((BigDecimal) row[2]);
+                    long expenses = Money.toMinorUnits((BigDecimal) row[3]);
                     
                     return MonthlyTrend.builder()
                             .month(month)
-                            .income(income)
-                            .expenses(expenses)
-                            .balance(balance)
+                            .income(fromCents(income))
+                            .expenses(fromCents(expenses))
+                            .balance(fromCents(income - expenses))
                             .build();
                 })
                 .collect(Collectors.toList());
     }
     
+    /**
+     * Get income and expenses per day, week, month, quarter or year, with empty buckets filled with zero
+     */
+    @Transactional(readOnly = true)
+    public TimeSeries getTimeSeries(Long userId, TimeSeries.Bucket bucket, LocalDate startDate, LocalDate endDate) {
+        log.debug("Fetching {} time series for user: {} from {} to {}", bucket, userId, startDate, endDate);
+        if (endDate.isBefore(startDate)) {
+            throw new BadRequestException("End date must not be before start date");
+        }
+        if (bucket.count(startDate, endDate) > MAX_BUCKETS) {
+            throw new BadRequestException("Time series is limited to " + MAX_BUCKETS + " buckets, use a larger bucket");
+        }
+        return resultCache.get(userId, "time-series", TIME_SERIES,
+                () -> computeTimeSeries(userId, bucket, startDate, endDate), bucket, startDate, endDate);
+    }
+    
+    private TimeSeries computeTimeSeries(Long userId, TimeSeries.Bucket bucket, LocalDate startDate, LocalDate endDate) {
+        LocalDate first = bucket.truncate(startDate);
+        long[][] sums;
+        TransactionColumns columns = columnCache.get(userId);
+        if (columns != null) {
+            sums = columns.sumCentsByBucket(bucket, startDate, endDate);
+        } else {
+            sums = new long[TransactionType.values().length][(int) bucket.count(startDate, endDate)];
+            for (Object[] row : rollupRepository.sumByDayAndType(userId, startDate, endDate)) {
+                int index = (int) bucket.index(first, (LocalDate) row[0]);
+                long[] byBucket = sums[((TransactionType) row[1]).ordinal()];
+                byBucket[index] = Math.addExact(byBucket[index], Money.toMinorUnits((BigDecimal) row[2]));
+            }
+        }
+        
+        long[] income = sums[TransactionType.INCOME.ordinal()];
+        long[] expenses = sums[TransactionType.EXPENSE.ordinal()];
+        List<LocalDate> periods = new ArrayList<>(income.length);
+        List<BigDecimal> incomeAmounts = new ArrayList<>(income.length);
+        List<BigDecimal> expenseAmounts = new ArrayList<>(income.length);
+        List<BigDecimal> net = new ArrayList<>(income.length);
+        for (int i = 0; i < income.length; i++) {
+            periods.add(bucket.plus(first, i));
+            incomeAmounts.add(fromCents(income[i]));
+            expenseAmounts.add(fromCents(expenses[i]));
+            net.add(fromCents(income[i] - expenses[i]));
+        }
+        
+        return TimeSeries.builder()
+                .bucket(bucket)
+                .startDate(startDate)
+                .endDate(endDate)
+                .currency(Money.DEFAULT_CURRENCY)
+                .periods(periods)
+                .income(incomeAmounts)
+                .expenses(expenseAmounts)
+                .net(net)
+                .build();
+    }
+    
     /**
      * Get cash flow analysis
      */
     @Transactional(readOnly = true)
     public CashFlow getCashFlow(Long userId, LocalDate startDate, LocalDate endDate) {
         log.debug("Fetching cash flow for user: {} from {} to {}", userId, startDate, endDate);
-        
+        return resultCache.get(userId, "cash-flow", CASH_FLOW,
+                () -> computeCashFlow(userId, startDate, endDate), startDate, endDate);
+    }
+    
+    private CashFlow computeCashFlow(Long userId, LocalDate startDate, LocalDate endDate) {
         // Get opening balance (sum of all accounts at start date)
-        List<Account> accounts = accountRepository.findByUserId(userId);
-        BigDecimal currentBalance = accounts.stream()
-                .map(Account::getBalance)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        BigDecimal currentBalance = accountRepository.sumCurrentBalanceByUserId(userId);
+        
+        TransactionColumns columns = columnCache.get(userId);
+        if (columns != null) {
+            return toCashFlow(currentBalance, fromCents(columns.sumCents(TransactionType.INCOME, startDate, endDate)),
+                    fromCents(columns.sumCents(TransactionType.EXPENSE, startDate, endDate)));
+        }
         
         // Get total inflows and outflows for the period
-        BigDecimal totalInflows = transactionRepository.sumByUserIdTypeAndDateRange(
+        BigDecimal totalInflows = rollupRepository.sumByUserIdTypeAndDateRange(
                 userId, TransactionType.INCOME, startDate, endDate);
         
-        BigDecimal totalOutflows = transactionRepository.sumByUserIdTypeAndDateRange(
+        BigDecimal totalOutflows = rollupRepository.sumByUserIdTypeAndDateRange(
                 userId, TransactionType.EXPENSE, startDate, endDate);
         
-        totalInflows = totalInflows != null ? totalInflows : BigDecimal.ZERO;
-        totalOutflows = totalOutflows != null ? totalOutflows : BigDecimal.ZERO;
+        return toCashFlow(currentBalance, fromCents(Money.toMinorUnits(totalInflows)),
+                fromCents(Money.toMinorUnits(totalOutflows)));
+    }
+    
+    /**
+     * Get summary, cash flow, category breakdown and monthly trends for one date range.
+     * All four are derived from a single grouped rollup read, plus one query for the account balances.
+     */
+    @Transactional(readOnly = true)
+    public AnalyticsOverview getOverview(Long userId, LocalDate startDate, LocalDate endDate) {
+        log.debug("Fetching analytics overview for user: {} from {} to {}", userId, startDate, endDate);
+        return resultCache.get(userId, "overview", OVERVIEW,
+                () -> computeOverview(userId, startDate, endDate), startDate, endDate);
+    }
+    
+    private AnalyticsOverview computeOverview(Long userId, LocalDate startDate, LocalDate endDate) {
+        TransactionColumns columns = columnCache.get(userId);
+        if (columns != null) {
+            BigDecimal totalIncome = fromCents(columns.sumCents(TransactionType.INCOME, startDate, endDate));
+            BigDecimal totalExpenses = fromCents(columns.sumCents(TransactionType.EXPENSE, startDate, endDate));
+            return AnalyticsOverview.builder()
+                    .summary(toSummary(totalIncome, totalExpenses, startDate, endDate))
+                    .cashFlow(toCashFlow(accountRepository.sumCurrentBalanceByUserId(userId), totalIncome, totalExpenses))
+                    .expensesByCategory(toCategoryExpenses(
+                            categoryRows(columns.sumCentsByCategory(TransactionType.EXPENSE, startDate, endDate))))
+                    .monthlyTrends(toTrends(columns.sumCentsByMonth(startDate, endDate)))
+                    .build();
+        }
         
-        // Calculate opening balance by subtracting the period's net change
-        BigDecimal netChange = totalInflows.subtract(totalOutflows);
-        BigDecimal openingBalance = currentBalance.subtract(netChange);
+        List<Object[]> rows = rollupRepository.sumByMonthCategoryAndType(userId, startDate, endDate);
+        BigDecimal currentBalance = accountRepository.sumCurrentBalanceByUserId(userId);
         
-        return CashFlow.builder()
-                .openingBalance(openingBalance)
-                .totalInflows(totalInflows)
-                .totalOutflows(totalOutflows)
-                .closingBalance(currentBalance)
+        long totalIncome = 0;
+        long totalExpenses = 0;
+        Map<String, long[]> expensesByCategory = new HashMap<>();
+        // month -> {income, expenses} in minor units, in month order
+        Map<String, long[]> months = new TreeMap<>();
+        for (Object[] row : rows) {
+            String month = formatMonth(row[0], row[1]);
+            String categoryName = (String) row[2];
+            TransactionType type = (TransactionType) row[3];
+            long amount = Money.toMinorUnits((BigDecimal) row[4]);
+            
+            long[] trend = months.computeIfAbsent(month, m -> new long[2]);
+            if (type == TransactionType.INCOME) {
+                totalIncome = Math.addExact(totalIncome, amount);
+                trend[0] = Math.addExact(trend[0], amount);
+            } else if (type == TransactionType.EXPENSE) {
+                totalExpenses = Math.addExact(totalExpenses, amount);
+                trend[1] = Math.addExact(trend[1], amount);
+                expensesByCategory.computeIfAbsent(categoryName, c -> new long[1])[0] += amount;
+            }
+        }
+        
+        List<MonthlyTrend> trends = months.entrySet().stream()
+                .map(e -> MonthlyTrend.builder()
+                        .month(e.getKey())
+                        .income(fromCents(e.getValue()[0]))
+                        .expenses(fromCents(e.getValue()[1]))
+                        .balance(fromCents(e.getValue()[0] - e.getValue()[1]))
+                        .build())
+                .collect(Collectors.toList());
+        
+        BigDecimal income = fromCents(totalIncome);
+        BigDecimal expenses = fromCents(totalExpenses);
+        return AnalyticsOverview.builder()
+                .summary(toSummary(income, expenses, startDate, endDate))
+                .cashFlow(toCashFlow(currentBalance, income, expenses))
+                .expensesByCategory(toCategoryExpenses(sortedByAmount(toMoney(expensesByCategory))))
+                .monthlyTrends(trends)
                 .build();
     }
     
@@ -169,4 +337,82 @@ public class AnalyticsService {
         
         return getFinancialSummary(userId, startDate, endDate);
     }
+    
+    private static AnalyticsSummary toSummary(BigDecimal totalIncome, BigDecimal totalExpenses,
+                                              LocalDate startDate, LocalDate endDate) {
+        return AnalyticsSummary.builder()
+                .totalIncome(totalIncome)
+                .totalExpenses(totalExpenses)
+                .balance(totalIncome.subtract(totalExpenses))
+                .currency("USD")
+                .startDate(startDate)
+                .endDate(endDate)
+                .build();
+    }
+    
+    private static CashFlow toCashFlow(BigDecimal currentBalance, BigDecimal totalInflows, BigDecimal totalOutflows) {
+        // Calculate opening balance by subtracting the period's net change
+        BigDecimal netChange = totalInflows.subtract(totalOutflows);
+        BigDecimal openingBalance = currentBalance.subtract(netChange);
+        
+        return CashFlow.builder()
+                .openingBalance(openingBalance)
+                .totalInflows(totalInflows)
+                .totalOutflows(totalOutflows)
+                .closingBalance(currentBalance)
+                .build();
+    }
+    
+    /**
+     * Resolve per-category cent sums to amounts by category name, ordered by amount.
+     */
+    private Map<String, Money> categoryRows(Map<Integer, Long> centsByCategory) {
+        Map<Long, String> names = new HashMap<>();
+        List<Long> ids = centsByCategory.keySet().stream()
+                .filter(id -> id != TransactionColumns.NO_CATEGORY)
+                .map(Integer::longValue)
+                .collect(Collectors.toList());
+        categoryRepository.findAllById(ids).forEach(c -> names.put(c.getId(), c.getName()));
+        
+        Map<String, Money> byName = new HashMap<>();
+        centsByCategory.forEach((id, cents) -> byName.merge(names.get(id.longValue()), Money.ofMinor(cents), Money::plus));
+        return sortedByAmount(byName);
+    }
+    
+    private static Map<String, Money> toMoney(Map<String, long[]> minorUnits) {
+        Map<String, Money> amounts = new HashMap<>(minorUnits.size() * 2);
+        minorUnits.forEach((key, sum) -> amounts.put(key, Money.ofMinor(sum[0])));
+        return amounts;
+    }
+    
+    private static Map<String, Money> sortedByAmount(Map<String, Money> amounts) {
+        Map<String, Money> sorted = new LinkedHashMap<>();
+        amounts.entrySet().stream()
+                .sorted(Map.Entry.<String, Money>comparingByValue().reversed())
+                .forEachOrdered(e -> sorted.put(e.getKey(), e.getValue()));
+        return sorted;
+    }
+    
+    private static List<MonthlyTrend> toTrends(Map<YearMonth, long[]> centsByMonth) {
+        return centsByMonth.entrySet().stream()
+                .map(e -> {
+                    long income = e.getValue()[TransactionType.INCOME.ordinal()];
+                    long expenses = e.getValue()[TransactionType.EXPENSE.ordinal()];
+                    return MonthlyTrend.builder()
+                            .month(e.getKey().toString())
+                            .income(fromCents(income))
+                            .expenses(fromCents(expenses))
+                            .balance(fromCents(income - expenses))
+                            .build();
+                })
+                .collect(Collectors.toList());
+    }
+    
+    private static BigDecimal fromCents(long cents) {
+        return Money.ofMinor(cents).toBigDecimal();
+    }
+    
+    private static String formatMonth(Object year, Object month) {
+        return String.format("%04d-%02d", ((Number) year).intValue(), ((Number) month).intValue());
+    }
 }
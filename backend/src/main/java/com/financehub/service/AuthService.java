@@ -6,6 +6,7 @@ import com.financehub.exception.DuplicateResourceException;
 import com.financehub.exception.UnauthorizedException;
 import com.financehub.repository.UserRepository;
 import com.financehub.security.JwtUtils;
+import com.financehub.security.UserPrincipal;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.*;
@@ -34,12 +35,11 @@ public class AuthService {
     private final PasswordEncoder passwordEncoder;
     private final AuthenticationManager authenticationManager;
     private final JwtUtils jwtUtils;
-    private final CustomUserDetailsService userDetailsService;
     
     /**
      * Authenticate user and generate JWT token.
+     * Not transactional on purpose: no database connection is held while the password hash is verified.
      */
-    @Transactional(readOnly = true)
     public AuthResponse login(LoginRequest request) {
         try {
             Authentication authentication = authenticationManager.authenticate(
@@ -48,12 +48,11 @@ public class AuthService {
             
             log.debug("Authentication successful for user: {}", request.getUsername());
             
-            var userDetails = userDetailsService.loadUserByUsername(request.getUsername());
-            String token = jwtUtils.generateToken(userDetails);
+            UserPrincipal principal = (UserPrincipal) authentication.getPrincipal();
+            String token = jwtUtils.generateToken(principal);
             
-            var user = userRepository.findByUsername(request.getUsername())
-                    .orElseGet(() -> userRepository.findByEmail(request.getUsername())
-                            .orElseThrow(() -> new UnauthorizedException("User not found")));
+            var user = userRepository.findById(principal.getId())
+                    .orElseThrow(() -> new UnauthorizedException("User not found"));
             
             return new AuthResponse(token, user.getId(), user.getUsername(), 
                     user.getEmail(), user.getFullName(), user.getRoles());
@@ -75,8 +74,9 @@ public class AuthService {
     
     /**
      * Register a new user account.
+     * Not transactional on purpose: no database connection is held while the password is hashed,
+     * the unique constraints on username and email still guard against concurrent duplicates.
      */
-    @Transactional
     public AuthResponse register(RegisterRequest request) {
         log.debug("Registering new user: {}", request.getUsername());
         
@@ -103,8 +103,7 @@ public class AuthService {
         log.info("New user registered successfully: {}", user.getUsername());
         
         // Generate token for auto-login
-        var userDetails = userDetailsService.loadUserByUsername(user.getUsername());
-        String token = jwtUtils.generateToken(userDetails);
+        String token = jwtUtils.generateToken(UserPrincipal.fromUser(user));
         
         return new AuthResponse(token, user.getId(), user.getUsername(),
                 user.getEmail(), user.getFullName(), user.getRoles());
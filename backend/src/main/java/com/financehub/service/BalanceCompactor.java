@@ -0,0 +1,84 @@
+package com.financehub.service;
+
+import com.financehub.repository.BalanceJournalRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Background job that periodically folds balance journal entries into account checkpoints.
+ * Each account is compacted in its own short transaction, in chunks, so the account row is
+ * only locked briefly. Accounts are sharded by id between the nodes (see {@link JobCoordinator}).
+ *
+ * @author tekteku
+ * @version 1.0
+ * @since 2025-11-15
+ */
+@Component
+@ConditionalOnProperty(name = "ledger.compaction.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class BalanceCompactor {
+    
+    private static final int ACCOUNTS_PER_RUN = 500;
+    
+    static final String JOB = "ledger-compaction";
+    
+    private final BalanceLedgerService ledgerService;
+    private final BalanceJournalRepository journalRepository;
+    private final JobCoordinator coordinator;
+    private final int chunkSize;
+    private final Timer runTimer;
+    private final Counter compactedCounter;
+    
+    public BalanceCompactor(BalanceLedgerService ledgerService,
+                            BalanceJournalRepository journalRepository,
+                            JobCoordinator coordinator,
+                            @Value("${ledger.compaction.chunk-size:5000}") int chunkSize,
+                            MeterRegistry meterRegistry) {
+        this.ledgerService = ledgerService;
+        this.journalRepository = journalRepository;
+        this.coordinator = coordinator;
+        this.chunkSize = chunkSize;
+        this.runTimer = Timer.builder("ledger.compaction")
+                .description("Time spent compacting the balance journal")
+                .register(meterRegistry);
+        this.compactedCounter = Counter.builder("ledger.compaction.entries")
+                .description("Balance journal entries folded into account checkpoints")
+                .register(meterRegistry);
+    }
+    
+    @Scheduled(fixedDelayString = "${ledger.compaction.interval:PT30S}",
+               initialDelayString = "${ledger.compaction.interval:PT30S}")
+    public void compactAll() {
+        coordinator.runSharded(JOB, shards -> runTimer.record(() -> compact(shards)));
+    }
+    
+    private void compact(JobCoordinator.Shards shards) {
+        List<Long> accountIds = journalRepository.findAccountIdsWithEntries(shards.count(), shards.owned(),
+                PageRequest.ofSize(ACCOUNTS_PER_RUN));
+        long total = 0;
+        for (Long accountId : accountIds) {
+            try {
+                int folded;
+                do {
+                    folded = ledgerService.compact(accountId, chunkSize);
+                    total += folded;
+                } while (folded == chunkSize);
+            } catch (RuntimeException e) {
+                log.warn("Compaction of account {} failed, will retry next run: {}", accountId, e.getMessage());
+            }
+        }
+        compactedCounter.increment(total);
+        if (total > 0) {
+            log.debug("Compacted {} journal entries across {} accounts", total, accountIds.size());
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.financehub.service;
+
+import com.financehub.entity.BalanceJournalEntry;
+import com.financehub.repository.AccountRepository;
+import com.financehub.repository.BalanceJournalRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Service for account balance changes.
+ * Writers append deltas to the balance journal instead of updating the account row, so busy accounts
+ * do not serialize on one row lock. The balance is the account's checkpoint plus its outstanding deltas;
+ * {@link #compact(Long, int)} folds deltas into the checkpoint.
+ *
+ * @author tekteku
+ * @version 1.0
+ * @since 2025-11-15
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BalanceLedgerService {
+    
+    private final BalanceJournalRepository journalRepository;
+    private final AccountRepository accountRepository;
+    
+    /**
+     * Append one delta per account, in ascending account order. Zero deltas are skipped.
+     */
+    @Transactional
+    public void record(Map<Long, BigDecimal> deltas, Long transactionId) {
+        LocalDateTime now = LocalDateTime.now();
+        new TreeMap<>(deltas).forEach((accountId, delta) -> {
+            if (delta.signum() != 0) {
+                journalRepository.save(BalanceJournalEntry.builder()
+                        .accountId(accountId)
+                        .transactionId(transactionId)
+                        .delta(delta)
+                        .createdAt(now)
+                        .build());
+            }
+        });
+    }
+    
+    /**
+     * Append a single delta.
+     */
+    @Transactional
+    public void record(Long accountId, BigDecimal delta, Long transactionId) {
+        record(Map.of(accountId, delta), transactionId);
+    }
+    
+    /**
+     * Current balance of an account: checkpoint plus outstanding deltas, read in one statement.
+     */
+    @Transactional(readOnly = true)
+    public BigDecimal currentBalance(Long accountId) {
+        BigDecimal balance = journalRepository.currentBalance(accountId);
+        return balance != null ? balance : BigDecimal.ZERO;
+    }
+    
+    /**
+     * Fold up to {@code maxEntries} of the oldest deltas of an account into its checkpoint.
+     * Exactly the entries that were summed are deleted, so deltas committed meanwhile are kept.
+     * The account row is locked first, so overlapping compactions of one account (a job lease that expired
+     * mid-run, a manual run) fold each entry once; if the entries were deleted meanwhile anyway, the
+     * compaction rolls back instead of moving the checkpoint twice.
+     *
+     * @return the number of entries folded
+     */
+    @Transactional
+    public int compact(Long accountId, int maxEntries) {
+        if (accountRepository.findByIdForUpdate(accountId).isEmpty()) {
+            return 0;
+        }
+        List<BalanceJournalEntry> entries =
+                journalRepository.findOldestByAccountId(accountId, PageRequest.ofSize(maxEntries));
+        if (entries.isEmpty()) {
+            return 0;
+        }
+        
+        BigDecimal sum = entries.stream()
+                .map(BalanceJournalEntry::getDelta)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        if (sum.signum() != 0) {
+            accountRepository.adjustBalance(accountId, sum, LocalDateTime.now());
+        }
+        int deleted = journalRepository.deleteByIds(entries.stream().map(BalanceJournalEntry::getId).toList());
+        if (deleted != entries.size()) {
+            throw new IllegalStateException("Journal entries of account " + accountId
+                    + " were compacted concurrently: deleted " + deleted + " of " + entries.size());
+        }
+        
+        log.debug("Compacted {} journal entries of account {} (net {})", entries.size(), accountId, sum);
+        return entries.size();
+    }
+}
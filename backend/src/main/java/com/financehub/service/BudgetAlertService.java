@@ -0,0 +1,109 @@
+package com.financehub.service;
+
+import com.financehub.entity.Budget;
+import com.financehub.entity.Notification;
+import com.financehub.repository.BudgetRepository;
+import com.financehub.repository.NotificationRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Evaluates budgets queued for alert evaluation and notifies users when a budget crosses its alert threshold.
+ * Budgets are queued by every change of their spent amount, amount or threshold ({@code alertPendingSince}).
+ * Only upward crossings notify: a budget that already alerted stays quiet until its spent amount drops below
+ * the threshold again. Notifications of one batch are written with batched inserts.
+ *
+ * @author tekteku
+ * @version 1.0
+ * @since 2025-11-17
+ */
+@Service
+@Slf4j
+public class BudgetAlertService {
+
+    private final BudgetRepository budgetRepository;
+    private final NotificationRepository notificationRepository;
+    private final Timer queueLag;
+    private final Counter evaluatedCounter;
+    private final Counter notificationCounter;
+
+    public BudgetAlertService(BudgetRepository budgetRepository,
+                              NotificationRepository notificationRepository,
+                              MeterRegistry meterRegistry) {
+        this.budgetRepository = budgetRepository;
+        this.notificationRepository = notificationRepository;
+        this.queueLag = Timer.builder("budget.alerts.queue.lag")
+                .description("Time budgets waited in the alert queue before evaluation")
+                .register(meterRegistry);
+        this.evaluatedCounter = Counter.builder("budget.alerts.evaluated")
+                .description("Budgets evaluated against their alert threshold")
+                .register(meterRegistry);
+        this.notificationCounter = Counter.builder("budget.alerts.notifications")
+                .description("Budget alert notifications created")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Evaluate up to {@code limit} queued budgets of all users, oldest first.
+     *
+     * @return the number of budgets evaluated
+     */
+    @Transactional
+    public int evaluatePending(int limit) {
+        return evaluatePending(JobCoordinator.Shards.ALL, limit);
+    }
+
+    /**
+     * Evaluate up to {@code limit} queued budgets of the users in {@code shards}, oldest first. The budgets stay
+     * locked until the transaction ends, so spent amounts cannot change while they are evaluated.
+     *
+     * @return the number of budgets evaluated
+     */
+    @Transactional
+    public int evaluatePending(JobCoordinator.Shards shards, int limit) {
+        List<Budget> budgets = budgetRepository.findPendingAlerts(shards.count(), shards.owned(),
+                PageRequest.ofSize(limit));
+        LocalDateTime now = LocalDateTime.now();
+        List<Notification> notifications = new ArrayList<>();
+        for (Budget budget : budgets) {
+            queueLag.record(Duration.between(budget.getAlertPendingSince(), now));
+
+            boolean triggered = Boolean.TRUE.equals(budget.getIsActive()) && budget.isAlertTriggered();
+            if (triggered && !Boolean.TRUE.equals(budget.getAlertNotified())) {
+                notifications.add(toNotification(budget));
+            }
+            budget.setAlertNotified(triggered);
+            budget.setAlertPendingSince(null);
+        }
+
+        notificationRepository.saveAll(notifications);
+        evaluatedCounter.increment(budgets.size());
+        notificationCounter.increment(notifications.size());
+        if (!notifications.isEmpty()) {
+            log.debug("Created {} budget alerts from {} evaluated budgets", notifications.size(), budgets.size());
+        }
+        return budgets.size();
+    }
+
+    private static Notification toNotification(Budget budget) {
+        Notification notification = new Notification();
+        notification.setUser(budget.getUser());
+        notification.setTitle("Budget alert: " + budget.getName());
+        notification.setMessage(String.format("You have spent %s of %s (%s%%), above your %s%% alert threshold.",
+                budget.getSpent().toPlainString(), budget.getAmount().toPlainString(),
+                budget.getSpentPercentage().toPlainString(),
+                budget.getEffectiveAlertThreshold().stripTrailingZeros().toPlainString()));
+        notification.setType(Notification.NotificationType.BUDGET);
+        return notification;
+    }
+}
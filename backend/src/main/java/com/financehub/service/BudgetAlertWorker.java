@@ -0,0 +1,60 @@
+package com.financehub.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Background job that drains the budget alert queue in batches, each in its own transaction.
+ * Budgets are sharded by user between the nodes (see {@link JobCoordinator}).
+ *
+ * @author tekteku
+ * @version 1.0
+ * @since 2025-11-17
+ */
+@Component
+@ConditionalOnProperty(name = "budget.alerts.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class BudgetAlertWorker {
+
+    private static final int BATCHES_PER_RUN = 100;
+
+    static final String JOB = "budget-alerts";
+
+    private final BudgetAlertService alertService;
+    private final JobCoordinator coordinator;
+    private final int batchSize;
+    private final Timer runTimer;
+
+    public BudgetAlertWorker(BudgetAlertService alertService,
+                             JobCoordinator coordinator,
+                             @Value("${budget.alerts.batch-size:200}") int batchSize,
+                             MeterRegistry meterRegistry) {
+        this.alertService = alertService;
+        this.coordinator = coordinator;
+        this.batchSize = batchSize;
+        this.runTimer = Timer.builder("budget.alerts.run")
+                .description("Time spent evaluating queued budget alerts")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${budget.alerts.interval:PT5S}",
+               initialDelayString = "${budget.alerts.interval:PT5S}")
+    public void evaluateQueued() {
+        coordinator.runSharded(JOB, shards -> runTimer.record(() -> {
+            try {
+                int batches = 0;
+                int evaluated;
+                do {
+                    evaluated = alertService.evaluatePending(shards, batchSize);
+                } while (evaluated == batchSize && ++batches < BATCHES_PER_RUN);
+            } catch (RuntimeException e) {
+                log.warn("Budget alert evaluation failed, will retry next run: {}", e.getMessage());
+            }
+        }));
+    }
+}
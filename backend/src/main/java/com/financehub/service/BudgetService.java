@@ -1,5 +1,6 @@
 package com.financehub.service;
 
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.financehub.dto.BudgetRequest;
 import com.financehub.dto.BudgetResponse;
 import com.financehub.entity.Budget;
@@ -8,7 +9,6 @@ import com.financehub.entity.User;
 import com.financehub.exception.ResourceNotFoundException;
 import com.financehub.repository.BudgetRepository;
 import com.financehub.repository.CategoryRepository;
-import com.financehub.repository.TransactionRepository;
 import com.financehub.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -16,12 +16,15 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
-import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 
 /**
  * Service for Budget management operations.
+ * Spent amounts are maintained by {@link BudgetSpentUpdater} as transactions change and computed here only
+ * when a budget is created or its window or category changes, so reads are plain lookups.
+ * Read results are cached per user in {@link UserResultCache} when it is enabled; writes bump the user's data version.
  * 
  * @author tekteku
  * @version 1.0
@@ -32,10 +35,15 @@ import java.util.stream.Collectors;
 @Slf4j
 public class BudgetService {
     
+    private static final TypeReference<BudgetResponse> BUDGET = new TypeReference<>() {};
+    private static final TypeReference<List<BudgetResponse>> BUDGET_LIST = new TypeReference<>() {};
+    
     private final BudgetRepository budgetRepository;
     private final UserRepository userRepository;
     private final CategoryRepository categoryRepository;
-    private final TransactionRepository transactionRepository;
+    private final BudgetSpentCalculator spentCalculator;
+    private final UserResultCache resultCache;
+    private final UserDataVersions dataVersions;
     
     /**
      * Get all budgets for a user
@@ -43,6 +51,10 @@ public class BudgetService {
     @Transactional(readOnly = true)
     public List<BudgetResponse> getAllBudgets(Long userId) {
         log.debug("Fetching all budgets for user: {}", userId);
+        return resultCache.get(userId, "budgets", BUDGET_LIST, () -> loadAllBudgets(userId));
+    }
+    
+    private List<BudgetResponse> loadAllBudgets(Long userId) {
         List<Budget> budgets = budgetRepository.findByUserId(userId);
         return budgets.stream()
                 .map(this::mapToResponse)
@@ -55,9 +67,12 @@ public class BudgetService {
     @Transactional(readOnly = true)
     public List<BudgetResponse> getActiveBudgets(Long userId) {
         log.debug("Fetching active budgets for user: {}", userId);
+        return resultCache.get(userId, "active-budgets", BUDGET_LIST, () -> loadActiveBudgets(userId));
+    }
+    
+    private List<BudgetResponse> loadActiveBudgets(Long userId) {
         List<Budget> budgets = budgetRepository.findByUserIdAndIsActive(userId, true);
         return budgets.stream()
-                .map(this::updateSpentAmount)
                 .map(this::mapToResponse)
                 .collect(Collectors.toList());
     }
@@ -68,10 +83,13 @@ public class BudgetService {
     @Transactional(readOnly = true)
     public BudgetResponse getBudgetById(Long budgetId, Long userId) {
         log.debug("Fetching budget: {} for user: {}", budgetId, userId);
+        return resultCache.get(userId, "budget", BUDGET, () -> loadBudget(budgetId, userId), budgetId);
+    }
+    
+    private BudgetResponse loadBudget(Long budgetId, Long userId) {
         Budget budget = budgetRepository.findByIdAndUserId(budgetId, userId)
                 .orElseThrow(() -> new ResourceNotFoundException("Budget not found"));
         
-        budget = updateSpentAmount(budget);
         return mapToResponse(budget);
     }
     
@@ -101,13 +119,14 @@ public class BudgetService {
                 .user(user)
                 .category(category)
                 .alertThreshold(request.getAlertThreshold() != null ? 
-                        request.getAlertThreshold() : BigDecimal.valueOf(80))
+                        request.getAlertThreshold() : Budget.DEFAULT_ALERT_THRESHOLD)
                 .isActive(true)
                 .description(request.getDescription())
+                .alertPendingSince(LocalDateTime.now())
                 .build();
         
-        budget = budgetRepository.save(budget);
-        budget = updateSpentAmount(budget);
+        budget = spentCalculator.apply(userId, budgetRepository.save(budget));
+        dataVersions.bump(userId);
         
         log.info("Budget created successfully: {}", budget.getId());
         return mapToResponse(budget);
@@ -135,11 +154,15 @@ public class BudgetService {
         budget.setEndDate(request.getEndDate());
         budget.setPeriod(request.getPeriod());
         budget.setCategory(category);
-        budget.setAlertThreshold(request.getAlertThreshold());
+        budget.setAlertThreshold(request.getAlertThreshold() != null ?
+                request.getAlertThreshold() : Budget.DEFAULT_ALERT_THRESHOLD);
         budget.setDescription(request.getDescription());
+        if (budget.getAlertPendingSince() == null) {
+            budget.setAlertPendingSince(LocalDateTime.now());
+        }
         
-        budget = budgetRepository.save(budget);
-        budget = updateSpentAmount(budget);
+        budget = spentCalculator.apply(userId, budgetRepository.save(budget));
+        dataVersions.bump(userId);
         
         log.info("Budget updated successfully: {}", budgetId);
         return mapToResponse(budget);
@@ -157,6 +180,7 @@ public class BudgetService {
         }
         
         budgetRepository.deleteById(budgetId);
+        dataVersions.bump(userId);
         log.info("Budget deleted successfully: {}", budgetId);
     }
     
@@ -166,36 +190,17 @@ public class BudgetService {
     @Transactional(readOnly = true)
     public List<BudgetResponse> getBudgetsExceedingThreshold(Long userId) {
         log.debug("Fetching budgets exceeding threshold for user: {}", userId);
+        return resultCache.get(userId, "budgets-exceeding-threshold", BUDGET_LIST,
+                () -> loadBudgetsExceedingThreshold(userId));
+    }
+    
+    private List<BudgetResponse> loadBudgetsExceedingThreshold(Long userId) {
         List<Budget> budgets = budgetRepository.findBudgetsExceedingThreshold(userId);
         return budgets.stream()
-                .map(this::updateSpentAmount)
                 .map(this::mapToResponse)
                 .collect(Collectors.toList());
     }
     
-    /**
-     * Update spent amount based on transactions
-     */
-    private Budget updateSpentAmount(Budget budget) {
-        if (budget.getCategory() != null) {
-            BigDecimal spent = transactionRepository.sumExpensesByCategoryAndDateRange(
-                    budget.getUser().getId(),
-                    budget.getCategory().getId(),
-                    budget.getStartDate(),
-                    budget.getEndDate()
-            );
-            budget.setSpent(spent != null ? spent : BigDecimal.ZERO);
-        } else {
-            BigDecimal spent = transactionRepository.sumExpensesByDateRange(
-                    budget.getUser().getId(),
-                    budget.getStartDate(),
-                    budget.getEndDate()
-            );
-            budget.setSpent(spent != null ? spent : BigDecimal.ZERO);
-        }
-        return budget;
-    }
-    
     /**
      * Map Budget entity to BudgetResponse DTO
      */
@@ -210,7 +215,7 @@ public class BudgetService {
                 .period(budget.getPeriod())
                 .categoryId(budget.getCategory() != null ? budget.getCategory().getId() : null)
                 .categoryName(budget.getCategory() != null ? budget.getCategory().getName() : null)
-                .alertThreshold(budget.getAlertThreshold())
+                .alertThreshold(budget.getEffectiveAlertThreshold())
                 .isActive(budget.getIsActive())
                 .description(budget.getDescription())
                 .spentPercentage(budget.getSpentPercentage())
@@ -0,0 +1,53 @@
+package com.financehub.service;
+
+import com.financehub.entity.Budget;
+import com.financehub.repository.BudgetRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Computes the spent amount of many budgets of one user at once.
+ * All budgets are summed in a single grouped query over the daily rollups (see
+ * {@link BudgetRepository#sumSpentByBudget}), instead of one SUM over the transactions per budget.
+ *
+ * @author tekteku
+ * @version 1.0
+ * @since 2025-11-17
+ */
+@Component
+@RequiredArgsConstructor
+public class BudgetSpentCalculator {
+
+    private final BudgetRepository budgetRepository;
+
+    /**
+     * Set the spent amount of every budget from the user's expenses within its date window and category.
+     */
+    public List<Budget> apply(Long userId, List<Budget> budgets) {
+        if (budgets.isEmpty()) {
+            return budgets;
+        }
+
+        List<Long> ids = budgets.stream().map(Budget::getId).collect(Collectors.toList());
+        Map<Long, BigDecimal> spentById = new HashMap<>(ids.size() * 2);
+        for (Object[] row : budgetRepository.sumSpentByBudget(userId, ids)) {
+            spentById.put((Long) row[0], (BigDecimal) row[1]);
+        }
+
+        for (Budget budget : budgets) {
+            budget.setSpent(spentById.getOrDefault(budget.getId(), BigDecimal.ZERO));
+        }
+        return budgets;
+    }
+
+    public Budget apply(Long userId, Budget budget) {
+        apply(userId, List.of(budget));
+        return budget;
+    }
+}
@@ -0,0 +1,97 @@
+package com.financehub.service;
+
+import com.financehub.entity.Budget;
+import com.financehub.entity.Transaction.TransactionType;
+import com.financehub.repository.BudgetRepository;
+import com.financehub.repository.DailyRollupBatchRepository.Delta;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps {@code Budget.spent} current from transaction writes, so budget reads are plain lookups.
+ * Listens to the daily rollup events, which every transaction write path publishes in its own database
+ * transaction: expense deltas are added to each budget whose date window contains the day and whose
+ * category matches (budgets without a category take every expense). Inactive budgets are maintained too,
+ * so they are correct if reactivated. A rollup rebuild recomputes the user's budgets from scratch.
+ * Every budget touched is queued for {@link BudgetAlertService alert evaluation}.
+ *
+ * @author tekteku
+ * @version 1.0
+ * @since 2025-11-17
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BudgetSpentUpdater {
+
+    private final BudgetRepository budgetRepository;
+    private final BudgetSpentCalculator spentCalculator;
+    private final UserDataVersions dataVersions;
+
+    @EventListener
+    public void onRecorded(DailyRollupService.Recorded event) {
+        Map<Long, List<Delta>> expensesByUser = new HashMap<>();
+        for (Delta delta : event.deltas()) {
+            if (delta.type() == TransactionType.EXPENSE && delta.amount().signum() != 0) {
+                expensesByUser.computeIfAbsent(delta.userId(), id -> new ArrayList<>()).add(delta);
+            }
+        }
+        expensesByUser.forEach(this::apply);
+    }
+
+    @EventListener
+    public void onRebuilt(DailyRollupService.Rebuilt event) {
+        LocalDateTime now = LocalDateTime.now();
+        for (Budget budget : spentCalculator.apply(event.userId(), budgetRepository.findByUserId(event.userId()))) {
+            if (budget.getAlertPendingSince() == null) {
+                budget.setAlertPendingSince(now);
+            }
+        }
+        dataVersions.bump(event.userId());
+    }
+
+    /**
+     * Add one user's expense deltas to the budgets they fall into, one in-database increment per budget.
+     */
+    private void apply(Long userId, List<Delta> deltas) {
+        LocalDate first = deltas.get(0).day();
+        LocalDate last = first;
+        for (Delta delta : deltas) {
+            first = delta.day().isBefore(first) ? delta.day() : first;
+            last = delta.day().isAfter(last) ? delta.day() : last;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        int updated = 0;
+        for (Object[] window : budgetRepository.findWindowsOverlapping(userId, first, last)) {
+            LocalDate startDate = (LocalDate) window[1];
+            LocalDate endDate = (LocalDate) window[2];
+            Long categoryId = (Long) window[3];
+
+            BigDecimal change = BigDecimal.ZERO;
+            for (Delta delta : deltas) {
+                if (!delta.day().isBefore(startDate) && !delta.day().isAfter(endDate)
+                        && (categoryId == null || categoryId == delta.categoryId())) {
+                    change = change.add(delta.amount());
+                }
+            }
+            if (change.signum() != 0) {
+                budgetRepository.adjustSpent((Long) window[0], change, now);
+                updated++;
+            }
+        }
+        if (updated > 0) {
+            log.debug("Adjusted spent amount of {} budgets for user {}", updated, userId);
+        }
+    }
+}
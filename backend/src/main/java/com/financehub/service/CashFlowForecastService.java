@@ -0,0 +1,201 @@
+package com.financehub.service;
+
+import com.financehub.dto.CashFlowForecast;
+import com.financehub.entity.Account;
+import com.financehub.entity.RecurringTransaction;
+import com.financehub.exception.BadRequestException;
+import com.financehub.repository.AccountRepository;
+import com.financehub.repository.RecurringTransactionRepository;
+import com.financehub.util.Money;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Projects the daily balances of a user's accounts forward from their recurring transaction templates.
+ * Each template is expanded lazily into its occurrences ({@link RecurringTransaction.RecurrenceFrequency#occurrencesFrom})
+ * and the per-template streams are merged by date through a priority queue holding one pending occurrence per
+ * template. No occurrence list is built, so the cost is one queue operation per occurrence plus one balance per
+ * account and day.
+ *
+ * @author tekteku
+ * @version 1.0
+ * @since 2025-11-17
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CashFlowForecastService {
+
+    /** Longest horizon served, ten years of days. */
+    static final int MAX_DAYS = 3660;
+
+    private final AccountRepository accountRepository;
+    private final RecurringTransactionRepository recurringRepository;
+
+    /**
+     * Projected end-of-day balances of the user's active accounts for every day from today to endDate.
+     * Occurrences already posted are part of the current balances; templates contribute from their next
+     * occurrence date, and overdue occurrences (before today) are left out.
+     */
+    @Transactional(readOnly = true)
+    public CashFlowForecast getForecast(Long userId, LocalDate today, LocalDate endDate) {
+        if (endDate.isBefore(today)) {
+            throw new BadRequestException("End date must not be before today");
+        }
+        long days = ChronoUnit.DAYS.between(today, endDate) + 1;
+        if (days > MAX_DAYS) {
+            throw new BadRequestException("Forecast horizon exceeds " + MAX_DAYS + " days");
+        }
+        log.debug("Forecasting cash flow for user: {} until {}", userId, endDate);
+
+        List<Account> accounts = accountRepository.findByUserIdAndIsActive(userId, true);
+        Map<Long, Integer> accountIndex = new HashMap<>();
+        Projection[] projections = new Projection[accounts.size()];
+        for (int i = 0; i < accounts.size(); i++) {
+            accountIndex.put(accounts.get(i).getId(), i);
+            projections[i] = new Projection(Money.toMinorUnits(accounts.get(i).getCurrentBalance()), (int) days);
+        }
+
+        PriorityQueue<Occurrences> pending = new PriorityQueue<>(Comparator.comparing(Occurrences::date));
+        for (RecurringTransaction template : recurringRepository.findForecastable(userId, today, endDate)) {
+            Integer index = accountIndex.get(template.getAccount().getId());
+            long cents = Money.toMinorUnits(template.getType().balanceEffect(template.getAmount()));
+            if (index == null || cents == 0) {
+                continue;
+            }
+            LocalDate from = template.getNextOccurrenceDate().isAfter(today) ? template.getNextOccurrenceDate() : today;
+            LocalDate until = template.getEndDate() != null && template.getEndDate().isBefore(endDate)
+                    ? template.getEndDate() : endDate;
+            Occurrences occurrences = new Occurrences(index, cents, until,
+                    template.getFrequency().occurrencesFrom(template.getStartDate(), from));
+            if (occurrences.advance()) {
+                pending.add(occurrences);
+            }
+        }
+
+        List<LocalDate> dates = new ArrayList<>((int) days);
+        for (LocalDate date = today; !date.isAfter(endDate); date = date.plusDays(1)) {
+            while (!pending.isEmpty() && pending.peek().date().equals(date)) {
+                Occurrences next = pending.poll();
+                projections[next.account].apply(next.cents);
+                if (next.advance()) {
+                    pending.add(next);
+                }
+            }
+            for (Projection projection : projections) {
+                projection.close(date);
+            }
+            dates.add(date);
+        }
+
+        List<CashFlowForecast.AccountProjection> result = new ArrayList<>(accounts.size());
+        for (int i = 0; i < accounts.size(); i++) {
+            result.add(projections[i].toDto(accounts.get(i)));
+        }
+        return CashFlowForecast.builder()
+                .startDate(today)
+                .endDate(endDate)
+                .dates(dates)
+                .accounts(result)
+                .build();
+    }
+
+    private static BigDecimal fromCents(long cents) {
+        return Money.ofMinor(cents).toBigDecimal();
+    }
+
+    /**
+     * The pending occurrence of one template and the lazy iterator behind it.
+     */
+    private static final class Occurrences {
+        private final int account;
+        private final long cents;
+        private final LocalDate until;
+        private final Iterator<LocalDate> dates;
+        private LocalDate date;
+
+        Occurrences(int account, long cents, LocalDate until, Iterator<LocalDate> dates) {
+            this.account = account;
+            this.cents = cents;
+            this.until = until;
+            this.dates = dates;
+        }
+
+        LocalDate date() {
+            return date;
+        }
+
+        /**
+         * Move to the next occurrence, false once past the horizon or the template's end date.
+         */
+        boolean advance() {
+            date = dates.next();
+            return !date.isAfter(until);
+        }
+    }
+
+    /**
+     * Running balance of one account, in minor units, and its end-of-day values.
+     */
+    private static final class Projection {
+        private final long opening;
+        private final List<BigDecimal> balances;
+        private long balance;
+        private long inflows;
+        private long outflows;
+        private long lowest;
+        private LocalDate lowestDate;
+
+        Projection(long opening, int days) {
+            this.opening = opening;
+            this.balance = opening;
+            this.lowest = Long.MAX_VALUE;
+            this.balances = new ArrayList<>(days);
+        }
+
+        void apply(long cents) {
+            balance += cents;
+            if (cents > 0) {
+                inflows += cents;
+            } else {
+                outflows -= cents;
+            }
+        }
+
+        void close(LocalDate date) {
+            balances.add(fromCents(balance));
+            if (balance < lowest) {
+                lowest = balance;
+                lowestDate = date;
+            }
+        }
+
+        CashFlowForecast.AccountProjection toDto(Account account) {
+            return CashFlowForecast.AccountProjection.builder()
+                    .accountId(account.getId())
+                    .accountName(account.getName())
+                    .currency(account.getCurrency())
+                    .openingBalance(fromCents(opening))
+                    .projectedInflows(fromCents(inflows))
+                    .projectedOutflows(fromCents(outflows))
+                    .closingBalance(fromCents(balance))
+                    .lowestBalance(fromCents(lowest))
+                    .lowestBalanceDate(lowestDate)
+                    .balances(balances)
+                    .build();
+        }
+    }
+}
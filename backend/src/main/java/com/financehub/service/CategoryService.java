@@ -10,10 +10,9 @@ import com.financehub.exception.ResourceNotFoundException;
 import com.financehub.mapper.EntityMapper;
 import com.financehub.repository.CategoryRepository;
 import com.financehub.repository.UserRepository;
+import com.financehub.security.SecurityUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -35,6 +34,7 @@ public class CategoryService {
     private final CategoryRepository categoryRepository;
     private final UserRepository userRepository;
     private final EntityMapper mapper;
+    private final UserDataVersions dataVersions;
     
     /**
      * Get all categories available for the current user (system + user's own).
@@ -104,6 +104,7 @@ public class CategoryService {
         category.setIsSystem(false);
         
         category = categoryRepository.save(category);
+        dataVersions.bump(userId);
         log.info("Category created successfully: {}", category.getId());
         
         return mapper.toCategoryResponse(category);
@@ -127,6 +128,7 @@ public class CategoryService {
         
         mapper.updateCategoryFromRequest(category, request);
         category = categoryRepository.save(category);
+        dataVersions.bump(userId);
         
         log.info("Category updated successfully: {}", category.getId());
         return mapper.toCategoryResponse(category);
@@ -149,6 +151,7 @@ public class CategoryService {
         }
         
         categoryRepository.delete(category);
+        dataVersions.bump(userId);
         log.info("Category deleted successfully: {}", id);
     }
     
@@ -194,13 +197,6 @@ public class CategoryService {
     }
     
     private Long getCurrentUserId() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String username = authentication.getName();
-        
-        User user = userRepository.findByUsername(username)
-                .orElseGet(() -> userRepository.findByEmail(username)
-                        .orElseThrow(() -> new ResourceNotFoundException("User not found")));
-        
-        return user.getId();
+        return SecurityUtils.getCurrentUserId();
     }
 }
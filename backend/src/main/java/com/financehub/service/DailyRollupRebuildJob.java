@@ -0,0 +1,129 @@
+package com.financehub.service;
+
+import com.financehub.repository.DailyRollupBatchRepository;
+import com.financehub.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.context.WebServerGracefulShutdownLifecycle;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Backfill of the daily rollup table on startup. Runs automatically while the database has no completed
+ * backfill of {@link DailyRollupService#ROLLUP_VERSION}, which is the case on a database that predates the
+ * rollups, and on every start with {@code analytics.rollup.rebuild-on-startup} (after rollups were changed
+ * outside the application). Each user is rebuilt in its own transaction; the backfill is recorded only when
+ * every user succeeded, so a failed one is retried on the next start. When several nodes start together only
+ * the one holding the job lease rebuilds (see {@link JobCoordinator}).
+ * The backfill runs as a lifecycle phase ahead of the web server, so the node takes no traffic while its
+ * rollups are incomplete. Writes through other nodes keep coming in during a rolling deploy; they wait for
+ * the rebuild of their user and are applied on top of it (see {@link DailyRollupService#rebuild}).
+ *
+ * @author tekteku
+ * @version 1.0
+ * @since 2025-11-16
+ */
+@Component
+@Slf4j
+public class DailyRollupRebuildJob implements SmartLifecycle {
+    
+    static final String JOB = "daily-rollup-rebuild";
+    
+    /** Users rebuilt between two heartbeats that keep the job lease while the backfill runs. */
+    private static final int USERS_PER_HEARTBEAT = 100;
+    
+    private final DailyRollupService rollupService;
+    private final JobCoordinator coordinator;
+    private final UserRepository userRepository;
+    private final DailyRollupBatchRepository batchRepository;
+    private final boolean rebuildOnStartup;
+    private final Timer rebuildTimer;
+    private volatile boolean running;
+    
+    public DailyRollupRebuildJob(DailyRollupService rollupService,
+                                 JobCoordinator coordinator,
+                                 UserRepository userRepository,
+                                 DailyRollupBatchRepository batchRepository,
+                                 @Value("${analytics.rollup.rebuild-on-startup:false}") boolean rebuildOnStartup,
+                                 MeterRegistry meterRegistry) {
+        this.rollupService = rollupService;
+        this.coordinator = coordinator;
+        this.userRepository = userRepository;
+        this.batchRepository = batchRepository;
+        this.rebuildOnStartup = rebuildOnStartup;
+        this.rebuildTimer = Timer.builder("analytics.rollup.rebuild")
+                .description("Time spent rebuilding the daily rollups of all users")
+                .register(meterRegistry);
+    }
+    
+    @Override
+    public void start() {
+        rebuildOnStartup();
+        running = true;
+    }
+    
+    @Override
+    public void stop() {
+        running = false;
+    }
+    
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+    
+    /**
+     * Before the web server starts accepting requests.
+     */
+    @Override
+    public int getPhase() {
+        return WebServerGracefulShutdownLifecycle.SMART_LIFECYCLE_PHASE - 2048;
+    }
+    
+    public void rebuildOnStartup() {
+        if (isUpToDate()) {
+            return;
+        }
+        // Checked again under the lease: another node may have completed the backfill meanwhile
+        coordinator.runExclusive(JOB, () -> {
+            if (!isUpToDate()) {
+                rebuildTimer.record(this::rebuildAll);
+            }
+        });
+    }
+    
+    private boolean isUpToDate() {
+        return !rebuildOnStartup && batchRepository.isBackfilled(DailyRollupService.ROLLUP_VERSION);
+    }
+    
+    private void rebuildAll() {
+        List<Long> userIds = userRepository.findAllIds();
+        log.info("Rebuilding daily rollups for {} users", userIds.size());
+        long rows = 0;
+        int failed = 0;
+        for (int i = 0; i < userIds.size(); i++) {
+            Long userId = userIds.get(i);
+            if (i > 0 && i % USERS_PER_HEARTBEAT == 0) {
+                // Scheduled heartbeats only start with the application
+                coordinator.heartbeat();
+            }
+            try {
+                rows += rollupService.rebuild(userId);
+            } catch (RuntimeException e) {
+                failed++;
+                log.warn("Rollup rebuild of user {} failed: {}", userId, e.getMessage());
+            }
+        }
+        if (failed == 0) {
+            batchRepository.markBackfilled(DailyRollupService.ROLLUP_VERSION, LocalDateTime.now());
+            log.info("Rebuilt {} daily rollup rows", rows);
+        } else {
+            log.warn("Rebuilt {} daily rollup rows, {} users failed and are retried on the next start", rows, failed);
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.financehub.service;
+
+import com.financehub.entity.DailyRollup;
+import com.financehub.entity.Transaction;
+import com.financehub.entity.Transaction.TransactionType;
+import com.financehub.repository.DailyRollupBatchRepository;
+import com.financehub.repository.DailyRollupBatchRepository.Delta;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Service keeping the daily rollup table in step with transaction writes.
+ * Every path that inserts, changes or deletes transactions records the matching rollup changes in the
+ * same database transaction; {@link #rebuild(Long)} recomputes a user's rollups from scratch.
+ * Both publish an event ({@link Recorded}, {@link Rebuilt}) that listeners handle within that transaction,
+ * so data derived from transactions, such as budget spent amounts, follows the same path.
+ *
+ * @author tekteku
+ * @version 1.0
+ * @since 2025-11-16
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DailyRollupService {
+    
+    /**
+     * Version of the rollup contents. Bump it when the rows derived from a transaction change, so that
+     * the next start rebuilds every user's rollups (see {@link DailyRollupRebuildJob}).
+     */
+    public static final int ROLLUP_VERSION = 1;
+    
+    private final DailyRollupBatchRepository batchRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    
+    /**
+     * Add ({@code sign} 1) or remove ({@code sign} -1) one transaction.
+     */
+    @Transactional
+    public void record(Long userId, Transaction transaction, int sign) {
+        record(new Changes().add(userId, transaction, sign));
+    }
+    
+    /**
+     * Apply accumulated changes. Changes that cancel out are not written.
+     */
+    @Transactional
+    public void record(Changes changes) {
+        List<Delta> deltas = changes.byKey.values().stream()
+                .filter(d -> d.count() != 0 || d.amount().signum() != 0)
+                .toList();
+        batchRepository.apply(deltas);
+        if (!deltas.isEmpty()) {
+            eventPublisher.publishEvent(new Recorded(deltas));
+        }
+    }
+    
+    /**
+     * Recompute all rollups of a user from the transactions table. The user's row is locked first: writes
+     * in flight commit before the rebuild reads the transactions, and writes that arrive meanwhile wait in
+     * {@link #record(Changes)} and are applied on top of the rebuilt rows.
+     *
+     * @return the number of rollup rows written
+     */
+    @Transactional
+    public int rebuild(Long userId) {
+        int rows = batchRepository.rebuildUser(userId);
+        log.debug("Rebuilt {} daily rollup rows for user {}", rows, userId);
+        eventPublisher.publishEvent(new Rebuilt(userId));
+        return rows;
+    }
+    
+    /**
+     * Published after changes were applied, with the non-empty deltas.
+     */
+    public record Recorded(List<Delta> deltas) {
+    }
+    
+    /**
+     * Published after a user's rollups were recomputed.
+     */
+    public record Rebuilt(Long userId) {
+    }
+    
+    /**
+     * Rollup changes merged by row, so a batch touches each rollup row once.
+     */
+    public static final class Changes {
+        
+        private final Map<Key, Delta> byKey = new HashMap<>();
+        
+        public Changes add(Long userId, Transaction transaction, int sign) {
+            Long categoryId = transaction.getCategory() != null ? transaction.getCategory().getId() : null;
+            return add(userId, transaction.getTransactionDate(), categoryId, transaction.getType(),
+                    transaction.getAmount(), sign);
+        }
+        
+        public Changes add(Long userId, LocalDate day, Long categoryId, TransactionType type,
+                           BigDecimal amount, int sign) {
+            long category = categoryId != null ? categoryId : DailyRollup.NO_CATEGORY;
+            Delta delta = new Delta(userId, day, category, type,
+                    sign < 0 ? amount.negate() : amount, sign < 0 ? -1 : 1);
+            byKey.merge(new Key(userId, day, category, type), delta, (a, b) -> new Delta(a.userId(), a.day(),
+                    a.categoryId(), a.type(), a.amount().add(b.amount()), a.count() + b.count()));
+            return this;
+        }
+        
+        private record Key(Long userId, LocalDate day, long categoryId, TransactionType type) {
+        }
+    }
+}
@@ -26,6 +26,10 @@ public class InvestmentService {
     private final UserRepository userRepository;
     private final AccountRepository accountRepository;
     private final TransactionRepository transactionRepository;
+    private final BalanceLedgerService ledgerService;
+    private final DailyRollupService rollupService;
+    private final TransactionColumnCache columnCache;
+    private final UserDataVersions dataVersions;
 
     @Transactional
     public InvestmentDTO invest(Long projectId, BigDecimal amount, Long userId, Long accountId) {
@@ -35,17 +39,14 @@ public class InvestmentService {
         User investor = userRepository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
 
-        Account account = accountRepository.findByIdAndUserId(accountId, userId)
+        // The row lock serializes withdrawals so concurrent investments cannot overdraw the account
+        Account account = accountRepository.findByIdAndUserIdForUpdate(accountId, userId)
                 .orElseThrow(() -> new ResourceNotFoundException("Account not found or does not belong to user"));
 
-        if (account.getBalance().compareTo(amount) < 0) {
+        if (ledgerService.currentBalance(accountId).compareTo(amount) < 0) {
             throw new RuntimeException("Insufficient funds in the selected account");
         }
 
-        // Deduct from account
-        account.setBalance(account.getBalance().subtract(amount));
-        accountRepository.save(account);
-
         // Create Transaction record
         Transaction transaction = new Transaction();
         transaction.setAccount(account);
@@ -55,6 +56,10 @@ public class InvestmentService {
         transaction.setDescription("Investment in project: " + project.getTitle());
         transaction.setPayee("FinanceHub Investments");
         transactionRepository.save(transaction);
+        ledgerService.record(accountId, amount.negate(), transaction.getId());
+        rollupService.record(userId, transaction, 1);
+        columnCache.saved(userId, transaction);
+        dataVersions.bump(userId);
 
         // Update project current amount
         project.setCurrentAmount(project.getCurrentAmount().add(amount));
@@ -0,0 +1,288 @@
+package com.financehub.service;
+
+import com.financehub.repository.JobLeaseRepository;
+import com.financehub.repository.JobLeaseRepository.Lease;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Coordinates background jobs between backend replicas through lease rows in the shared database.
+ * <p>
+ * An exclusive job runs on the one node that holds its lease. A sharded job splits its work into
+ * {@code cluster.shards} shards by key (user or account id modulo the shard count), each shard a lease of its
+ * own, so every node processes a disjoint slice in parallel. Nodes heartbeat every
+ * {@code cluster.heartbeat-interval}, which renews their leases and moves shards towards an even split
+ * between the live nodes; the leases of a node that stops heartbeating expire after {@code cluster.lease-ttl}
+ * and are taken over by the others. Shards of a job that is running on this node are never given away.
+ * <p>
+ * Lease expiry is compared against node clocks, which must agree to well within the lease TTL.
+ *
+ * @author tekteku
+ * @version 1.0
+ * @since 2025-11-17
+ */
+@Component
+@Slf4j
+public class JobCoordinator {
+
+    private static final char SHARD_SEPARATOR = '#';
+
+    /** Nodes without a heartbeat for this many lease TTLs are forgotten. */
+    private static final int STALE_NODE_TTLS = 10;
+
+    private final JobLeaseRepository leaseRepository;
+    private final boolean enabled;
+    private final String nodeId;
+    private final int shardCount;
+    private final Duration leaseTtl;
+    private final Clock clock;
+    private final Set<String> knownJobs = ConcurrentHashMap.newKeySet();
+    private final Set<String> runningJobs = new HashSet<>();
+
+    @Autowired
+    public JobCoordinator(JobLeaseRepository leaseRepository,
+                          @Value("${cluster.coordination.enabled:true}") boolean enabled,
+                          @Value("${cluster.node-id:}") String nodeId,
+                          @Value("${cluster.shards:16}") int shardCount,
+                          @Value("${cluster.lease-ttl:30s}") Duration leaseTtl) {
+        this(leaseRepository, enabled, nodeId.isBlank() ? defaultNodeId() : nodeId, shardCount, leaseTtl,
+                Clock.systemDefaultZone());
+    }
+
+    JobCoordinator(JobLeaseRepository leaseRepository, boolean enabled, String nodeId, int shardCount,
+                   Duration leaseTtl, Clock clock) {
+        this.leaseRepository = leaseRepository;
+        this.enabled = enabled;
+        this.nodeId = nodeId;
+        this.shardCount = shardCount;
+        this.leaseTtl = leaseTtl;
+        this.clock = clock;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * Run {@code task} if this node gets the lease of {@code job}, releasing it afterwards.
+     *
+     * @return whether the task ran
+     */
+    public boolean runExclusive(String job, Runnable task) {
+        if (!enabled) {
+            task.run();
+            return true;
+        }
+        LocalDateTime now = LocalDateTime.now(clock);
+        try {
+            if (!leaseRepository.tryAcquire(job, nodeId, now, now.plus(leaseTtl))) {
+                log.debug("Skipping job {}, it runs on another node", job);
+                return false;
+            }
+        } catch (RuntimeException e) {
+            log.warn("Could not acquire the lease of job {}, skipping this run: {}", job, e.getMessage());
+            return false;
+        }
+        synchronized (this) {
+            runningJobs.add(job);
+        }
+        try {
+            task.run();
+        } finally {
+            synchronized (this) {
+                runningJobs.remove(job);
+            }
+            leaseRepository.release(job, nodeId);
+        }
+        return true;
+    }
+
+    /**
+     * Run {@code task} over the shards of {@code job} this node holds, after taking any shard no live node holds.
+     * Holding a shard is what makes its keys this node's work: the leases are kept after the task.
+     *
+     * @return whether the task ran, false when every shard is held by other nodes
+     */
+    public boolean runSharded(String job, Consumer<Shards> task) {
+        if (!enabled) {
+            task.accept(Shards.ALL);
+            return true;
+        }
+        knownJobs.add(job);
+        Shards shards;
+        synchronized (this) {
+            try {
+                shards = claimFree(job);
+            } catch (RuntimeException e) {
+                log.warn("Could not claim the shards of job {}, skipping this run: {}", job, e.getMessage());
+                return false;
+            }
+            if (shards.owned().isEmpty()) {
+                log.debug("Skipping job {}, its shards are held by other nodes", job);
+                return false;
+            }
+            runningJobs.add(job);
+        }
+        try {
+            task.accept(shards);
+        } finally {
+            synchronized (this) {
+                runningJobs.remove(job);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Record this node as live, renew its leases and rebalance the shards of idle sharded jobs.
+     */
+    @Scheduled(fixedDelayString = "${cluster.heartbeat-interval:PT10S}")
+    public void heartbeat() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            LocalDateTime now = LocalDateTime.now(clock);
+            leaseRepository.heartbeat(nodeId, now);
+            leaseRepository.renewAll(nodeId, now.plus(leaseTtl));
+            leaseRepository.deleteStaleNodes(now.minus(leaseTtl.multipliedBy(STALE_NODE_TTLS)));
+
+            Set<String> jobs = new TreeSet<>(knownJobs);
+            jobs.addAll(leaseRepository.findShardedJobs());
+            for (String job : jobs) {
+                synchronized (this) {
+                    if (!runningJobs.contains(job)) {
+                        rebalance(job, now);
+                    }
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("Job coordination heartbeat of node {} failed: {}", nodeId, e.getMessage());
+        }
+    }
+
+    /**
+     * Hand this node's leases over right away instead of letting them expire.
+     */
+    @PreDestroy
+    public void leave() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            leaseRepository.releaseAll(nodeId);
+            leaseRepository.deleteNode(nodeId);
+        } catch (RuntimeException e) {
+            log.warn("Node {} could not release its job leases: {}", nodeId, e.getMessage());
+        }
+    }
+
+    /**
+     * Take the free shards of {@code job} and return every shard this node holds.
+     */
+    private Shards claimFree(String job) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        LocalDateTime expiresAt = now.plus(leaseTtl);
+        leaseRepository.heartbeat(nodeId, now);
+        Map<Integer, Lease> leases = shardLeases(job);
+        List<Integer> owned = new ArrayList<>();
+        for (int shard = 0; shard < shardCount; shard++) {
+            Lease lease = leases.get(shard);
+            boolean mine = lease != null && lease.isHeldBy(nodeId, now);
+            if ((mine || lease == null || lease.isExpired(now))
+                    && leaseRepository.tryAcquire(shardLease(job, shard), nodeId, now, expiresAt)) {
+                owned.add(shard);
+            }
+        }
+        return new Shards(shardCount, owned);
+    }
+
+    /**
+     * Move this node's share of {@code job} towards an even split: give away shards above the fair share,
+     * take free shards below it. The nodes that join take over what the others give away on later heartbeats.
+     */
+    private void rebalance(String job, LocalDateTime now) {
+        List<String> liveNodes = leaseRepository.findLiveNodes(now.minus(leaseTtl));
+        int fairShare = (shardCount + Math.max(liveNodes.size(), 1) - 1) / Math.max(liveNodes.size(), 1);
+        Map<Integer, Lease> leases = shardLeases(job);
+
+        List<Integer> mine = new ArrayList<>();
+        List<Integer> free = new ArrayList<>();
+        for (int shard = 0; shard < shardCount; shard++) {
+            Lease lease = leases.get(shard);
+            if (lease != null && lease.isHeldBy(nodeId, now)) {
+                mine.add(shard);
+            } else if (lease == null || lease.isExpired(now)) {
+                free.add(shard);
+            }
+        }
+
+        for (int i = mine.size() - 1; i >= fairShare; i--) {
+            leaseRepository.release(shardLease(job, mine.get(i)), nodeId);
+        }
+        // Start at a node-specific offset so that nodes joining together mostly try different shards
+        int offset = Math.max(liveNodes.indexOf(nodeId), 0) * fairShare;
+        free.sort((a, b) -> Integer.compare(Math.floorMod(a - offset, shardCount),
+                Math.floorMod(b - offset, shardCount)));
+        LocalDateTime expiresAt = now.plus(leaseTtl);
+        for (int i = 0, held = mine.size(); i < free.size() && held < fairShare; i++) {
+            if (leaseRepository.tryAcquire(shardLease(job, free.get(i)), nodeId, now, expiresAt)) {
+                held++;
+            }
+        }
+    }
+
+    private Map<Integer, Lease> shardLeases(String job) {
+        String prefix = job + SHARD_SEPARATOR;
+        return leaseRepository.findByPrefix(prefix).stream()
+                .collect(Collectors.toMap(l -> Integer.parseInt(l.name().substring(prefix.length())), l -> l));
+    }
+
+    private static String shardLease(String job, int shard) {
+        return job + SHARD_SEPARATOR + shard;
+    }
+
+    private static String defaultNodeId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            host = "node";
+        }
+        return host + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    /**
+     * Shards of a sharded job held by this node. A key belongs to shard {@code key mod count}; queries select
+     * their slice with {@code MOD(key, count) IN owned}.
+     */
+    public record Shards(int count, List<Integer> owned) {
+
+        /** All keys, for runs without coordination: every key modulo one is zero. */
+        public static final Shards ALL = new Shards(1, List.of(0));
+
+        public boolean owns(long key) {
+            return owned.contains((int) Math.floorMod(key, (long) count));
+        }
+    }
+}
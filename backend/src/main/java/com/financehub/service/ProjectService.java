@@ -80,4 +80,3 @@ public class ProjectService {
         return dto;
     }
 }
-}
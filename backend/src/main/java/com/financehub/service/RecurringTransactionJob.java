@@ -0,0 +1,82 @@
+package com.financehub.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * Nightly job posting the due occurrences of auto-create recurring templates.
+ * Pages through the due templates by id in chunks of {@code recurring.materializer.chunk-size}, each chunk in
+ * its own transaction (see {@link RecurringTransactionMaterializer}). A failed chunk ends the run; its templates
+ * are still due and are caught up by the next run. Templates are sharded by user between the nodes
+ * (see {@link JobCoordinator}).
+ *
+ * @author tekteku
+ * @version 1.0
+ * @since 2025-11-17
+ */
+@Component
+@ConditionalOnProperty(name = "recurring.materializer.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class RecurringTransactionJob {
+
+    static final String JOB = "recurring-materializer";
+
+    private final RecurringTransactionMaterializer materializer;
+    private final JobCoordinator coordinator;
+    private final int chunkSize;
+    private final Timer runTimer;
+    private final Counter templateCounter;
+    private final Counter transactionCounter;
+
+    public RecurringTransactionJob(RecurringTransactionMaterializer materializer,
+                                   JobCoordinator coordinator,
+                                   @Value("${recurring.materializer.chunk-size:1000}") int chunkSize,
+                                   MeterRegistry meterRegistry) {
+        this.materializer = materializer;
+        this.coordinator = coordinator;
+        this.chunkSize = chunkSize;
+        this.runTimer = Timer.builder("recurring.materializer.run")
+                .description("Time spent posting due recurring transactions")
+                .register(meterRegistry);
+        this.templateCounter = Counter.builder("recurring.materializer.templates")
+                .description("Due recurring templates processed")
+                .register(meterRegistry);
+        this.transactionCounter = Counter.builder("recurring.materializer.transactions")
+                .description("Transactions created from recurring templates")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${recurring.materializer.cron:0 0 2 * * *}")
+    public void materializeDue() {
+        coordinator.runSharded(JOB, shards -> runTimer.record(() -> {
+            LocalDate today = LocalDate.now();
+            long afterId = 0;
+            long templates = 0;
+            long transactions = 0;
+            RecurringTransactionMaterializer.Chunk chunk;
+            do {
+                try {
+                    chunk = materializer.materialize(shards, today, afterId, chunkSize);
+                } catch (RuntimeException e) {
+                    log.warn("Posting recurring templates after id {} failed, will retry next run: {}",
+                            afterId, e.getMessage());
+                    break;
+                }
+                afterId = chunk.lastId();
+                templates += chunk.templates();
+                transactions += chunk.transactions();
+                templateCounter.increment(chunk.templates());
+                transactionCounter.increment(chunk.transactions());
+            } while (chunk.templates() == chunkSize);
+            log.info("Posted {} transactions from {} due recurring templates", transactions, templates);
+        }));
+    }
+}
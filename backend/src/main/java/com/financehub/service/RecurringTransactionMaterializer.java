@@ -0,0 +1,168 @@
+package com.financehub.service;
+
+import com.financehub.entity.RecurringTransaction;
+import com.financehub.repository.RecurringTransactionBatchRepository;
+import com.financehub.repository.RecurringTransactionBatchRepository.Advance;
+import com.financehub.repository.RecurringTransactionRepository;
+import com.financehub.repository.TransactionBatchRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Creates the transactions of auto-create recurring templates, one chunk of templates per database transaction.
+ * Every occurrence from a template's next occurrence date up to today (and its end date) is posted, so runs
+ * missed during downtime are caught up. Advancing the schedules, inserting the transactions, the balance
+ * journal entries and the daily rollup changes all commit together, and the schedules are advanced by
+ * compare-and-set (see {@link RecurringTransactionBatchRepository}): a crash rolls the whole chunk back,
+ * and a template is never posted twice for the same occurrence, even by concurrent runs.
+ *
+ * @author tekteku
+ * @version 1.0
+ * @since 2025-11-17
+ */
+@Service
+@Slf4j
+public class RecurringTransactionMaterializer {
+
+    private static final String CREATED_BY = "system";
+
+    private final RecurringTransactionRepository recurringRepository;
+    private final RecurringTransactionBatchRepository recurringBatchRepository;
+    private final TransactionBatchRepository transactionBatchRepository;
+    private final BalanceLedgerService ledgerService;
+    private final DailyRollupService rollupService;
+    private final TransactionColumnCache columnCache;
+    private final UserDataVersions dataVersions;
+    private final int insertBatchSize;
+
+    public RecurringTransactionMaterializer(RecurringTransactionRepository recurringRepository,
+                                            RecurringTransactionBatchRepository recurringBatchRepository,
+                                            TransactionBatchRepository transactionBatchRepository,
+                                            BalanceLedgerService ledgerService,
+                                            DailyRollupService rollupService,
+                                            TransactionColumnCache columnCache,
+                                            UserDataVersions dataVersions,
+                                            @Value("${recurring.materializer.insert-batch-size:1000}") int insertBatchSize) {
+        this.recurringRepository = recurringRepository;
+        this.recurringBatchRepository = recurringBatchRepository;
+        this.transactionBatchRepository = transactionBatchRepository;
+        this.ledgerService = ledgerService;
+        this.rollupService = rollupService;
+        this.columnCache = columnCache;
+        this.dataVersions = dataVersions;
+        this.insertBatchSize = insertBatchSize;
+    }
+
+    /**
+     * Post the due occurrences of up to {@code limit} templates of all users with an id above {@code afterId}.
+     */
+    @Transactional
+    public Chunk materialize(LocalDate today, long afterId, int limit) {
+        return materialize(JobCoordinator.Shards.ALL, today, afterId, limit);
+    }
+
+    /**
+     * Post the due occurrences of up to {@code limit} templates of the users in {@code shards} with an id above
+     * {@code afterId}.
+     */
+    @Transactional
+    public Chunk materialize(JobCoordinator.Shards shards, LocalDate today, long afterId, int limit) {
+        List<RecurringTransaction> templates = recurringRepository.findAutoCreateDuePage(
+                shards.count(), shards.owned(), today, afterId, PageRequest.ofSize(limit));
+        if (templates.isEmpty()) {
+            return new Chunk(afterId, 0, 0);
+        }
+
+        List<List<LocalDate>> occurrences = new ArrayList<>(templates.size());
+        List<Advance> advances = new ArrayList<>(templates.size());
+        for (RecurringTransaction template : templates) {
+            List<LocalDate> dates = dueOccurrences(template, today);
+            occurrences.add(dates);
+            LocalDate last = dates.get(dates.size() - 1);
+            advances.add(new Advance(template.getId(), template.getNextOccurrenceDate(),
+                    template.getFrequency().occurrenceAfter(template.getStartDate(), last), last));
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        boolean[] applied = recurringBatchRepository.advance(advances, now);
+
+        List<TransactionBatchRepository.Row> batch = new ArrayList<>(Math.min(insertBatchSize, 1024));
+        Map<Long, BigDecimal> balanceDeltas = new HashMap<>();
+        DailyRollupService.Changes rollupChanges = new DailyRollupService.Changes();
+        Set<Long> userIds = new HashSet<>();
+        int created = 0;
+        for (int i = 0; i < templates.size(); i++) {
+            if (!applied[i]) {
+                // Advanced by another run since it was read, which posted these occurrences
+                continue;
+            }
+            RecurringTransaction template = templates.get(i);
+            Long accountId = template.getAccount().getId();
+            Long userId = template.getAccount().getUser().getId();
+            Long categoryId = template.getCategory() != null ? template.getCategory().getId() : null;
+            String description = template.getDescription() != null ? template.getDescription() : template.getName();
+            for (LocalDate date : occurrences.get(i)) {
+                batch.add(new TransactionBatchRepository.Row(template.getAmount(), template.getType().name(), date,
+                        description, null, template.getPayee(), userId, accountId, categoryId, template.getId()));
+                balanceDeltas.merge(accountId, template.getType().balanceEffect(template.getAmount()), BigDecimal::add);
+                rollupChanges.add(userId, date, categoryId, template.getType(), template.getAmount(), 1);
+                if (batch.size() >= insertBatchSize) {
+                    created += flush(batch, now);
+                }
+            }
+            userIds.add(userId);
+        }
+        created += flush(batch, now);
+
+        ledgerService.record(balanceDeltas, null);
+        rollupService.record(rollupChanges);
+        for (Long userId : userIds) {
+            columnCache.invalidate(userId);
+            dataVersions.bump(userId);
+        }
+        log.debug("Posted {} transactions for {} recurring templates", created, templates.size());
+        return new Chunk(templates.get(templates.size() - 1).getId(), templates.size(), created);
+    }
+
+    /**
+     * Occurrences from the template's next occurrence date up to today and its end date, at least one.
+     */
+    private static List<LocalDate> dueOccurrences(RecurringTransaction template, LocalDate today) {
+        LocalDate until = template.getEndDate() != null && template.getEndDate().isBefore(today)
+                ? template.getEndDate() : today;
+        List<LocalDate> dates = new ArrayList<>();
+        LocalDate date = template.getNextOccurrenceDate();
+        do {
+            dates.add(date);
+            date = template.getFrequency().occurrenceAfter(template.getStartDate(), date);
+        } while (!date.isAfter(until));
+        return dates;
+    }
+
+    private int flush(List<TransactionBatchRepository.Row> batch, Timestamp now) {
+        int size = batch.size();
+        transactionBatchRepository.insertBatch(batch, now, CREATED_BY);
+        batch.clear();
+        return size;
+    }
+
+    /**
+     * Outcome of one chunk: the last template id read, the number of templates read and of transactions created.
+     */
+    public record Chunk(long lastId, int templates, int transactions) {
+    }
+}
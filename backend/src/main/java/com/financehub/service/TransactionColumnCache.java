@@ -0,0 +1,185 @@
+package com.financehub.service;
+
+import com.financehub.entity.Transaction;
+import com.financehub.entity.Transaction.TransactionType;
+import com.financehub.repository.TransactionRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.BaseUnits;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.stream.Stream;
+
+/**
+ * Optional per-user cache of {@link TransactionColumns} for analytics, enabled with
+ * {@code analytics.column-cache.enabled}.
+ * Users are loaded on first use and evicted as a whole once the memory budget
+ * ({@code analytics.column-cache.max-memory}) is exceeded, users that were not read recently first.
+ * Transaction writes are applied to cached users after their database transaction commits; rows are
+ * replaced by id, so a change that is both loaded and applied is not counted twice.
+ * Those hooks only see this node's writes. When {@link UserDataVersions} are shared between nodes,
+ * each user's columns are tagged with the data version read before loading them and reloaded once
+ * the current version differs, so writes, materializer and import runs on other nodes are never missed.
+ *
+ * @author tekteku
+ * @version 1.0
+ * @since 2025-11-17
+ */
+@Component
+@Slf4j
+public class TransactionColumnCache {
+    
+    private final boolean enabled;
+    private final TransactionRepository transactionRepository;
+    private final UserDataVersions dataVersions;
+    private final TransactionTemplate readOnlyTemplate;
+    private final Cache<Long, VersionedColumns> cache;
+    
+    public TransactionColumnCache(@Value("${analytics.column-cache.enabled:false}") boolean enabled,
+                                  @Value("${analytics.column-cache.max-memory:64MB}") DataSize maxMemory,
+                                  TransactionRepository transactionRepository,
+                                  UserDataVersions dataVersions,
+                                  PlatformTransactionManager transactionManager,
+                                  MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.transactionRepository = transactionRepository;
+        this.dataVersions = dataVersions;
+        this.readOnlyTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTemplate.setReadOnly(true);
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxMemory.toBytes())
+                .weigher((Long userId, VersionedColumns entry) ->
+                        (int) Math.min(entry.columns().estimatedBytes(), Integer.MAX_VALUE))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "analytics.transaction-columns");
+        Gauge.builder("analytics.transaction-columns.memory", this, TransactionColumnCache::weightedBytes)
+                .description("Estimated heap used by cached transaction columns")
+                .baseUnit(BaseUnits.BYTES)
+                .register(meterRegistry);
+    }
+    
+    public boolean isEnabled() {
+        return enabled;
+    }
+    
+    /**
+     * Columns of the user, loaded on a miss or when the shared data version moved on; null when the cache
+     * is disabled or the shared version cannot be read.
+     */
+    public TransactionColumns get(Long userId) {
+        if (!enabled) {
+            return null;
+        }
+        if (!dataVersions.isShared()) {
+            return cache.get(userId, id -> new VersionedColumns(0, load(id))).columns();
+        }
+        long version;
+        try {
+            version = dataVersions.current(userId);
+        } catch (RuntimeException e) {
+            log.warn("Data version of user {} unavailable, bypassing the column cache: {}", userId, e.getMessage());
+            return null;
+        }
+        return cache.asMap().compute(userId, (id, cached) -> cached != null && cached.version() >= version
+                ? cached : new VersionedColumns(version, load(id))).columns();
+    }
+    
+    /**
+     * Insert or replace a transaction in the user's cached columns once the current transaction commits.
+     */
+    public void saved(Long userId, Transaction transaction) {
+        if (!enabled) {
+            return;
+        }
+        long id = transaction.getId();
+        LocalDate date = transaction.getTransactionDate();
+        BigDecimal amount = transaction.getAmount();
+        Long categoryId = transaction.getCategory() != null ? transaction.getCategory().getId() : null;
+        TransactionType type = transaction.getType();
+        afterCommit(() -> cache.asMap().computeIfPresent(userId,
+                (key, entry) -> entry.with(entry.columns().upsert(id, date, amount, categoryId, type))));
+    }
+    
+    /**
+     * Remove a transaction from the user's cached columns once the current transaction commits.
+     */
+    public void deleted(Long userId, Long transactionId) {
+        if (!enabled) {
+            return;
+        }
+        afterCommit(() -> cache.asMap().computeIfPresent(userId,
+                (key, entry) -> entry.with(entry.columns().remove(transactionId))));
+    }
+    
+    /**
+     * Drop the user once the current transaction commits, e.g. after a bulk write.
+     */
+    public void invalidate(Long userId) {
+        if (!enabled) {
+            return;
+        }
+        afterCommit(() -> cache.invalidate(userId));
+    }
+    
+    long weightedBytes() {
+        return cache.policy().eviction()
+                .map(eviction -> eviction.weightedSize().orElse(0L))
+                .orElse(0L);
+    }
+    
+    private TransactionColumns load(Long userId) {
+        long start = System.nanoTime();
+        TransactionColumns columns = readOnlyTemplate.execute(status -> {
+            TransactionColumns.Builder builder = TransactionColumns.builder();
+            try (Stream<Object[]> rows = transactionRepository.streamColumns(userId)) {
+                rows.forEach(row -> builder.add((Long) row[0], (LocalDate) row[1], (BigDecimal) row[2],
+                        (Long) row[3], (TransactionType) row[4]));
+            }
+            return builder.build();
+        });
+        log.debug("Loaded {} transactions of user {} into the column cache in {} ms",
+                columns.size(), userId, (System.nanoTime() - start) / 1_000_000);
+        return columns;
+    }
+    
+    /**
+     * A user's columns and the data version read before they were loaded. Local writes applied later keep
+     * the version, the load that follows the next version change picks them up again.
+     */
+    private record VersionedColumns(long version, TransactionColumns columns) {
+
+        VersionedColumns with(TransactionColumns changed) {
+            return new VersionedColumns(version, changed);
+        }
+    }
+    
+    /**
+     * Run the action after the surrounding transaction commits, or now when there is none.
+     * Rolled back writes never reach the cache.
+     */
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
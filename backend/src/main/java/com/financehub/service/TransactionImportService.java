@@ -0,0 +1,395 @@
+package com.financehub.service;
+
+import com.financehub.dto.ImportJobStatus;
+import com.financehub.dto.ImportJobStatus.RowError;
+import com.financehub.dto.ImportJobStatus.Status;
+import com.financehub.entity.Account;
+import com.financehub.entity.Category;
+import com.financehub.entity.Transaction.TransactionType;
+import com.financehub.exception.BadRequestException;
+import com.financehub.exception.ResourceNotFoundException;
+import com.financehub.exception.ServiceUnavailableException;
+import com.financehub.repository.AccountRepository;
+import com.financehub.repository.CategoryRepository;
+import com.financehub.repository.TransactionBatchRepository;
+import com.financehub.service.importer.CsvTransactionParser;
+import com.financehub.service.importer.ImportRow;
+import com.financehub.service.importer.OfxTransactionParser;
+import com.financehub.service.importer.TransactionFileParser;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Service for bulk transaction imports from CSV and OFX files.
+ * Uploads are spooled to a temporary file and processed by a small background executor.
+ * Each file is parsed incrementally, accounts and categories are resolved once up front,
+ * rows are inserted in JDBC batches, and one balance journal entry per touched account and the merged
+ * daily rollup changes are written at the end, all in one database transaction. Progress can be polled while the job runs.
+ *
+ * @author tekteku
+ * @version 1.0
+ * @since 2025-11-14
+ */
+@Service
+@Slf4j
+public class TransactionImportService {
+
+    private final AccountRepository accountRepository;
+    private final CategoryRepository categoryRepository;
+    private final TransactionBatchRepository batchRepository;
+    private final BalanceLedgerService ledgerService;
+    private final DailyRollupService rollupService;
+    private final TransactionColumnCache columnCache;
+    private final UserDataVersions dataVersions;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolExecutor executor;
+    private final Cache<String, ImportJob> jobs;
+    private final int batchSize;
+    private final int maxErrors;
+
+    /**
+     * Supported import file formats.
+     */
+    public enum ImportFormat {
+        CSV,
+        OFX;
+
+        static ImportFormat fromFileName(String fileName) {
+            String name = fileName != null ? fileName.toLowerCase(Locale.ROOT) : "";
+            return name.endsWith(".ofx") || name.endsWith(".qfx") ? OFX : CSV;
+        }
+    }
+
+    public TransactionImportService(AccountRepository accountRepository,
+                                    CategoryRepository categoryRepository,
+                                    TransactionBatchRepository batchRepository,
+                                    BalanceLedgerService ledgerService,
+                                    DailyRollupService rollupService,
+                                    TransactionColumnCache columnCache,
+                                    UserDataVersions dataVersions,
+                                    PlatformTransactionManager transactionManager,
+                                    @Value("${transactions.import.batch-size:1000}") int batchSize,
+                                    @Value("${transactions.import.threads:2}") int threads,
+                                    @Value("${transactions.import.queue-capacity:8}") int queueCapacity,
+                                    @Value("${transactions.import.max-errors:100}") int maxErrors,
+                                    @Value("${transactions.import.retention:1h}") Duration retention) {
+        this.accountRepository = accountRepository;
+        this.categoryRepository = categoryRepository;
+        this.batchRepository = batchRepository;
+        this.ledgerService = ledgerService;
+        this.rollupService = rollupService;
+        this.columnCache = columnCache;
+        this.dataVersions = dataVersions;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxErrors = maxErrors;
+        this.jobs = Caffeine.newBuilder().expireAfterWrite(retention).build();
+
+        AtomicInteger counter = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "transaction-import-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * Accept an uploaded file and queue it for import.
+     *
+     * @param defaultAccountId account for rows without an account column; required for OFX files
+     */
+    public ImportJobStatus startImport(Long userId, String username, Long defaultAccountId,
+                                       ImportFormat format, MultipartFile file) {
+        if (file == null || file.isEmpty()) {
+            throw new BadRequestException("Import file is empty");
+        }
+        ImportFormat resolvedFormat = format != null ? format : ImportFormat.fromFileName(file.getOriginalFilename());
+        if (resolvedFormat == ImportFormat.OFX && defaultAccountId == null) {
+            throw new BadRequestException("accountId is required for OFX imports");
+        }
+        if (defaultAccountId != null && !accountRepository.existsByIdAndUserId(defaultAccountId, userId)) {
+            throw new ResourceNotFoundException("Account", "id", defaultAccountId);
+        }
+
+        Path spool;
+        try {
+            spool = Files.createTempFile("transaction-import-", "." + resolvedFormat.name().toLowerCase(Locale.ROOT));
+            file.transferTo(spool);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not store import file", e);
+        }
+
+        ImportJob job = new ImportJob(UUID.randomUUID().toString(), userId, username, defaultAccountId,
+                resolvedFormat, file.getOriginalFilename());
+        jobs.put(job.id, job);
+        try {
+            executor.execute(() -> run(job, spool));
+        } catch (RejectedExecutionException e) {
+            jobs.invalidate(job.id);
+            deleteQuietly(spool);
+            throw new ServiceUnavailableException("Too many imports in progress, please retry shortly");
+        }
+
+        log.info("Queued {} import {} of '{}' for user {}", resolvedFormat, job.id, job.fileName, userId);
+        return job.toStatus();
+    }
+
+    /**
+     * Get the progress of an import job owned by the given user.
+     */
+    public ImportJobStatus getStatus(Long userId, String jobId) {
+        ImportJob job = jobs.getIfPresent(jobId);
+        if (job == null || !job.userId.equals(userId)) {
+            throw new ResourceNotFoundException("Import job", "id", jobId);
+        }
+        return job.toStatus();
+    }
+
+    /**
+     * Run a job against a spooled file and delete the file afterwards.
+     */
+    ImportJobStatus run(ImportJob job, Path spool) {
+        job.status = Status.RUNNING;
+        job.startedAt = LocalDateTime.now();
+        long started = System.nanoTime();
+        try (Reader reader = Files.newBufferedReader(spool, StandardCharsets.UTF_8);
+             TransactionFileParser parser = job.format == ImportFormat.OFX
+                     ? new OfxTransactionParser(reader)
+                     : new CsvTransactionParser(reader)) {
+            transactionTemplate.executeWithoutResult(tx -> importRows(job, parser));
+            job.status = Status.COMPLETED;
+            long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+            log.info("Import {} completed: {} imported, {} rejected in {} ms",
+                    job.id, job.imported.get(), job.failed.get(), millis);
+        } catch (Exception e) {
+            job.imported.set(0);
+            job.status = Status.FAILED;
+            job.message = e instanceof UncheckedIOException ? e.getCause().getMessage() : e.getMessage();
+            log.error("Import {} failed after {} rows: {}", job.id, job.processed.get(), e.getMessage());
+        } finally {
+            job.finishedAt = LocalDateTime.now();
+            deleteQuietly(spool);
+        }
+        return job.toStatus();
+    }
+
+    private void importRows(ImportJob job, TransactionFileParser parser) {
+        Map<String, Long> accounts = accountLookup(job.userId);
+        Map<String, Long> categories = categoryLookup(job.userId);
+        Map<Long, BigDecimal> balanceDeltas = new HashMap<>();
+        DailyRollupService.Changes rollupChanges = new DailyRollupService.Changes();
+        List<TransactionBatchRepository.Row> batch = new ArrayList<>(batchSize);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        LocalDate today = LocalDate.now();
+
+        ImportRow row;
+        while ((row = nextRow(parser)) != null) {
+            job.processed.incrementAndGet();
+            if (row.getError() != null) {
+                job.reject(row.getLine(), row.getError(), maxErrors);
+                continue;
+            }
+
+            Long accountId = row.getAccount() != null
+                    ? accounts.get(row.getAccount().toLowerCase(Locale.ROOT))
+                    : job.defaultAccountId;
+            if (accountId == null) {
+                job.reject(row.getLine(), row.getAccount() != null
+                        ? "Unknown account '" + row.getAccount() + "'" : "No account given", maxErrors);
+                continue;
+            }
+
+            Long categoryId = null;
+            if (row.getCategory() != null) {
+                categoryId = categories.get(row.getCategory().toLowerCase(Locale.ROOT));
+                if (categoryId == null) {
+                    job.reject(row.getLine(), "Unknown category '" + row.getCategory() + "'", maxErrors);
+                    continue;
+                }
+            }
+
+            BigDecimal amount = row.getAmount().abs().setScale(2, RoundingMode.HALF_UP);
+            if (amount.signum() == 0) {
+                job.reject(row.getLine(), "Transaction amount must be greater than 0", maxErrors);
+                continue;
+            }
+            if (row.getDate().isAfter(today)) {
+                job.reject(row.getLine(), "Transaction date cannot be in the future", maxErrors);
+                continue;
+            }
+
+            TransactionType type = row.getType() != null
+                    ? row.getType()
+                    : row.getAmount().signum() < 0 ? TransactionType.EXPENSE : TransactionType.INCOME;
+
+            batch.add(new TransactionBatchRepository.Row(amount, type.name(), row.getDate(),
+                    truncate(row.getDescription(), 500), truncate(row.getNotes(), 200),
+                    truncate(row.getPayee(), 100), job.userId, accountId, categoryId));
+            balanceDeltas.merge(accountId, type.balanceEffect(amount), BigDecimal::add);
+            rollupChanges.add(job.userId, row.getDate(), categoryId, type, amount, 1);
+
+            if (batch.size() >= batchSize) {
+                flush(job, batch, now);
+            }
+        }
+        flush(job, batch, now);
+
+        ledgerService.record(balanceDeltas, null);
+        rollupService.record(rollupChanges);
+        columnCache.invalidate(job.userId);
+        dataVersions.bump(job.userId);
+    }
+
+    private void flush(ImportJob job, List<TransactionBatchRepository.Row> batch, Timestamp now) {
+        batchRepository.insertBatch(batch, now, job.username);
+        job.imported.addAndGet(batch.size());
+        batch.clear();
+    }
+
+    private static ImportRow nextRow(TransactionFileParser parser) {
+        try {
+            return parser.next();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Map<String, Long> accountLookup(Long userId) {
+        Map<String, Long> lookup = new HashMap<>();
+        for (Account account : accountRepository.findByUserId(userId)) {
+            lookup.put(account.getName().toLowerCase(Locale.ROOT), account.getId());
+            lookup.put(account.getId().toString(), account.getId());
+        }
+        return lookup;
+    }
+
+    private Map<String, Long> categoryLookup(Long userId) {
+        Map<String, Long> lookup = new HashMap<>();
+        for (Category category : categoryRepository.findAllAvailableForUser(userId)) {
+            // A user's own category wins over a system category of the same name
+            if (!Boolean.TRUE.equals(category.getIsSystem())) {
+                lookup.put(category.getName().toLowerCase(Locale.ROOT), category.getId());
+            } else {
+                lookup.putIfAbsent(category.getName().toLowerCase(Locale.ROOT), category.getId());
+            }
+            lookup.put(category.getId().toString(), category.getId());
+        }
+        return lookup;
+    }
+
+    private static String truncate(String value, int maxLength) {
+        return value != null && value.length() > maxLength ? value.substring(0, maxLength) : value;
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Could not delete import spool file {}", path);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * Mutable progress of a running import; read concurrently by status requests.
+     */
+    static class ImportJob {
+
+        private final String id;
+        private final Long userId;
+        private final String username;
+        private final Long defaultAccountId;
+        private final ImportFormat format;
+        private final String fileName;
+        private final AtomicLong processed = new AtomicLong();
+        private final AtomicLong imported = new AtomicLong();
+        private final AtomicLong failed = new AtomicLong();
+        private final List<RowError> errors = new ArrayList<>();
+        private volatile Status status = Status.QUEUED;
+        private volatile String message;
+        private volatile LocalDateTime startedAt;
+        private volatile LocalDateTime finishedAt;
+
+        ImportJob(String id, Long userId, String username, Long defaultAccountId,
+                  ImportFormat format, String fileName) {
+            this.id = id;
+            this.userId = userId;
+            this.username = username;
+            this.defaultAccountId = defaultAccountId;
+            this.format = format;
+            this.fileName = fileName;
+        }
+
+        String getId() {
+            return id;
+        }
+
+        void reject(long line, String message, int maxErrors) {
+            failed.incrementAndGet();
+            synchronized (errors) {
+                if (errors.size() < maxErrors) {
+                    errors.add(new RowError(line, message));
+                }
+            }
+        }
+
+        ImportJobStatus toStatus() {
+            List<RowError> errorsCopy;
+            synchronized (errors) {
+                errorsCopy = List.copyOf(errors);
+            }
+            return ImportJobStatus.builder()
+                    .jobId(id)
+                    .status(status)
+                    .fileName(fileName)
+                    .processedRows(processed.get())
+                    .importedRows(imported.get())
+                    .failedRows(failed.get())
+                    .errors(errorsCopy)
+                    .message(message)
+                    .startedAt(startedAt)
+                    .finishedAt(finishedAt)
+                    .build();
+        }
+    }
+}
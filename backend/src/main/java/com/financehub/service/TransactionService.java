@@ -1,30 +1,32 @@
 package com.financehub.service;
 
+import com.financehub.dto.CursorPage;
+import com.financehub.dto.TransactionCursor;
 import com.financehub.dto.TransactionRequest;
 import com.financehub.dto.TransactionResponse;
 import com.financehub.entity.Account;
 import com.financehub.entity.Category;
 import com.financehub.entity.Transaction;
-import com.financehub.entity.User;
 import com.financehub.exception.BadRequestException;
 import com.financehub.exception.ResourceNotFoundException;
 import com.financehub.mapper.EntityMapper;
 import com.financehub.repository.AccountRepository;
 import com.financehub.repository.CategoryRepository;
 import com.financehub.repository.TransactionRepository;
-import com.financehub.repository.UserRepository;
+import com.financehub.security.SecurityUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -39,11 +41,16 @@ import java.util.stream.Collectors;
 @Slf4j
 public class TransactionService {
     
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+    
     private final TransactionRepository transactionRepository;
     private final AccountRepository accountRepository;
     private final CategoryRepository categoryRepository;
-    private final UserRepository userRepository;
     private final EntityMapper mapper;
+    private final BalanceLedgerService ledgerService;
+    private final DailyRollupService rollupService;
+    private final TransactionColumnCache columnCache;
+    private final UserDataVersions dataVersions;
     
     /**
      * Get all transactions for the current user with pagination.
@@ -88,6 +95,54 @@ public class TransactionService {
         return transactions.map(mapper::toTransactionResponse);
     }
     
+    /**
+     * Get transactions for the current user using keyset pagination.
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<TransactionResponse> getTransactionsPage(String cursor, int size) {
+        Long userId = getCurrentUserId();
+        TransactionCursor position = TransactionCursor.decode(cursor);
+        log.debug("Fetching transaction page after {} for user: {}", position, userId);
+        
+        List<Transaction> rows = transactionRepository.findByUserIdBefore(
+                userId, position.getTransactionDate(), position.getId(), seekLimit(size));
+        return toCursorPage(rows, size);
+    }
+    
+    /**
+     * Get transactions by type using keyset pagination.
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<TransactionResponse> getTransactionsPageByType(
+            Transaction.TransactionType type, String cursor, int size) {
+        Long userId = getCurrentUserId();
+        TransactionCursor position = TransactionCursor.decode(cursor);
+        log.debug("Fetching {} transaction page after {} for user: {}", type, position, userId);
+        
+        List<Transaction> rows = transactionRepository.findByUserIdAndTypeBefore(
+                userId, type, position.getTransactionDate(), position.getId(), seekLimit(size));
+        return toCursorPage(rows, size);
+    }
+    
+    /**
+     * Get transactions by account using keyset pagination.
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<TransactionResponse> getTransactionsPageByAccount(Long accountId, String cursor, int size) {
+        Long userId = getCurrentUserId();
+        TransactionCursor position = TransactionCursor.decode(cursor);
+        log.debug("Fetching transaction page after {} for account {} and user: {}", position, accountId, userId);
+        
+        // Verify account belongs to user
+        if (!accountRepository.existsByIdAndUserId(accountId, userId)) {
+            throw new ResourceNotFoundException("Account", "id", accountId);
+        }
+        
+        List<Transaction> rows = transactionRepository.findByAccountIdBefore(
+                accountId, position.getTransactionDate(), position.getId(), seekLimit(size));
+        return toCursorPage(rows, size);
+    }
+    
     /**
      * Get transaction by ID.
      */
@@ -141,11 +196,12 @@ public class TransactionService {
             transaction.setCategory(category);
         }
         
-        // Update account balance
-        updateAccountBalance(account, transaction);
-        
         transaction = transactionRepository.save(transaction);
-        accountRepository.save(account);
+        ledgerService.record(account.getId(), transaction.getType().balanceEffect(transaction.getAmount()),
+                transaction.getId());
+        rollupService.record(userId, transaction, 1);
+        columnCache.saved(userId, transaction);
+        dataVersions.bump(userId);
         
         log.info("Transaction created successfully: {}", transaction.getId());
         return mapper.toTransactionResponse(transaction);
@@ -169,7 +225,9 @@ public class TransactionService {
         Transaction.TransactionType oldType = transaction.getType();
         
         // Revert old transaction effect on balance
-        revertAccountBalance(oldAccount, oldAmount, oldType);
+        Map<Long, BigDecimal> balanceChanges = new HashMap<>();
+        balanceChanges.put(oldAccount.getId(), oldType.balanceEffect(oldAmount).negate());
+        DailyRollupService.Changes rollupChanges = new DailyRollupService.Changes().add(userId, transaction, -1);
         
         // Get new account if changed
         Account newAccount = oldAccount;
@@ -192,13 +250,14 @@ public class TransactionService {
         }
         
         // Apply new transaction effect on balance
-        updateAccountBalance(newAccount, transaction);
+        balanceChanges.merge(newAccount.getId(),
+                transaction.getType().balanceEffect(transaction.getAmount()), BigDecimal::add);
         
         transaction = transactionRepository.save(transaction);
-        accountRepository.save(oldAccount);
-        if (!oldAccount.getId().equals(newAccount.getId())) {
-            accountRepository.save(newAccount);
-        }
+        ledgerService.record(balanceChanges, transaction.getId());
+        rollupService.record(rollupChanges.add(userId, transaction, 1));
+        columnCache.saved(userId, transaction);
+        dataVersions.bump(userId);
         
         log.info("Transaction updated successfully: {}", transaction.getId());
         return mapper.toTransactionResponse(transaction);
@@ -215,13 +274,14 @@ public class TransactionService {
         Transaction transaction = transactionRepository.findByIdAndAccountUserId(id, userId)
                 .orElseThrow(() -> new ResourceNotFoundException("Transaction", "id", id));
         
-        Account account = transaction.getAccount();
-        
-        // Revert transaction effect on balance
-        revertAccountBalance(account, transaction.getAmount(), transaction.getType());
+        Long accountId = transaction.getAccount().getId();
+        BigDecimal reverted = transaction.getType().balanceEffect(transaction.getAmount()).negate();
         
         transactionRepository.delete(transaction);
-        accountRepository.save(account);
+        ledgerService.record(accountId, reverted, id);
+        rollupService.record(userId, transaction, -1);
+        columnCache.deleted(userId, id);
+        dataVersions.bump(userId);
         
         log.info("Transaction deleted successfully: {}", id);
     }
@@ -271,6 +331,36 @@ public class TransactionService {
         return total != null ? total : BigDecimal.ZERO;
     }
     
+    /**
+     * Fetch one row more than requested to learn whether another page exists.
+     */
+    private Pageable seekLimit(int size) {
+        return PageRequest.ofSize(clampPageSize(size) + 1);
+    }
+    
+    private CursorPage<TransactionResponse> toCursorPage(List<Transaction> rows, int requestedSize) {
+        int size = clampPageSize(requestedSize);
+        boolean hasNext = rows.size() > size;
+        List<Transaction> page = hasNext ? rows.subList(0, size) : rows;
+        
+        String nextCursor = null;
+        if (hasNext) {
+            Transaction last = page.get(page.size() - 1);
+            nextCursor = new TransactionCursor(last.getTransactionDate(), last.getId()).encode();
+        }
+        
+        return CursorPage.<TransactionResponse>builder()
+                .content(page.stream().map(mapper::toTransactionResponse).collect(Collectors.toList()))
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .size(size)
+                .build();
+    }
+    
+    private int clampPageSize(int size) {
+        return Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+    }
+    
     private void validateTransactionRequest(TransactionRequest request, Long userId) {
         if (request.getAmount().compareTo(BigDecimal.ZERO) <= 0) {
             throw new BadRequestException("Transaction amount must be greater than 0");
@@ -289,50 +379,7 @@ public class TransactionService {
         }
     }
     
-    private void updateAccountBalance(Account account, Transaction transaction) {
-        BigDecimal newBalance = account.getBalance();
-        
-        switch (transaction.getType()) {
-            case INCOME:
-                newBalance = newBalance.add(transaction.getAmount());
-                break;
-            case EXPENSE:
-                newBalance = newBalance.subtract(transaction.getAmount());
-                break;
-            case TRANSFER:
-                // Transfer logic can be expanded
-                break;
-        }
-        
-        account.setBalance(newBalance);
-    }
-    
-    private void revertAccountBalance(Account account, BigDecimal amount, Transaction.TransactionType type) {
-        BigDecimal newBalance = account.getBalance();
-        
-        switch (type) {
-            case INCOME:
-                newBalance = newBalance.subtract(amount);
-                break;
-            case EXPENSE:
-                newBalance = newBalance.add(amount);
-                break;
-            case TRANSFER:
-                // Transfer logic can be expanded
-                break;
-        }
-        
-        account.setBalance(newBalance);
-    }
-    
     private Long getCurrentUserId() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String username = authentication.getName();
-        
-        User user = userRepository.findByUsername(username)
-                .orElseGet(() -> userRepository.findByEmail(username)
-                        .orElseThrow(() -> new ResourceNotFoundException("User not found")));
-        
-        return user.getId();
+        return SecurityUtils.getCurrentUserId();
     }
 }
@@ -0,0 +1,143 @@
+package com.financehub.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Monotonically increasing per-user data version, bumped by every write that changes what the user's
+ * GET endpoints return. Read results cached in {@link UserResultCache} and HTTP ETags are derived from it.
+ * Versions live in memory, or in Redis with {@code data-version.shared} so that all nodes agree.
+ * A version that is not known yet starts at the current time in milliseconds, so versions handed out
+ * before a restart or a lost Redis key are not repeated.
+ * A bump that fails in Redis is not dropped: until a retry succeeds, {@link #current} throws for that user
+ * on this node, so results are computed instead of read from the cache and responses carry no ETag.
+ * Retries run on the user's next read and every {@code data-version.retry-interval}. Other nodes keep the
+ * old version until then, if Redis still serves them reads.
+ *
+ * @author tekteku
+ * @version 1.0
+ * @since 2025-11-17
+ */
+@Component
+@Slf4j
+public class UserDataVersions {
+
+    private static final String VERSION_KEY = "financehub:version:";
+
+    private final StringRedisTemplate redis;
+    private final ConcurrentMap<Long, AtomicLong> local = new ConcurrentHashMap<>();
+    private final Set<Long> failedBumps = ConcurrentHashMap.newKeySet();
+
+    @Autowired
+    public UserDataVersions(@Value("${data-version.shared:false}") boolean shared,
+                            ObjectProvider<StringRedisTemplate> redisTemplate) {
+        this(shared ? redisTemplate.getIfAvailable() : null);
+        if (shared && redis == null) {
+            throw new IllegalStateException("data-version.shared requires a Redis connection");
+        }
+    }
+
+    /**
+     * @param redis where versions are kept, or null to keep them in this process
+     */
+    UserDataVersions(StringRedisTemplate redis) {
+        this.redis = redis;
+    }
+
+    /**
+     * Whether versions are shared with other nodes through Redis.
+     */
+    public boolean isShared() {
+        return redis != null;
+    }
+
+    /**
+     * Current version of the user's data. Throws when Redis is unreachable, and while a bump of the user
+     * that failed could not be retried, since the stored version no longer describes the data.
+     */
+    public long current(Long userId) {
+        if (redis == null) {
+            return local.computeIfAbsent(userId, id -> new AtomicLong(System.currentTimeMillis())).get();
+        }
+        if (failedBumps.contains(userId) && !retryBump(userId)) {
+            throw new IllegalStateException("Data version of user " + userId + " is behind a failed bump");
+        }
+        String key = VERSION_KEY + userId;
+        String version = redis.opsForValue().get(key);
+        if (version == null) {
+            redis.opsForValue().setIfAbsent(key, Long.toString(System.currentTimeMillis()));
+            version = redis.opsForValue().get(key);
+        }
+        return Long.parseLong(version);
+    }
+
+    /**
+     * Move the user to a new version once the current transaction commits, or now when there is none.
+     * Rolled back writes keep the current version.
+     */
+    public void bump(Long userId) {
+        afterCommit(() -> {
+            if (redis == null) {
+                local.computeIfAbsent(userId, id -> new AtomicLong(System.currentTimeMillis())).incrementAndGet();
+                return;
+            }
+            failedBumps.add(userId);
+            if (!retryBump(userId)) {
+                log.warn("Failed to bump data version of user {}, bypassing its cached results until a retry succeeds",
+                        userId);
+            }
+        });
+    }
+    
+    /**
+     * Retry the bumps that failed, so other nodes see the new version without waiting for a read here.
+     */
+    @Scheduled(fixedDelayString = "${data-version.retry-interval:PT5S}")
+    public void retryFailedBumps() {
+        for (Long userId : failedBumps) {
+            retryBump(userId);
+        }
+    }
+    
+    /**
+     * One increment covers all failed bumps of the user, a new version is all readers need.
+     */
+    private boolean retryBump(Long userId) {
+        String key = VERSION_KEY + userId;
+        try {
+            if (!Boolean.TRUE.equals(redis.opsForValue().setIfAbsent(key, Long.toString(System.currentTimeMillis())))) {
+                redis.opsForValue().increment(key);
+            }
+            failedBumps.remove(userId);
+            return true;
+        } catch (RuntimeException e) {
+            log.debug("Data version bump of user {} failed: {}", userId, e.getMessage());
+            return false;
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
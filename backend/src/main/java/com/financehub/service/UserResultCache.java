@@ -0,0 +1,176 @@
+package com.financehub.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * Redis cache of per-user read results (analytics reports, budget lists), enabled with
+ * {@code analytics.result-cache.enabled}.
+ * Entries are keyed by user id, the user's {@link UserDataVersions data version}, the report name and its
+ * arguments. Writes bump the version once their transaction commits: later reads build new keys, so a stale
+ * entry is never served again and simply expires after {@code analytics.result-cache.ttl}.
+ * The versions must be shared through Redis as well ({@code data-version.shared}).
+ * An optional in-process near cache ({@code near-cache-size} > 0) keeps recently read entries under the
+ * same versioned keys, so a hit there still costs one Redis GET for the version but no payload transfer
+ * or deserialization. Redis failures fall back to computing the result.
+ *
+ * @author tekteku
+ * @version 1.0
+ * @since 2025-11-17
+ */
+@Component
+@Slf4j
+public class UserResultCache {
+
+    private static final String RESULT_KEY = "financehub:result:";
+
+    private final boolean enabled;
+    private final Duration ttl;
+    private final StringRedisTemplate redis;
+    private final UserDataVersions versions;
+    private final Cache<String, Object> nearCache;
+    private final ObjectMapper objectMapper = JsonMapper.builder()
+            .findAndAddModules()
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .build();
+
+    private final Counter nearHits;
+    private final Counter redisHits;
+    private final Counter misses;
+    private final Counter errors;
+
+    @Autowired
+    public UserResultCache(@Value("${analytics.result-cache.enabled:false}") boolean enabled,
+                           @Value("${analytics.result-cache.ttl:10m}") Duration ttl,
+                           @Value("${analytics.result-cache.near-cache-size:1000}") long nearCacheSize,
+                           @Value("${analytics.result-cache.near-cache-ttl:30s}") Duration nearCacheTtl,
+                           ObjectProvider<StringRedisTemplate> redisTemplate,
+                           UserDataVersions versions,
+                           MeterRegistry meterRegistry) {
+        this(enabled, ttl, nearCacheSize, nearCacheTtl, enabled ? redisTemplate.getIfAvailable() : null, versions,
+                meterRegistry);
+    }
+
+    UserResultCache(boolean enabled, Duration ttl, long nearCacheSize, Duration nearCacheTtl,
+                    StringRedisTemplate redis, UserDataVersions versions, MeterRegistry meterRegistry) {
+        if (enabled && redis == null) {
+            throw new IllegalStateException("analytics.result-cache.enabled requires a Redis connection");
+        }
+        if (enabled && !versions.isShared()) {
+            throw new IllegalStateException("analytics.result-cache.enabled requires data-version.shared");
+        }
+        this.enabled = enabled;
+        this.ttl = ttl;
+        this.redis = redis;
+        this.versions = versions;
+        if (enabled && nearCacheSize > 0) {
+            this.nearCache = Caffeine.newBuilder()
+                    .maximumSize(nearCacheSize)
+                    .expireAfterWrite(nearCacheTtl)
+                    .recordStats()
+                    .build();
+            CaffeineCacheMetrics.monitor(meterRegistry, nearCache, "analytics.result-cache.near");
+        } else {
+            this.nearCache = null;
+        }
+        this.nearHits = requests(meterRegistry, "near");
+        this.redisHits = requests(meterRegistry, "redis");
+        this.misses = requests(meterRegistry, "miss");
+        this.errors = requests(meterRegistry, "error");
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Cached result of {@code name} for the user and arguments, computed by the loader on a miss.
+     * The loader runs directly when the cache is disabled or Redis is unreachable.
+     */
+    public <T> T get(Long userId, String name, TypeReference<T> type, Supplier<T> loader, Object... args) {
+        if (!enabled) {
+            return loader.get();
+        }
+
+        String key;
+        try {
+            key = resultKey(userId, versions.current(userId), name, args);
+        } catch (RuntimeException e) {
+            errors.increment();
+            log.warn("Result cache unavailable, computing {} for user {}: {}", name, userId, e.getMessage());
+            return loader.get();
+        }
+
+        if (nearCache != null) {
+            @SuppressWarnings("unchecked")
+            T near = (T) nearCache.getIfPresent(key);
+            if (near != null) {
+                nearHits.increment();
+                return near;
+            }
+        }
+
+        try {
+            String json = redis.opsForValue().get(key);
+            if (json != null) {
+                T value = objectMapper.readValue(json, type);
+                redisHits.increment();
+                putNear(key, value);
+                return value;
+            }
+        } catch (JsonProcessingException | RuntimeException e) {
+            errors.increment();
+            log.warn("Failed to read cached {} for user {}: {}", name, userId, e.getMessage());
+        }
+
+        misses.increment();
+        T value = loader.get();
+        try {
+            redis.opsForValue().set(key, objectMapper.writeValueAsString(value), ttl);
+            putNear(key, value);
+        } catch (JsonProcessingException | RuntimeException e) {
+            errors.increment();
+            log.warn("Failed to cache {} for user {}: {}", name, userId, e.getMessage());
+        }
+        return value;
+    }
+
+    private static String resultKey(Long userId, long version, String name, Object[] args) {
+        StringBuilder key = new StringBuilder(RESULT_KEY)
+                .append(userId).append(":v").append(version).append(':').append(name);
+        for (Object arg : args) {
+            key.append(':').append(arg);
+        }
+        return key.toString();
+    }
+
+    private void putNear(String key, Object value) {
+        if (nearCache != null && value != null) {
+            nearCache.put(key, value);
+        }
+    }
+
+    private static Counter requests(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("analytics.result-cache.requests")
+                .description("Result cache lookups by outcome")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,157 @@
+package com.financehub.service.importer;
+
+import com.financehub.entity.Transaction.TransactionType;
+import com.financehub.exception.BadRequestException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Parser for RFC 4180 style CSV files with a header row.
+ * Recognized columns (case-insensitive, any order): date, amount, type, description, payee, notes,
+ * category, account. Only date and amount are required; without a type column the sign of the amount
+ * decides between income and expense. Quoted fields may contain separators and line breaks.
+ *
+ * @author tekteku
+ * @version 1.0
+ * @since 2025-11-14
+ */
+public class CsvTransactionParser implements TransactionFileParser {
+    
+    private final BufferedReader reader;
+    private final Map<String, Integer> columns = new HashMap<>();
+    private long line;
+    
+    public CsvTransactionParser(Reader reader) throws IOException {
+        this.reader = reader instanceof BufferedReader buffered ? buffered : new BufferedReader(reader);
+        List<String> header = readRecord();
+        if (header == null) {
+            throw new BadRequestException("Import file is empty");
+        }
+        for (int i = 0; i < header.size(); i++) {
+            columns.put(header.get(i).trim().toLowerCase(Locale.ROOT).replace("\uFEFF", ""), i);
+        }
+        if (!columns.containsKey("date") || !columns.containsKey("amount")) {
+            throw new BadRequestException("CSV header must contain 'date' and 'amount' columns");
+        }
+    }
+    
+    @Override
+    public ImportRow next() throws IOException {
+        List<String> record;
+        long start;
+        do {
+            start = line + 1;
+            record = readRecord();
+            if (record == null) {
+                return null;
+            }
+        } while (record.size() == 1 && record.get(0).isBlank());
+        
+        String date = field(record, "date");
+        String amount = field(record, "amount");
+        if (date == null || amount == null) {
+            return ImportRow.invalid(start, date == null ? "Missing date" : "Missing amount");
+        }
+        
+        try {
+            String type = field(record, "type");
+            return ImportRow.builder()
+                    .line(start)
+                    .date(LocalDate.parse(date))
+                    .amount(parseAmount(amount))
+                    .type(type != null ? TransactionType.valueOf(type.toUpperCase(Locale.ROOT)) : null)
+                    .description(field(record, "description"))
+                    .payee(field(record, "payee"))
+                    .notes(field(record, "notes"))
+                    .category(field(record, "category"))
+                    .account(field(record, "account"))
+                    .build();
+        } catch (DateTimeParseException e) {
+            return ImportRow.invalid(start, "Invalid date, expected yyyy-MM-dd");
+        } catch (NumberFormatException e) {
+            return ImportRow.invalid(start, "Invalid amount");
+        } catch (IllegalArgumentException e) {
+            return ImportRow.invalid(start, "Invalid type, expected INCOME, EXPENSE or TRANSFER");
+        }
+    }
+    
+    static BigDecimal parseAmount(String value) {
+        String normalized = value.replace(",", "").replace("$", "").trim();
+        if (normalized.startsWith("(") && normalized.endsWith(")")) {
+            normalized = "-" + normalized.substring(1, normalized.length() - 1);
+        }
+        return new BigDecimal(normalized);
+    }
+    
+    private String field(List<String> record, String column) {
+        Integer index = columns.get(column);
+        if (index == null || index >= record.size()) {
+            return null;
+        }
+        String value = record.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+    
+    /**
+     * Read one logical record, following quoted fields across physical lines.
+     */
+    private List<String> readRecord() throws IOException {
+        String physical = reader.readLine();
+        if (physical == null) {
+            return null;
+        }
+        line++;
+        
+        List<String> fields = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        while (true) {
+            for (int i = 0; i < physical.length(); i++) {
+                char c = physical.charAt(i);
+                if (quoted) {
+                    if (c == '"' && i + 1 < physical.length() && physical.charAt(i + 1) == '"') {
+                        current.append('"');
+                        i++;
+                    } else if (c == '"') {
+                        quoted = false;
+                    } else {
+                        current.append(c);
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(current.toString());
+                    current.setLength(0);
+                } else {
+                    current.append(c);
+                }
+            }
+            if (!quoted) {
+                break;
+            }
+            physical = reader.readLine();
+            if (physical == null) {
+                break;
+            }
+            line++;
+            current.append('\n');
+        }
+        fields.add(current.toString());
+        return fields;
+    }
+    
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
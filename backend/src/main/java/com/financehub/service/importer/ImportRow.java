@@ -0,0 +1,32 @@
+package com.financehub.service.importer;
+
+import com.financehub.entity.Transaction.TransactionType;
+import lombok.Builder;
+import lombok.Value;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * One parsed line of an import file, before accounts and categories are resolved.
+ * When {@code error} is set the row could not be parsed and the other fields may be null.
+ * {@code amount} keeps its sign when {@code type} is absent so the importer can infer the type.
+ */
+@Value
+@Builder
+public class ImportRow {
+    long line;
+    LocalDate date;
+    BigDecimal amount;
+    TransactionType type;
+    String description;
+    String payee;
+    String notes;
+    String category;
+    String account;
+    String error;
+    
+    public static ImportRow invalid(long line, String error) {
+        return ImportRow.builder().line(line).error(error).build();
+    }
+}
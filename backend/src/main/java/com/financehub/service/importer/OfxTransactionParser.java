@@ -0,0 +1,144 @@
+package com.financehub.service.importer;
+
+import com.financehub.entity.Transaction.TransactionType;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Streaming parser for OFX bank statements, both the SGML (1.x) and XML (2.x) flavours.
+ * The input is tokenized tag by tag and only the {@code <STMTTRN>} block being read is kept in memory.
+ * Amounts are signed; TRANSFER-like types are reported as transfers, everything else follows the sign.
+ *
+ * @author tekteku
+ * @version 1.0
+ * @since 2025-11-14
+ */
+public class OfxTransactionParser implements TransactionFileParser {
+    
+    private static final DateTimeFormatter OFX_DATE = DateTimeFormatter.BASIC_ISO_DATE;
+    
+    private final BufferedReader reader;
+    private final StringBuilder token = new StringBuilder();
+    private long line = 1;
+    private int pending = -2;
+    
+    public OfxTransactionParser(Reader reader) {
+        this.reader = reader instanceof BufferedReader buffered ? buffered : new BufferedReader(reader);
+    }
+    
+    @Override
+    public ImportRow next() throws IOException {
+        String tag;
+        while ((tag = nextTag()) != null) {
+            if ("STMTTRN".equals(tag)) {
+                return readTransaction(line);
+            }
+        }
+        return null;
+    }
+    
+    private ImportRow readTransaction(long start) throws IOException {
+        Map<String, String> values = new HashMap<>();
+        String tag;
+        while ((tag = nextTag()) != null && !"/STMTTRN".equals(tag)) {
+            if (!tag.startsWith("/")) {
+                String value = readText();
+                if (!value.isEmpty()) {
+                    values.put(tag, value);
+                }
+            }
+        }
+        
+        String posted = values.get("DTPOSTED");
+        String amount = values.get("TRNAMT");
+        if (posted == null || posted.length() < 8 || amount == null) {
+            return ImportRow.invalid(start, "Transaction without DTPOSTED or TRNAMT");
+        }
+        try {
+            String name = values.get("NAME");
+            String memo = values.get("MEMO");
+            return ImportRow.builder()
+                    .line(start)
+                    .date(LocalDate.parse(posted.substring(0, 8), OFX_DATE))
+                    .amount(new BigDecimal(amount.replace(',', '.')))
+                    .type("XFER".equals(values.get("TRNTYPE")) ? TransactionType.TRANSFER : null)
+                    .description(memo != null ? memo : name)
+                    .payee(name)
+                    .notes(values.get("FITID") != null ? "FITID " + values.get("FITID") : null)
+                    .build();
+        } catch (DateTimeParseException e) {
+            return ImportRow.invalid(start, "Invalid DTPOSTED");
+        } catch (NumberFormatException e) {
+            return ImportRow.invalid(start, "Invalid TRNAMT");
+        }
+    }
+    
+    /**
+     * Advance past the next {@code <...>} and return its upper-cased name, or null at the end of the input.
+     */
+    private String nextTag() throws IOException {
+        int c;
+        while ((c = read()) != -1 && c != '<') {
+            // skip text outside of a value
+        }
+        if (c == -1) {
+            return null;
+        }
+        token.setLength(0);
+        while ((c = read()) != -1 && c != '>') {
+            token.append((char) c);
+        }
+        return token.toString().trim().toUpperCase(Locale.ROOT);
+    }
+    
+    /**
+     * Read the text following a tag up to the next tag, which is left unread.
+     */
+    private String readText() throws IOException {
+        token.setLength(0);
+        int c;
+        while ((c = read()) != -1 && c != '<') {
+            token.append((char) c);
+        }
+        if (c == '<') {
+            pending = c;
+        }
+        return unescape(token.toString().trim());
+    }
+    
+    private int read() throws IOException {
+        int c;
+        if (pending != -2) {
+            c = pending;
+            pending = -2;
+            return c;
+        }
+        c = reader.read();
+        if (c == '\n') {
+            line++;
+        }
+        return c;
+    }
+    
+    private static String unescape(String value) {
+        if (value.indexOf('&') < 0) {
+            return value;
+        }
+        return value.replace("&lt;", "<").replace("&gt;", ">").replace("&quot;", "\"")
+                .replace("&apos;", "'").replace("&amp;", "&");
+    }
+    
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
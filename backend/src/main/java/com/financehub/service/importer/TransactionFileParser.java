@@ -0,0 +1,16 @@
+package com.financehub.service.importer;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Incremental reader over an import file. Implementations hold at most one record in memory.
+ */
+public interface TransactionFileParser extends Closeable {
+    
+    /**
+     * @return the next row, or null at the end of the input
+     * @throws IOException if the underlying stream fails; malformed rows are returned via {@link ImportRow#getError()}
+     */
+    ImportRow next() throws IOException;
+}
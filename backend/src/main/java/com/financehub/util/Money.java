@@ -0,0 +1,176 @@
+package com.financehub.util;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Objects;
+
+/**
+ * Amount of money in minor units (hundredths, matching the scale of the amount columns) plus currency.
+ * Used for in-memory aggregation and comparison; values are converted to and from {@link BigDecimal}
+ * only where they enter or leave the application (entities, queries, DTOs).
+ * Arithmetic is exact and fails on overflow instead of wrapping.
+ *
+ * @author tekteku
+ * @version 1.0
+ * @since 2025-11-17
+ */
+public final class Money implements Comparable<Money> {
+
+    public static final String DEFAULT_CURRENCY = "USD";
+
+    /** Decimal places of the minor unit. */
+    public static final int SCALE = 2;
+
+    private static final int MINOR_PER_MAJOR = 100;
+
+    /** Digits up to which a scale-2 amount converts exactly through a double. */
+    private static final int EXACT_DOUBLE_PRECISION = 15;
+
+    private static final long[] POWERS_OF_TEN = {1, 10, 100, 1_000, 10_000, 100_000, 1_000_000};
+
+    private static final Money ZERO = new Money(0, DEFAULT_CURRENCY);
+
+    private final long minorUnits;
+    private final String currency;
+
+    private Money(long minorUnits, String currency) {
+        this.minorUnits = minorUnits;
+        this.currency = currency;
+    }
+
+    public static Money ofMinor(long minorUnits, String currency) {
+        return new Money(minorUnits, Objects.requireNonNull(currency, "currency"));
+    }
+
+    public static Money ofMinor(long minorUnits) {
+        return minorUnits == 0 ? ZERO : new Money(minorUnits, DEFAULT_CURRENCY);
+    }
+
+    /**
+     * Convert a decimal amount, rounding half-up to the minor unit. Null is treated as zero.
+     */
+    public static Money of(BigDecimal amount, String currency) {
+        return ofMinor(toMinorUnits(amount), currency);
+    }
+
+    public static Money of(BigDecimal amount) {
+        return of(amount, DEFAULT_CURRENCY);
+    }
+
+    public static Money zero(String currency) {
+        return DEFAULT_CURRENCY.equals(currency) ? ZERO : new Money(0, currency);
+    }
+
+    /**
+     * Minor units of a decimal amount, rounded half-up. Null is treated as zero.
+     */
+    public static long toMinorUnits(BigDecimal amount) {
+        if (amount == null) {
+            return 0;
+        }
+        if (amount.scale() == SCALE && amount.precision() <= EXACT_DOUBLE_PRECISION) {
+            // Allocation-free for the usual column values: below 10^15 minor units the double is within 0.25
+            // of the exact value, so rounding recovers it
+            return Math.round(amount.doubleValue() * MINOR_PER_MAJOR);
+        }
+        return amount.movePointRight(SCALE).setScale(0, RoundingMode.HALF_UP).longValueExact();
+    }
+
+    public long minorUnits() {
+        return minorUnits;
+    }
+
+    public String currency() {
+        return currency;
+    }
+
+    public Money plus(Money other) {
+        requireSameCurrency(other);
+        return ofMinor(Math.addExact(minorUnits, other.minorUnits), currency);
+    }
+
+    public Money minus(Money other) {
+        requireSameCurrency(other);
+        return ofMinor(Math.subtractExact(minorUnits, other.minorUnits), currency);
+    }
+
+    public boolean isZero() {
+        return minorUnits == 0;
+    }
+
+    public int signum() {
+        return Long.signum(minorUnits);
+    }
+
+    /**
+     * This amount as a percentage of {@code total}: the ratio is rounded half-up to {@code ratioScale}
+     * decimals and then multiplied by 100, the same result as
+     * {@code amount.divide(total, ratioScale, HALF_UP).multiply(100)}.
+     *
+     * @return the percentage with {@code ratioScale} decimals, e.g. 3300 with ratioScale 2 for 33.00%
+     */
+    public long percentOf(Money total, int ratioScale) {
+        requireSameCurrency(total);
+        if (total.minorUnits == 0) {
+            throw new ArithmeticException("Percentage of a zero total");
+        }
+        long ratio = divideHalfUp(Math.multiplyExact(minorUnits, POWERS_OF_TEN[ratioScale]), total.minorUnits);
+        return Math.multiplyExact(ratio, 100);
+    }
+
+    /**
+     * {@link #percentOf(Money, int)} as a decimal with {@code ratioScale} decimals.
+     */
+    public BigDecimal percentageOf(Money total, int ratioScale) {
+        return BigDecimal.valueOf(percentOf(total, ratioScale), ratioScale);
+    }
+
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(minorUnits, SCALE);
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        requireSameCurrency(other);
+        return Long.compare(minorUnits, other.minorUnits);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Money other)) {
+            return false;
+        }
+        return minorUnits == other.minorUnits && currency.equals(other.currency);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Long.hashCode(minorUnits) + currency.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return toBigDecimal().toPlainString() + " " + currency;
+    }
+
+    /**
+     * Integer division rounding half away from zero, like {@link RoundingMode#HALF_UP}.
+     */
+    static long divideHalfUp(long dividend, long divisor) {
+        long quotient = dividend / divisor;
+        long remainder = dividend % divisor;
+        if (remainder != 0 && Math.abs(remainder) >= Math.abs(divisor) - Math.abs(remainder)) {
+            quotient += ((dividend ^ divisor) < 0) ? -1 : 1;
+        }
+        return quotient;
+    }
+
+    private void requireSameCurrency(Money other) {
+        if (!currency.equals(other.currency)) {
+            throw new IllegalArgumentException("Currency mismatch: " + currency + " and " + other.currency);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+-- Moves every entity id sequence past the ids already in its table.
+-- Ids used to come from IDENTITY columns; the pooled sequence generators (allocationSize 50)
+-- hand out the block (value - 49, value], so each sequence must stay at least 50 above MAX(id).
+-- GREATEST keeps a sequence that is already further along (e.g. advanced by another node) where it is.
+-- Runs on every start after Hibernate has created the sequences, and is idempotent.
+
+SELECT setval('users_seq', GREATEST((SELECT COALESCE(MAX(id), 0) FROM users) + 50, (SELECT last_value FROM users_seq)));
+SELECT setval('accounts_seq', GREATEST((SELECT COALESCE(MAX(id), 0) FROM accounts) + 50, (SELECT last_value FROM accounts_seq)));
+SELECT setval('categories_seq', GREATEST((SELECT COALESCE(MAX(id), 0) FROM categories) + 50, (SELECT last_value FROM categories_seq)));
+SELECT setval('transactions_seq', GREATEST((SELECT COALESCE(MAX(id), 0) FROM transactions) + 50, (SELECT last_value FROM transactions_seq)));
+SELECT setval('recurring_transactions_seq', GREATEST((SELECT COALESCE(MAX(id), 0) FROM recurring_transactions) + 50, (SELECT last_value FROM recurring_transactions_seq)));
+SELECT setval('budgets_seq', GREATEST((SELECT COALESCE(MAX(id), 0) FROM budgets) + 50, (SELECT last_value FROM budgets_seq)));
+SELECT setval('notifications_seq', GREATEST((SELECT COALESCE(MAX(id), 0) FROM notifications) + 50, (SELECT last_value FROM notifications_seq)));
+SELECT setval('projects_seq', GREATEST((SELECT COALESCE(MAX(id), 0) FROM projects) + 50, (SELECT last_value FROM projects_seq)));
+SELECT setval('project_reviews_seq', GREATEST((SELECT COALESCE(MAX(id), 0) FROM project_reviews) + 50, (SELECT last_value FROM project_reviews_seq)));
+SELECT setval('investments_seq', GREATEST((SELECT COALESCE(MAX(id), 0) FROM investments) + 50, (SELECT last_value FROM investments_seq)));
@@ -0,0 +1,6 @@
+-- Drops the check constraints Hibernate generated for enum columns when their tables were created.
+-- ddl-auto update never widens them, so values added to an enum later (such as the BUDGET notification
+-- type) would be rejected on existing databases. The enums are validated by the application instead.
+-- Runs on every start and is idempotent.
+
+ALTER TABLE notifications DROP CONSTRAINT IF EXISTS notifications_type_check;
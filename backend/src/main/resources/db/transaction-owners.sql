@@ -0,0 +1,5 @@
+-- Fills transactions.user_id, the account owner copied onto each row for the user-wide keyset listings,
+-- on rows written before the column existed. New rows get it on insert.
+-- Runs on every start after Hibernate has added the column and its index, and is idempotent.
+
+UPDATE transactions t SET user_id = a.user_id FROM accounts a WHERE a.id = t.account_id AND t.user_id IS NULL;
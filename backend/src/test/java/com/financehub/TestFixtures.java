@@ -0,0 +1,54 @@
+package com.financehub;
+
+import com.financehub.entity.Account;
+import com.financehub.entity.User;
+
+import java.math.BigDecimal;
+import java.util.Set;
+
+/**
+ * Shared test data: the plain user and checking account most persistence tests start from.
+ * Entities are returned unsaved so tests can persist them through a TestEntityManager or a repository.
+ *
+ * @author tekteku
+ * @version 1.0
+ * @since 2025-11-17
+ */
+public final class TestFixtures {
+
+    private TestFixtures() {
+    }
+
+    /**
+     * A ROLE_USER user with the given username and a matching example.com email.
+     */
+    public static User user(String username) {
+        User user = new User();
+        user.setUsername(username);
+        user.setEmail(username + "@example.com");
+        user.setPassword("x");
+        user.setRoles(Set.of("ROLE_USER"));
+        return user;
+    }
+
+    /**
+     * An empty active "Checking" account in USD.
+     */
+    public static Account account(User user) {
+        return account(user, "Checking", BigDecimal.ZERO);
+    }
+
+    /**
+     * An active checking account in USD with the given name and opening balance.
+     */
+    public static Account account(User user, String name, BigDecimal balance) {
+        return Account.builder()
+                .name(name)
+                .type(Account.AccountType.CHECKING)
+                .balance(balance)
+                .currency("USD")
+                .isActive(true)
+                .user(user)
+                .build();
+    }
+}
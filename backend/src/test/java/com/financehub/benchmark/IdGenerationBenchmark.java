@@ -0,0 +1,155 @@
+package com.financehub.benchmark;
+
+import jakarta.persistence.*;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares entity insert throughput with IDENTITY ids and with pooled sequence ids.
+ * Each invocation persists {@value #ROWS} transaction-shaped rows in one transaction with
+ * {@code hibernate.jdbc.batch_size=50}, so the score times {@value #ROWS} is inserts per second.
+ * IDENTITY forces one round trip per row to read the generated key; the pooled sequence needs one
+ * {@code nextval} per 50 rows and lets the inserts go out as JDBC batches. The teardown prints
+ * the number of JDBC statements per row for each strategy.
+ *
+ * The database is in-memory H2, which has no network latency, so the gap is a lower bound
+ * of what PostgreSQL over a network shows.
+ *
+ * Run from the backend directory with:
+ * <pre>
+ * mvn test-compile dependency:build-classpath -Dmdep.outputFile=target/cp.txt
+ * java -cp target/test-classes:target/classes:$(cat target/cp.txt) com.financehub.benchmark.IdGenerationBenchmark
+ * </pre>
+ *
+ * @author tekteku
+ * @version 1.0
+ * @since 2025-11-14
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class IdGenerationBenchmark {
+
+    private static final int ROWS = 1000;
+
+    @Param({"IDENTITY", "SEQUENCE"})
+    public String strategy;
+
+    private SessionFactory sessionFactory;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        sessionFactory = new Configuration()
+                .addAnnotatedClass(IdentityRow.class)
+                .addAnnotatedClass(PooledRow.class)
+                .setProperty(AvailableSettings.URL, "jdbc:h2:mem:idbench;MODE=PostgreSQL;DB_CLOSE_DELAY=-1")
+                .setProperty(AvailableSettings.USER, "sa")
+                .setProperty(AvailableSettings.PASS, "")
+                .setProperty(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+                .setProperty(AvailableSettings.STATEMENT_BATCH_SIZE, "50")
+                .setProperty(AvailableSettings.ORDER_INSERTS, "true")
+                .setProperty(AvailableSettings.GENERATE_STATISTICS, "true")
+                .buildSessionFactory();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        var statistics = sessionFactory.getStatistics();
+        System.out.printf("%n%s: %.3f JDBC statements per inserted row%n", strategy,
+                (double) statistics.getPrepareStatementCount() / statistics.getEntityInsertCount());
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    public void insertBatch() {
+        boolean identity = "IDENTITY".equals(strategy);
+        try (Session session = sessionFactory.openSession()) {
+            session.beginTransaction();
+            for (int i = 0; i < ROWS; i++) {
+                Object row = identity ? new IdentityRow(i) : new PooledRow(i);
+                session.persist(row);
+            }
+            session.getTransaction().commit();
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(IdGenerationBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+
+    @MappedSuperclass
+    public abstract static class Row {
+
+        @Column(nullable = false, precision = 15, scale = 2)
+        private BigDecimal amount;
+
+        @Column(nullable = false, length = 20)
+        private String type;
+
+        @Column(name = "transaction_date", nullable = false)
+        private LocalDate transactionDate;
+
+        @Column(length = 500)
+        private String description;
+
+        protected Row() {
+        }
+
+        protected Row(int i) {
+            this.amount = BigDecimal.valueOf(i, 2);
+            this.type = "EXPENSE";
+            this.transactionDate = LocalDate.of(2025, 1, 1).plusDays(i % 365);
+            this.description = "Benchmark row " + i;
+        }
+    }
+
+    @Entity
+    @Table(name = "identity_rows")
+    public static class IdentityRow extends Row {
+
+        @Id
+        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        private Long id;
+
+        protected IdentityRow() {
+        }
+
+        IdentityRow(int i) {
+            super(i);
+        }
+    }
+
+    @Entity
+    @Table(name = "pooled_rows")
+    public static class PooledRow extends Row {
+
+        @Id
+        @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "pooled_rows_seq")
+        @SequenceGenerator(name = "pooled_rows_seq", sequenceName = "pooled_rows_seq", allocationSize = 50)
+        private Long id;
+
+        protected PooledRow() {
+        }
+
+        PooledRow(int i) {
+            super(i);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.financehub.benchmark;
+
+import com.financehub.security.JwtUtils;
+import com.financehub.security.UserPrincipal;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the JWT verification cost of one authenticated request.
+ * {@code perRequestLegacy} reproduces the former path (key and parser rebuilt for
+ * validateToken, getUsernameFromToken and getUserIdFromToken), {@code perRequestSinglePass}
+ * is the current filter path using the shared parser.
+ *
+ * Run from the backend directory with:
+ * <pre>
+ * mvn test-compile dependency:build-classpath -Dmdep.outputFile=target/cp.txt
+ * java -cp target/test-classes:target/classes:$(cat target/cp.txt) com.financehub.benchmark.JwtVerificationBenchmark
+ * </pre>
+ *
+ * @author tekteku
+ * @version 1.0
+ * @since 2025-11-12
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtVerificationBenchmark {
+
+    private static final String SECRET =
+            "YourSuperSecretKeyForJWTTokenGenerationMustBeAtLeast256BitsLongForHS512Algorithm";
+
+    private JwtUtils jwtUtils;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtils = new JwtUtils(SECRET, 86400000L);
+        token = jwtUtils.generateToken(new UserPrincipal(42L, "benchmark", null, List.of("ROLE_USER")));
+    }
+
+    @Benchmark
+    public Object perRequestLegacy() {
+        legacyParse(token);
+        String username = legacyParse(token).getSubject();
+        Object userId = legacyParse(token).get(JwtUtils.CLAIM_USER_ID);
+        return username + userId;
+    }
+
+    @Benchmark
+    public Object perRequestSinglePass() {
+        Claims claims = jwtUtils.verifyToken(token);
+        return jwtUtils.toPrincipal(claims);
+    }
+
+    private static Claims legacyParse(String token) {
+        SecretKey key = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        return Jwts.parser()
+                .verifyWith(key)
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JwtVerificationBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
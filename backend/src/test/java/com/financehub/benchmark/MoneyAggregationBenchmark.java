@@ -0,0 +1,147 @@
+package com.financehub.benchmark;
+
+import com.financehub.entity.Budget;
+import com.financehub.util.Money;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Compares BigDecimal aggregation with {@link Money} minor-unit aggregation on the analytics and budget hot paths.
+ * <ul>
+ *   <li>{@code categoryBreakdown*}: {@value #ROWS} (category, amount) rows as returned by the grouped
+ *   rollup query, merged by category name, then each category's share of the total. The legacy path is the
+ *   former {@code AnalyticsService} code: BigDecimal stream reduce and {@code divide(total, 4, HALF_UP)}.</li>
+ *   <li>{@code spentPercentage*}: percentage and alert flag of {@value #BUDGETS} budgets, as the mappers
+ *   request them. The legacy path is the former {@code Budget} code, the new path is {@link Budget} itself.</li>
+ * </ul>
+ * Both paths produce the same numbers; {@code main} adds the GC profiler, so {@code gc.alloc.rate.norm}
+ * shows the bytes allocated per operation next to the time.
+ *
+ * Run from the backend directory with:
+ * <pre>
+ * mvn test-compile dependency:build-classpath -Dmdep.outputFile=target/cp.txt
+ * java -cp target/test-classes:target/classes:$(cat target/cp.txt) com.financehub.benchmark.MoneyAggregationBenchmark
+ * </pre>
+ *
+ * @author tekteku
+ * @version 1.0
+ * @since 2025-11-17
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MoneyAggregationBenchmark {
+
+    private static final int ROWS = 10_000;
+    private static final int CATEGORIES = 20;
+    private static final int BUDGETS = 1_000;
+
+    private List<Object[]> rows;
+    private List<Budget> budgets;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        rows = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            String category = random.nextInt(10) == 0 ? null : "Category " + random.nextInt(CATEGORIES);
+            rows.add(new Object[]{category, BigDecimal.valueOf(random.nextInt(500_000) + 1, 2)});
+        }
+        budgets = new ArrayList<>(BUDGETS);
+        for (int i = 0; i < BUDGETS; i++) {
+            budgets.add(Budget.builder()
+                    .amount(BigDecimal.valueOf(random.nextInt(1_000_000) + 100, 2))
+                    .spent(BigDecimal.valueOf(random.nextInt(1_200_000), 2))
+                    .alertThreshold(BigDecimal.valueOf(80))
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public void categoryBreakdownBigDecimal(Blackhole blackhole) {
+        Map<String, BigDecimal> byName = new LinkedHashMap<>();
+        for (Object[] row : rows) {
+            byName.merge((String) row[0], (BigDecimal) row[1], BigDecimal::add);
+        }
+        List<Object[]> results = byName.entrySet().stream()
+                .map(e -> new Object[]{e.getKey(), e.getValue()})
+                .collect(Collectors.toList());
+        BigDecimal totalExpenses = results.stream()
+                .map(row -> (BigDecimal) row[1])
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        for (Object[] row : results) {
+            BigDecimal amount = (BigDecimal) row[1];
+            blackhole.consume(amount);
+            blackhole.consume(amount.divide(totalExpenses, 4, RoundingMode.HALF_UP)
+                    .multiply(BigDecimal.valueOf(100)));
+        }
+    }
+
+    @Benchmark
+    public void categoryBreakdownMoney(Blackhole blackhole) {
+        // Same accumulation as the overview: minor units per category, Money only for the output rows
+        Map<String, long[]> byName = new LinkedHashMap<>();
+        for (Object[] row : rows) {
+            byName.computeIfAbsent((String) row[0], k -> new long[1])[0] += Money.toMinorUnits((BigDecimal) row[1]);
+        }
+        long total = 0;
+        for (long[] sum : byName.values()) {
+            total = Math.addExact(total, sum[0]);
+        }
+        Money totalExpenses = Money.ofMinor(total);
+        for (long[] sum : byName.values()) {
+            Money amount = Money.ofMinor(sum[0]);
+            blackhole.consume(amount.toBigDecimal());
+            blackhole.consume(amount.percentageOf(totalExpenses, 4));
+        }
+    }
+
+    @Benchmark
+    public void spentPercentageBigDecimal(Blackhole blackhole) {
+        for (Budget budget : budgets) {
+            blackhole.consume(legacySpentPercentage(budget));
+            blackhole.consume(legacySpentPercentage(budget).compareTo(budget.getAlertThreshold()) >= 0);
+        }
+    }
+
+    @Benchmark
+    public void spentPercentageMoney(Blackhole blackhole) {
+        for (Budget budget : budgets) {
+            blackhole.consume(budget.getSpentPercentage());
+            blackhole.consume(budget.isAlertTriggered());
+        }
+    }
+
+    private static BigDecimal legacySpentPercentage(Budget budget) {
+        if (budget.getAmount().compareTo(BigDecimal.ZERO) == 0) {
+            return BigDecimal.ZERO;
+        }
+        return budget.getSpent().divide(budget.getAmount(), 2, RoundingMode.HALF_UP)
+                .multiply(BigDecimal.valueOf(100));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(MoneyAggregationBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build())
+                .run();
+    }
+}
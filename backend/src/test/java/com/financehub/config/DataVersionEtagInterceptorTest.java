@@ -0,0 +1,108 @@
+package com.financehub.config;
+
+import com.financehub.security.UserPrincipal;
+import com.financehub.service.UserDataVersions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for conditional GET handling in DataVersionEtagInterceptor.
+ *
+ * @author tekteku
+ * @version 1.0
+ * @since 2025-11-17
+ */
+@DisplayName("Data Version ETag Interceptor Tests")
+class DataVersionEtagInterceptorTest {
+
+    private final UserDataVersions dataVersions = new UserDataVersions(false,
+            new StaticListableBeanFactory().getBeanProvider(StringRedisTemplate.class));
+    private final DataVersionEtagInterceptor interceptor = new DataVersionEtagInterceptor(dataVersions, true, false);
+
+    @BeforeEach
+    void setUp() {
+        UserPrincipal principal = new UserPrincipal(7L, "poller", "x", List.of("ROLE_USER"));
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Should answer 304 for the current ETag until a write bumps the version")
+    void shouldAnswerNotModifiedUntilBumped() {
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        assertThat(interceptor.preHandle(get(null), first, null)).isTrue();
+        String etag = first.getHeader(HttpHeaders.ETAG);
+        assertThat(etag).startsWith("W/\"7-");
+        assertThat(first.getHeader(HttpHeaders.CACHE_CONTROL)).isEqualTo("no-cache, private");
+
+        MockHttpServletResponse repeated = new MockHttpServletResponse();
+        assertThat(interceptor.preHandle(get(etag), repeated, null)).isFalse();
+        assertThat(repeated.getStatus()).isEqualTo(304);
+        assertThat(repeated.getHeader(HttpHeaders.ETAG)).isEqualTo(etag);
+
+        dataVersions.bump(7L);
+        MockHttpServletResponse changed = new MockHttpServletResponse();
+        assertThat(interceptor.preHandle(get(etag), changed, null)).isTrue();
+        assertThat(changed.getStatus()).isEqualTo(200);
+        assertThat(changed.getHeader(HttpHeaders.ETAG)).isNotEqualTo(etag);
+    }
+
+    @Test
+    @DisplayName("Should leave writes and anonymous requests alone")
+    void shouldIgnoreWritesAndAnonymous() {
+        MockHttpServletResponse write = new MockHttpServletResponse();
+        assertThat(interceptor.preHandle(new MockHttpServletRequest("POST", "/api/transactions"), write, null))
+                .isTrue();
+        assertThat(write.getHeader(HttpHeaders.ETAG)).isNull();
+
+        SecurityContextHolder.clearContext();
+        MockHttpServletResponse anonymous = new MockHttpServletResponse();
+        assertThat(interceptor.preHandle(get("W/\"7-1-1\""), anonymous, null)).isTrue();
+        assertThat(anonymous.getHeader(HttpHeaders.ETAG)).isNull();
+    }
+
+    @Test
+    @DisplayName("Should refuse to start with per-node versions on several nodes unless ETags are off")
+    void shouldRequireSharedVersionsWhenClustered() {
+        assertThatThrownBy(() -> new DataVersionEtagInterceptor(dataVersions, true, true))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("data-version.shared");
+
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("redis", new StringRedisTemplate());
+        UserDataVersions shared = new UserDataVersions(true, beanFactory.getBeanProvider(StringRedisTemplate.class));
+        assertThatCode(() -> new DataVersionEtagInterceptor(shared, true, true)).doesNotThrowAnyException();
+
+        DataVersionEtagInterceptor disabled = new DataVersionEtagInterceptor(dataVersions, false, true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        assertThat(disabled.preHandle(get("W/\"7-1-1\""), response, null)).isTrue();
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isNull();
+        assertThat(response.getStatus()).isEqualTo(200);
+    }
+
+    private static MockHttpServletRequest get(String ifNoneMatch) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/budgets/active");
+        if (ifNoneMatch != null) {
+            request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        return request;
+    }
+}
@@ -0,0 +1,75 @@
+package com.financehub.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnJava;
+import org.springframework.boot.system.JavaVersion;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import jakarta.persistence.EntityManagerFactory;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Context test for the virtual-thread mode: the bulkhead guards JPA and JdbcTemplate connections
+ * while the Hikari pool stays a plain bean with its metrics.
+ *
+ * @author tekteku
+ * @version 1.0
+ * @since 2025-11-13
+ */
+@SpringBootTest(properties = "spring.threads.virtual.enabled=true")
+@ActiveProfiles("test")
+@DisplayName("Virtual Thread Config Tests")
+class VirtualThreadConfigTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("Should guard connection consumers and keep Hikari pool metrics")
+    void shouldKeepHikariBean() {
+        assertThat(dataSource).isInstanceOf(HikariDataSource.class);
+        assertThat(jdbcTemplate.getDataSource()).isInstanceOf(BulkheadDataSource.class);
+        assertThat(entityManagerFactory.getProperties().get("jakarta.persistence.nonJtaDataSource"))
+                .isSameAs(jdbcTemplate.getDataSource());
+
+        assertThat(jdbcTemplate.queryForObject("SELECT 1", Integer.class)).isEqualTo(1);
+        assertThat(meterRegistry.find("hikaricp.connections.max").gauge()).isNotNull();
+        assertThat(meterRegistry.find("db.bulkhead.available").gauge()).isNotNull();
+    }
+
+    /**
+     * VirtualThreadConfig itself only loads on Java 21+, register its post-processor on older runtimes.
+     */
+    @TestConfiguration
+    static class OlderJavaConfig {
+
+        @Bean
+        @ConditionalOnJava(value = JavaVersion.TWENTY_ONE, range = ConditionalOnJava.Range.OLDER_THAN)
+        static BeanPostProcessor databaseBulkheadPostProcessor(
+                Environment environment, ObjectProvider<MeterRegistry> meterRegistry) {
+            return VirtualThreadConfig.databaseBulkheadPostProcessor(environment, meterRegistry);
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.financehub.repository;
+
+import com.financehub.TestFixtures;
+import com.financehub.config.AuditingConfig;
+import com.financehub.dto.TransactionCursor;
+import com.financehub.dto.TransactionExportRow;
+import com.financehub.entity.Account;
+import com.financehub.entity.Transaction;
+import com.financehub.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Repository tests for TransactionRepository queries.
+ *
+ * @author tekteku
+ * @version 1.0
+ * @since 2025-11-13
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(AuditingConfig.class)
+@DisplayName("Transaction Repository Tests")
+class TransactionRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    private User user;
+    private Account account;
+
+    @BeforeEach
+    void setUp() {
+        user = entityManager.persist(TestFixtures.user("seek"));
+
+        account = entityManager.persist(TestFixtures.account(user));
+    }
+
+    @Test
+    @DisplayName("Should walk every transaction once in (date DESC, id DESC) order with keyset pages")
+    void shouldSeekThroughAllTransactions() {
+        LocalDate base = LocalDate.of(2025, 1, 1);
+        for (int i = 0; i < 7; i++) {
+            // Two transactions share each date to exercise the id tie-breaker
+            persistTransaction(base.plusDays(i / 2), Transaction.TransactionType.EXPENSE);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        List<Transaction> seen = new ArrayList<>();
+        TransactionCursor cursor = TransactionCursor.START;
+        List<Transaction> page;
+        do {
+            page = transactionRepository.findByUserIdBefore(
+                    user.getId(), cursor.getTransactionDate(), cursor.getId(), PageRequest.ofSize(3));
+            seen.addAll(page);
+            if (!page.isEmpty()) {
+                Transaction last = page.get(page.size() - 1);
+                cursor = new TransactionCursor(last.getTransactionDate(), last.getId());
+            }
+        } while (page.size() == 3);
+
+        assertThat(seen).hasSize(7);
+        assertThat(seen).extracting(Transaction::getId).doesNotHaveDuplicates();
+        assertThat(seen).extracting(Transaction::getUserId).containsOnly(user.getId());
+        for (int i = 1; i < seen.size(); i++) {
+            Transaction previous = seen.get(i - 1);
+            Transaction current = seen.get(i);
+            assertThat(current.getTransactionDate()).isBeforeOrEqualTo(previous.getTransactionDate());
+            if (current.getTransactionDate().equals(previous.getTransactionDate())) {
+                assertThat(current.getId()).isLessThan(previous.getId());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should filter keyset pages by type and account")
+    void shouldSeekByTypeAndAccount() {
+        persistTransaction(LocalDate.of(2025, 1, 1), Transaction.TransactionType.INCOME);
+        persistTransaction(LocalDate.of(2025, 1, 2), Transaction.TransactionType.EXPENSE);
+        persistTransaction(LocalDate.of(2025, 1, 3), Transaction.TransactionType.INCOME);
+        entityManager.flush();
+
+        TransactionCursor start = TransactionCursor.START;
+        List<Transaction> income = transactionRepository.findByUserIdAndTypeBefore(user.getId(),
+                Transaction.TransactionType.INCOME, start.getTransactionDate(), start.getId(), PageRequest.ofSize(10));
+        List<Transaction> byAccount = transactionRepository.findByAccountIdBefore(
+                account.getId(), start.getTransactionDate(), start.getId(), PageRequest.ofSize(10));
+
+        assertThat(income).hasSize(2)
+                .allMatch(t -> t.getType() == Transaction.TransactionType.INCOME);
+        assertThat(byAccount).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("Should stream export rows in date order within the range")
+    void shouldStreamExportRows() {
+        persistTransaction(LocalDate.of(2025, 1, 3), Transaction.TransactionType.INCOME);
+        persistTransaction(LocalDate.of(2025, 1, 1), Transaction.TransactionType.EXPENSE);
+        persistTransaction(LocalDate.of(2025, 2, 1), Transaction.TransactionType.EXPENSE);
+        entityManager.flush();
+
+        List<TransactionExportRow> rows;
+        try (Stream<TransactionExportRow> stream = transactionRepository.streamExportRows(
+                user.getId(), LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 31))) {
+            rows = stream.toList();
+        }
+
+        assertThat(rows).extracting(TransactionExportRow::getTransactionDate)
+                .containsExactly(LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 3));
+        assertThat(rows).allMatch(r -> "Checking".equals(r.getAccountName()) && r.getCategoryName() == null);
+    }
+
+    @Test
+    @DisplayName("Should round-trip and reject cursors")
+    void shouldEncodeAndDecodeCursor() {
+        TransactionCursor cursor = new TransactionCursor(LocalDate.of(2025, 3, 4), 42L);
+
+        assertThat(TransactionCursor.decode(cursor.encode())).isEqualTo(cursor);
+        assertThat(TransactionCursor.decode(null)).isEqualTo(TransactionCursor.START);
+        assertThatThrownBy(() -> TransactionCursor.decode("not-a-cursor"))
+                .hasMessageContaining("Invalid cursor");
+    }
+
+    private void persistTransaction(LocalDate date, Transaction.TransactionType type) {
+        entityManager.persist(Transaction.builder()
+                .amount(BigDecimal.TEN)
+                .type(type)
+                .transactionDate(date)
+                .account(account)
+                .isRecurring(false)
+                .build());
+    }
+}
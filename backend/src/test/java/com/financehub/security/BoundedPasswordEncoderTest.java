@@ -0,0 +1,192 @@
+package com.financehub.security;
+
+import com.financehub.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for BoundedPasswordEncoder.
+ *
+ * @author tekteku
+ * @version 1.0
+ * @since 2025-11-12
+ */
+@DisplayName("Bounded Password Encoder Tests")
+class BoundedPasswordEncoderTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private BoundedPasswordEncoder encoder;
+
+    @AfterEach
+    void tearDown() {
+        encoder.close();
+    }
+
+    @Test
+    @DisplayName("Should encode and verify through the hashing executor")
+    void shouldEncodeAndMatch() {
+        encoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(4), 4, 1, 4,
+                Duration.ofSeconds(5), meterRegistry);
+
+        String hash = encoder.encode("secret");
+
+        assertThat(encoder.matches("secret", hash)).isTrue();
+        assertThat(encoder.matches("wrong", hash)).isFalse();
+        assertThat(meterRegistry.get("auth.password.hash").tag("operation", "matches").timer().count())
+                .isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should fail fast when the hashing queue is full")
+    void shouldRejectWhenSaturated() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordEncoder blocking = new BCryptPasswordEncoder(4) {
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return true;
+            }
+        };
+        encoder = new BoundedPasswordEncoder(blocking, 4, 1, 1, Duration.ofSeconds(5), meterRegistry);
+
+        CompletableFuture<Boolean> running = CompletableFuture.supplyAsync(() -> encoder.matches("a", "x"));
+        CompletableFuture<Boolean> queued = CompletableFuture.supplyAsync(() -> encoder.matches("b", "x"));
+        awaitQueueDepth(1);
+
+        assertThatThrownBy(() -> encoder.matches("c", "x"))
+                .isInstanceOf(ServiceUnavailableException.class);
+        assertThat(meterRegistry.get("auth.password.rejected").counter().count()).isEqualTo(1);
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should admit only what the threads can hash within the wait timeout")
+    void shouldSizeAdmissionToWaitTimeout() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordEncoder slow = new BCryptPasswordEncoder(4) {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                sleep(200);
+                return super.encode(rawPassword);
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return true;
+            }
+        };
+        // About 200ms per hash, 4 rounds within 1s on 2 threads, well below the configured 32
+        encoder = new BoundedPasswordEncoder(slow, 4, 2, 32, Duration.ofSeconds(1), meterRegistry);
+        assertThat(meterRegistry.get("auth.password.capacity").gauge().value()).isBetween(4.0, 8.0);
+        int capacity = (int) meterRegistry.get("auth.password.capacity").gauge().value();
+
+        List<CompletableFuture<Boolean>> admitted = new ArrayList<>();
+        for (int i = 0; i < capacity; i++) {
+            admitted.add(CompletableFuture.supplyAsync(() -> encoder.matches("a", "x")));
+        }
+        awaitQueueDepth(capacity - 2);
+
+        assertThatThrownBy(() -> encoder.matches("b", "x"))
+                .isInstanceOf(ServiceUnavailableException.class);
+        assertThat(meterRegistry.get("auth.password.rejected").counter().count()).isEqualTo(1);
+
+        release.countDown();
+        for (CompletableFuture<Boolean> future : admitted) {
+            assertThat(future.get(5, TimeUnit.SECONDS)).isTrue();
+        }
+        assertThat(meterRegistry.get("auth.password.timeouts").counter().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should count timeouts apart from rejections and drop the abandoned queued hash")
+    void shouldCountTimeoutsSeparately() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger started = new AtomicInteger();
+        PasswordEncoder blocking = new BCryptPasswordEncoder(4) {
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                started.incrementAndGet();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return true;
+            }
+        };
+        encoder = new BoundedPasswordEncoder(blocking, 4, 1, 4, Duration.ofMillis(300), meterRegistry);
+
+        CompletableFuture<Boolean> running = CompletableFuture.supplyAsync(() -> encoder.matches("a", "x"));
+        while (started.get() == 0) {
+            sleep(10);
+        }
+        // Queued behind the hash that never finishes in time
+        assertThatThrownBy(() -> encoder.matches("b", "x"))
+                .isInstanceOf(ServiceUnavailableException.class);
+        assertThatThrownBy(() -> running.get(5, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(ServiceUnavailableException.class);
+
+        assertThat(meterRegistry.get("auth.password.timeouts").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("auth.password.rejected").counter().count()).isZero();
+        assertThat(meterRegistry.get("auth.password.queue.depth").gauge().value()).isZero();
+
+        release.countDown();
+        sleep(100);
+        assertThat(started).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Should request an upgrade when the stored cost differs from the configured strength")
+    void shouldUpgradeOnCostMismatch() {
+        encoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(5), 5, 1, 4,
+                Duration.ofSeconds(5), meterRegistry);
+
+        String oldHash = new BCryptPasswordEncoder(4).encode("secret");
+        String currentHash = encoder.encode("secret");
+
+        assertThat(encoder.upgradeEncoding(oldHash)).isTrue();
+        assertThat(encoder.upgradeEncoding(currentHash)).isFalse();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void awaitQueueDepth(int depth) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (meterRegistry.get("auth.password.queue.depth").gauge().value() < depth
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.financehub.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for VerifiedTokenCache.
+ *
+ * @author tekteku
+ * @version 1.0
+ * @since 2025-11-12
+ */
+@DisplayName("Verified Token Cache Tests")
+class VerifiedTokenCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private VerifiedTokenCache cache;
+    private AtomicInteger verifications;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new VerifiedTokenCache(true, 100, meterRegistry);
+        verifications = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("Should verify a token only once while it is cached")
+    void shouldVerifyOnlyOnce() {
+        Function<String, Claims> verifier = countingVerifier(claims(1L, 60_000));
+
+        Claims first = cache.getOrVerify("token-a", verifier);
+        Claims second = cache.getOrVerify("token-a", verifier);
+
+        assertThat(second).isSameAs(first);
+        assertThat(verifications).hasValue(1);
+        assertThat(meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should not cache rejected tokens")
+    void shouldNotCacheRejectedTokens() {
+        Function<String, Claims> verifier = countingVerifier(null);
+
+        assertThat(cache.getOrVerify("bad", verifier)).isNull();
+        assertThat(cache.getOrVerify("bad", verifier)).isNull();
+
+        assertThat(verifications).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Should not serve a token past its expiration")
+    void shouldExpireAtTokenExpiration() {
+        Function<String, Claims> verifier = countingVerifier(claims(1L, -1_000));
+
+        cache.getOrVerify("expired", verifier);
+        cache.getOrVerify("expired", verifier);
+
+        assertThat(verifications).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Should re-verify after explicit invalidation")
+    void shouldReverifyAfterInvalidation() {
+        Function<String, Claims> verifier = countingVerifier(claims(1L, 60_000));
+
+        cache.getOrVerify("token-a", verifier);
+        cache.invalidate("token-a");
+        cache.getOrVerify("token-a", verifier);
+
+        assertThat(verifications).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Should drop only the tokens of the invalidated user")
+    void shouldInvalidateByUser() {
+        cache.getOrVerify("user-1", countingVerifier(claims(1L, 60_000)));
+        cache.getOrVerify("user-2", countingVerifier(claims(2L, 60_000)));
+
+        cache.invalidateUser(1L);
+
+        assertThat(cache.estimatedSize()).isEqualTo(1);
+    }
+
+    private Function<String, Claims> countingVerifier(Claims result) {
+        return token -> {
+            verifications.incrementAndGet();
+            return result;
+        };
+    }
+
+    private static Claims claims(Long userId, long ttlMillis) {
+        return Jwts.claims()
+                .subject("user" + userId)
+                .add(JwtUtils.CLAIM_USER_ID, userId)
+                .expiration(new Date(System.currentTimeMillis() + ttlMillis))
+                .build();
+    }
+}
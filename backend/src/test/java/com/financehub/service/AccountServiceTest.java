@@ -8,6 +8,7 @@ import com.financehub.exception.ResourceNotFoundException;
 import com.financehub.mapper.EntityMapper;
 import com.financehub.repository.AccountRepository;
 import com.financehub.repository.UserRepository;
+import com.financehub.security.UserPrincipal;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -48,6 +49,12 @@ class AccountServiceTest {
     @Mock
     private EntityMapper mapper;
     
+    @Mock
+    private BalanceLedgerService ledgerService;
+    
+    @Mock
+    private UserDataVersions dataVersions;
+    
     @Mock
     private SecurityContext securityContext;
     
@@ -98,8 +105,8 @@ class AccountServiceTest {
         // Setup Security Context
         SecurityContextHolder.setContext(securityContext);
         when(securityContext.getAuthentication()).thenReturn(authentication);
-        when(authentication.getName()).thenReturn("testuser");
-        when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(testUser));
+        when(authentication.getPrincipal())
+                .thenReturn(new UserPrincipal(1L, "testuser", null, List.of("ROLE_USER")));
     }
     
     @Test
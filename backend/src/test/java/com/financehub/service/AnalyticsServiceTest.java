@@ -0,0 +1,284 @@
+package com.financehub.service;
+
+import com.financehub.TestFixtures;
+import com.financehub.config.AuditingConfig;
+import com.financehub.dto.AnalyticsOverview;
+import com.financehub.dto.AnalyticsSummary;
+import com.financehub.dto.CategoryExpense;
+import com.financehub.dto.MonthlyTrend;
+import com.financehub.dto.TimeSeries;
+import com.financehub.entity.Account;
+import com.financehub.entity.Category;
+import com.financehub.entity.Transaction;
+import com.financehub.entity.Transaction.TransactionType;
+import com.financehub.entity.User;
+import com.financehub.exception.BadRequestException;
+import com.financehub.repository.AccountRepository;
+import com.financehub.repository.CategoryRepository;
+import com.financehub.repository.DailyRollupBatchRepository;
+import com.financehub.repository.DailyRollupRepository;
+import com.financehub.repository.TransactionRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for AnalyticsService reading from the daily rollup table and from the column cache.
+ *
+ * @author tekteku
+ * @version 1.0
+ * @since 2025-11-16
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({AuditingConfig.class, AnalyticsService.class, DailyRollupService.class, DailyRollupBatchRepository.class,
+        TransactionColumnCache.class, UserResultCache.class, UserDataVersions.class,
+        SimpleMeterRegistry.class})
+@DisplayName("Analytics Service Tests")
+class AnalyticsServiceTest {
+
+    private static final LocalDate START = LocalDate.of(2025, 1, 1);
+    private static final LocalDate END = LocalDate.of(2025, 2, 28);
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private AnalyticsService analyticsService;
+
+    @Autowired
+    private DailyRollupService rollupService;
+
+    @Autowired
+    private DailyRollupRepository rollupRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private UserResultCache resultCache;
+    
+    @Autowired
+    private UserDataVersions dataVersions;
+    
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private User user;
+    private Account account;
+    private Category food;
+
+    @BeforeEach
+    void setUp() {
+        user = entityManager.persist(TestFixtures.user("analyst"));
+
+        account = entityManager.persist(TestFixtures.account(user));
+
+        food = new Category();
+        food.setName("Food");
+        food.setType(Category.CategoryType.EXPENSE);
+        food.setIsSystem(true);
+        food = entityManager.persist(food);
+
+        persist(LocalDate.of(2025, 1, 5), TransactionType.INCOME, "100.00", null);
+        persist(LocalDate.of(2025, 1, 6), TransactionType.EXPENSE, "25.00", food);
+        persist(LocalDate.of(2025, 1, 6), TransactionType.EXPENSE, "15.00", food);
+        persist(LocalDate.of(2025, 2, 2), TransactionType.EXPENSE, "10.00", null);
+        persist(LocalDate.of(2024, 12, 31), TransactionType.EXPENSE, "999.00", null);
+        entityManager.flush();
+    }
+
+    @Test
+    @DisplayName("Should answer summary, categories and trends from rebuilt rollups")
+    void shouldReportFromRollups() {
+        rollupService.rebuild(user.getId());
+
+        AnalyticsSummary summary = analyticsService.getFinancialSummary(user.getId(), START, END);
+        assertThat(summary.getTotalIncome()).isEqualByComparingTo("100.00");
+        assertThat(summary.getTotalExpenses()).isEqualByComparingTo("50.00");
+
+        List<CategoryExpense> byCategory = analyticsService.getExpensesByCategory(user.getId(), START, END);
+        assertThat(byCategory).extracting(CategoryExpense::getCategoryName)
+                .containsExactly("Food", "Uncategorized");
+        assertThat(byCategory.get(0).getAmount()).isEqualByComparingTo("40.00");
+
+        List<MonthlyTrend> trends = analyticsService.getMonthlyTrends(user.getId(), START, END);
+        assertThat(trends).extracting(MonthlyTrend::getMonth).containsExactly("2025-01", "2025-02");
+        assertThat(trends.get(0).getExpenses()).isEqualByComparingTo("40.00");
+        assertThat(trends.get(1).getIncome()).isEqualByComparingTo("0");
+    }
+
+    @Test
+    @DisplayName("Should apply incremental changes and skip ones that cancel out")
+    void shouldApplyIncrementalChanges() {
+        rollupService.rebuild(user.getId());
+
+        Transaction moved = Transaction.builder()
+                .amount(new BigDecimal("25.00"))
+                .type(TransactionType.EXPENSE)
+                .transactionDate(LocalDate.of(2025, 1, 6))
+                .category(food)
+                .account(account)
+                .build();
+        DailyRollupService.Changes changes = new DailyRollupService.Changes().add(user.getId(), moved, -1);
+        moved.setTransactionDate(LocalDate.of(2025, 3, 1));
+        rollupService.record(changes.add(user.getId(), moved, 1));
+        rollupService.record(new DailyRollupService.Changes()
+                .add(user.getId(), LocalDate.of(2025, 1, 7), null, TransactionType.INCOME, BigDecimal.TEN, 1)
+                .add(user.getId(), LocalDate.of(2025, 1, 7), null, TransactionType.INCOME, BigDecimal.TEN, -1));
+
+        AnalyticsSummary summary = analyticsService.getFinancialSummary(user.getId(), START, END);
+        assertThat(summary.getTotalIncome()).isEqualByComparingTo("100.00");
+        assertThat(summary.getTotalExpenses()).isEqualByComparingTo("25.00");
+        assertThat(analyticsService.getFinancialSummary(user.getId(), END.plusDays(1), END.plusDays(1))
+                .getTotalExpenses()).isEqualByComparingTo("25.00");
+    }
+
+    @Test
+    @DisplayName("Should build the overview from one rollup read, matching the individual reports")
+    void shouldBuildOverview() {
+        rollupService.rebuild(user.getId());
+
+        AnalyticsOverview overview = analyticsService.getOverview(user.getId(), START, END);
+
+        assertThat(overview.getSummary()).isEqualTo(analyticsService.getFinancialSummary(user.getId(), START, END));
+        assertThat(overview.getCashFlow()).isEqualTo(analyticsService.getCashFlow(user.getId(), START, END));
+        assertThat(overview.getExpensesByCategory())
+                .isEqualTo(analyticsService.getExpensesByCategory(user.getId(), START, END));
+        assertThat(overview.getMonthlyTrends()).isEqualTo(analyticsService.getMonthlyTrends(user.getId(), START, END));
+        assertThat(overview.getCashFlow().getOpeningBalance()).isEqualByComparingTo("-50.00");
+    }
+
+    @Test
+    @DisplayName("Should answer from the column cache exactly like from the rollups, and follow writes")
+    void shouldAnswerFromColumnCache() {
+        rollupService.rebuild(user.getId());
+        TransactionColumnCache cache = new TransactionColumnCache(true, DataSize.ofMegabytes(1),
+                transactionRepository, dataVersions, transactionManager, new SimpleMeterRegistry());
+        AnalyticsService cached = new AnalyticsService(rollupRepository, accountRepository, categoryRepository, cache,
+                resultCache);
+
+        assertThat(cached.getOverview(user.getId(), START, END))
+                .usingRecursiveComparison()
+                .withComparatorForType(BigDecimal::compareTo, BigDecimal.class)
+                .isEqualTo(analyticsService.getOverview(user.getId(), START, END));
+        assertThat(cache.weightedBytes()).isPositive();
+
+        // Writes reach the cache only when their transaction commits; the test transaction never does
+        Transaction added = persist(LocalDate.of(2025, 2, 3), TransactionType.INCOME, "5.55", food);
+        cache.saved(user.getId(), added);
+        assertThat(cached.getFinancialSummary(user.getId(), START, END).getTotalIncome())
+                .isEqualByComparingTo("100.00");
+
+        TransactionTemplate committed = new TransactionTemplate(transactionManager);
+        committed.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        committed.executeWithoutResult(status -> cache.saved(user.getId(), added));
+        assertThat(cached.getFinancialSummary(user.getId(), START, END).getTotalIncome())
+                .isEqualByComparingTo("105.55");
+
+        committed.executeWithoutResult(status -> cache.deleted(user.getId(), added.getId()));
+        assertThat(cached.getFinancialSummary(user.getId(), START, END).getTotalIncome())
+                .isEqualByComparingTo("100.00");
+    }
+
+    @Test
+    @DisplayName("Should reload cached columns once another node moved the shared data version")
+    void shouldReloadColumnsOnSharedVersionChange() throws Exception {
+        try (InProcessRedis redis = new InProcessRedis()) {
+            LettuceConnectionFactory connectionFactory = new LettuceConnectionFactory(
+                    new RedisStandaloneConfiguration("127.0.0.1", redis.port()));
+            connectionFactory.afterPropertiesSet();
+            connectionFactory.start();
+            try {
+                StringRedisTemplate template = new StringRedisTemplate(connectionFactory);
+                UserDataVersions writerVersions = new UserDataVersions(template);
+                TransactionColumnCache readerCache = new TransactionColumnCache(true, DataSize.ofMegabytes(1),
+                        transactionRepository, new UserDataVersions(template), transactionManager,
+                        new SimpleMeterRegistry());
+                assertThat(readerCache.get(user.getId()).sumCents(TransactionType.INCOME, START, END))
+                        .isEqualTo(10_000);
+
+                // Written through the other node: the reader's write hooks never see it
+                persist(LocalDate.of(2025, 2, 3), TransactionType.INCOME, "5.55", food);
+                entityManager.flush();
+                assertThat(readerCache.get(user.getId()).sumCents(TransactionType.INCOME, START, END))
+                        .isEqualTo(10_000);
+
+                TransactionTemplate committed = new TransactionTemplate(transactionManager);
+                committed.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+                committed.executeWithoutResult(status -> writerVersions.bump(user.getId()));
+                assertThat(readerCache.get(user.getId()).sumCents(TransactionType.INCOME, START, END))
+                        .isEqualTo(10_555);
+            } finally {
+                connectionFactory.destroy();
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should bucket time series by week and quarter, fill empty buckets and match the column cache")
+    void shouldBuildTimeSeries() {
+        rollupService.rebuild(user.getId());
+
+        TimeSeries weeks = analyticsService.getTimeSeries(user.getId(), TimeSeries.Bucket.WEEK, START, END);
+        // 2025-01-01 is a Wednesday, its ISO week starts on 2024-12-30 but the range still starts on January 1st
+        assertThat(weeks.getPeriods()).hasSize(9).startsWith(LocalDate.of(2024, 12, 30), LocalDate.of(2025, 1, 6));
+        assertThat(weeks.getIncome().get(0)).isEqualByComparingTo("100.00");
+        assertThat(weeks.getExpenses().get(0)).isEqualByComparingTo("0");
+        assertThat(weeks.getExpenses().get(1)).isEqualByComparingTo("40.00");
+        assertThat(weeks.getNet().get(2)).isEqualByComparingTo("0");
+        assertThat(weeks.getExpenses().get(4)).isEqualByComparingTo("10.00");
+        assertThat(weeks.getIncome()).hasSameSizeAs(weeks.getPeriods());
+
+        TimeSeries quarters = analyticsService.getTimeSeries(user.getId(), TimeSeries.Bucket.QUARTER,
+                LocalDate.of(2024, 11, 15), END);
+        assertThat(quarters.getPeriods()).containsExactly(LocalDate.of(2024, 10, 1), LocalDate.of(2025, 1, 1));
+        assertThat(quarters.getNet().get(0)).isEqualByComparingTo("-999.00");
+        assertThat(quarters.getNet().get(1)).isEqualByComparingTo("50.00");
+
+        TransactionColumnCache cache = new TransactionColumnCache(true, DataSize.ofMegabytes(1),
+                transactionRepository, dataVersions, transactionManager, new SimpleMeterRegistry());
+        AnalyticsService cached = new AnalyticsService(rollupRepository, accountRepository, categoryRepository, cache,
+                resultCache);
+        assertThat(cached.getTimeSeries(user.getId(), TimeSeries.Bucket.WEEK, START, END)).isEqualTo(weeks);
+
+        assertThatThrownBy(() -> analyticsService.getTimeSeries(user.getId(), TimeSeries.Bucket.DAY,
+                LocalDate.of(2000, 1, 1), END)).isInstanceOf(BadRequestException.class);
+    }
+
+    private Transaction persist(LocalDate date, TransactionType type, String amount, Category category) {
+        return entityManager.persist(Transaction.builder()
+                .amount(new BigDecimal(amount))
+                .type(type)
+                .transactionDate(date)
+                .category(category)
+                .account(account)
+                .isRecurring(false)
+                .build());
+    }
+}
@@ -0,0 +1,149 @@
+package com.financehub.service;
+
+import com.financehub.TestFixtures;
+import com.financehub.config.AuditingConfig;
+import com.financehub.entity.Budget;
+import com.financehub.entity.Notification;
+import com.financehub.entity.Transaction.TransactionType;
+import com.financehub.entity.User;
+import com.financehub.repository.DailyRollupBatchRepository;
+import com.financehub.repository.NotificationRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for BudgetAlertService: budgets queued by spent changes notify once per upward threshold crossing.
+ *
+ * @author tekteku
+ * @version 1.0
+ * @since 2025-11-17
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({AuditingConfig.class, BudgetAlertService.class, BudgetSpentUpdater.class, BudgetSpentCalculator.class,
+        DailyRollupService.class, DailyRollupBatchRepository.class, UserDataVersions.class, SimpleMeterRegistry.class})
+@DisplayName("Budget Alert Service Tests")
+class BudgetAlertServiceTest {
+
+    private static final LocalDate JAN_1 = LocalDate.of(2025, 1, 1);
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private BudgetAlertService alertService;
+
+    @Autowired
+    private DailyRollupService rollupService;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private User user;
+    private Budget budget;
+
+    @BeforeEach
+    void setUp() {
+        user = entityManager.persist(TestFixtures.user("alerted"));
+
+        budget = entityManager.persist(Budget.builder()
+                .name("Groceries")
+                .amount(new BigDecimal("100.00"))
+                .spent(BigDecimal.ZERO)
+                .startDate(JAN_1)
+                .endDate(JAN_1.withDayOfMonth(31))
+                .period(Budget.BudgetPeriod.MONTHLY)
+                .user(user)
+                .alertThreshold(BigDecimal.valueOf(80))
+                .isActive(true)
+                .alertPendingSince(LocalDateTime.now())
+                .build());
+        entityManager.flush();
+    }
+
+    @Test
+    @DisplayName("Should notify on upward crossings only")
+    void shouldNotifyOnUpwardCrossings() {
+        assertThat(alertService.evaluatePending(10)).isEqualTo(1);
+        assertThat(alertService.evaluatePending(10)).isZero();
+
+        spend("85.00");
+        assertThat(alertService.evaluatePending(10)).isEqualTo(1);
+        assertThat(notificationRepository.findByUserIdOrderByCreatedAtDesc(user.getId()))
+                .singleElement()
+                .satisfies(n -> {
+                    assertThat(n.getType()).isEqualTo(Notification.NotificationType.BUDGET);
+                    assertThat(n.getTitle()).contains("Groceries");
+                    assertThat(n.getMessage()).contains("85.00%");
+                });
+
+        // Still above the threshold: evaluated again but no repeat alert
+        spend("10.00");
+        assertThat(alertService.evaluatePending(10)).isEqualTo(1);
+        assertThat(notificationRepository.findByUserIdOrderByCreatedAtDesc(user.getId())).hasSize(1);
+
+        // Dropping below re-arms the alert for the next crossing
+        spend("-50.00");
+        alertService.evaluatePending(10);
+        spend("40.00");
+        alertService.evaluatePending(10);
+        assertThat(notificationRepository.findByUserIdOrderByCreatedAtDesc(user.getId())).hasSize(2);
+
+        assertThat(meterRegistry.get("budget.alerts.evaluated").counter().count()).isEqualTo(5);
+        assertThat(meterRegistry.get("budget.alerts.queue.lag").timer().count()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("Should alert at the default threshold for a budget without one, without stalling the batch")
+    void shouldAlertWithoutThreshold() {
+        Budget unset = entityManager.persist(Budget.builder()
+                .name("Travel")
+                .amount(new BigDecimal("100.00"))
+                .spent(BigDecimal.ZERO)
+                .startDate(JAN_1)
+                .endDate(JAN_1.withDayOfMonth(31))
+                .period(Budget.BudgetPeriod.MONTHLY)
+                .user(user)
+                .alertThreshold(null)
+                .isActive(true)
+                .alertPendingSince(LocalDateTime.now().minusMinutes(1))
+                .build());
+        entityManager.flush();
+        assertThat(alertService.evaluatePending(10)).isEqualTo(2);
+
+        spend("85.00");
+        assertThat(alertService.evaluatePending(10)).isEqualTo(2);
+        assertThat(notificationRepository.findByUserIdOrderByCreatedAtDesc(user.getId()))
+                .extracting(Notification::getTitle, Notification::getMessage)
+                .containsExactlyInAnyOrder(
+                        tuple("Budget alert: Groceries", "You have spent 85.00 of 100.00 (85.00%), "
+                                + "above your 80% alert threshold."),
+                        tuple("Budget alert: Travel", "You have spent 85.00 of 100.00 (85.00%), "
+                                + "above your 80% alert threshold."));
+        assertThat(entityManager.find(Budget.class, unset.getId()).getAlertPendingSince()).isNull();
+    }
+
+    private void spend(String amount) {
+        BigDecimal value = new BigDecimal(amount);
+        rollupService.record(new DailyRollupService.Changes()
+                .add(user.getId(), JAN_1.plusDays(2), null, TransactionType.EXPENSE, value.abs(), value.signum()));
+        entityManager.clear();
+    }
+}
@@ -0,0 +1,168 @@
+package com.financehub.service;
+
+import com.financehub.TestFixtures;
+import com.financehub.config.AuditingConfig;
+import com.financehub.dto.BudgetResponse;
+import com.financehub.entity.Account;
+import com.financehub.entity.Budget;
+import com.financehub.entity.Category;
+import com.financehub.entity.Transaction;
+import com.financehub.entity.Transaction.TransactionType;
+import com.financehub.entity.User;
+import com.financehub.repository.DailyRollupBatchRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for BudgetService spent amounts: computed for all budgets of a user in one grouped query when rollups
+ * are rebuilt, then maintained from rollup changes so that reads are plain lookups.
+ *
+ * @author tekteku
+ * @version 1.0
+ * @since 2025-11-17
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Import({AuditingConfig.class, BudgetService.class, BudgetSpentCalculator.class, BudgetSpentUpdater.class,
+        DailyRollupService.class, DailyRollupBatchRepository.class, UserResultCache.class, UserDataVersions.class,
+        SimpleMeterRegistry.class})
+@DisplayName("Budget Service Tests")
+class BudgetServiceTest {
+
+    private static final LocalDate JAN_1 = LocalDate.of(2025, 1, 1);
+    private static final int CATEGORIES = 15;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private BudgetService budgetService;
+
+    @Autowired
+    private DailyRollupService rollupService;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = entityManager.persist(TestFixtures.user("budgeter"));
+
+        Account account = entityManager.persist(TestFixtures.account(user));
+
+        // Per category: one expense in January, one in February, plus a January and an uncategorized budget
+        for (int i = 0; i < CATEGORIES; i++) {
+            Category category = new Category();
+            category.setName("Category " + i);
+            category.setType(Category.CategoryType.EXPENSE);
+            category.setIsSystem(false);
+            category.setUser(user);
+            entityManager.persist(category);
+
+            persist(account, category, JAN_1.plusDays(i), TransactionType.EXPENSE, "10.00");
+            persist(account, category, JAN_1.plusMonths(1), TransactionType.EXPENSE, "5.00");
+            entityManager.persist(budget("Category " + i, category, "12.50"));
+            entityManager.persist(budget("All " + i, null, "1000.00"));
+        }
+        persist(account, null, JAN_1, TransactionType.EXPENSE, "1.00");
+        persist(account, null, JAN_1, TransactionType.INCOME, "500.00");
+        entityManager.flush();
+        rollupService.rebuild(user.getId());
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("Should read spent amounts computed on rebuild with a single statement")
+    void shouldReadMaintainedSpent() {
+        Statistics statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<BudgetResponse> budgets = budgetService.getActiveBudgets(user.getId());
+
+        // One select for the budgets with their categories
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(budgets).hasSize(2 * CATEGORIES);
+        assertThat(budgets).filteredOn(b -> b.getCategoryId() != null)
+                .allSatisfy(b -> assertThat(b.getSpent()).isEqualByComparingTo("10.00"))
+                .allSatisfy(b -> assertThat(b.getCategoryName()).startsWith("Category "));
+        assertThat(budgets).filteredOn(b -> b.getCategoryId() == null)
+                .allSatisfy(b -> assertThat(b.getSpent()).isEqualByComparingTo("151.00"));
+
+        assertThat(budgetService.getBudgetsExceedingThreshold(user.getId()))
+                .extracting(BudgetResponse::getName)
+                .hasSize(CATEGORIES)
+                .allMatch(name -> name.startsWith("Category "));
+    }
+
+    @Test
+    @DisplayName("Should apply expense changes to the budgets whose window and category match")
+    void shouldApplyExpenseChanges() {
+        BudgetResponse food = budgetService.getActiveBudgets(user.getId()).stream()
+                .filter(b -> b.getName().equals("Category 0"))
+                .findFirst()
+                .orElseThrow();
+
+        rollupService.record(new DailyRollupService.Changes()
+                .add(user.getId(), JAN_1.plusDays(3), food.getCategoryId(), TransactionType.EXPENSE,
+                        new BigDecimal("2.50"), 1)
+                .add(user.getId(), JAN_1.plusDays(4), null, TransactionType.EXPENSE, new BigDecimal("1.00"), -1)
+                .add(user.getId(), JAN_1.plusMonths(1), food.getCategoryId(), TransactionType.EXPENSE,
+                        new BigDecimal("99.00"), 1)
+                .add(user.getId(), JAN_1, null, TransactionType.INCOME, new BigDecimal("99.00"), 1));
+        entityManager.clear();
+
+        List<BudgetResponse> budgets = budgetService.getActiveBudgets(user.getId());
+        assertThat(budgets).filteredOn(b -> b.getName().equals("Category 0"))
+                .singleElement()
+                .satisfies(b -> assertThat(b.getSpent()).isEqualByComparingTo("12.50"));
+        assertThat(budgets).filteredOn(b -> b.getName().equals("Category 1"))
+                .singleElement()
+                .satisfies(b -> assertThat(b.getSpent()).isEqualByComparingTo("10.00"));
+        assertThat(budgets).filteredOn(b -> b.getCategoryId() == null)
+                .allSatisfy(b -> assertThat(b.getSpent()).isEqualByComparingTo("152.50"));
+        assertThat(budgetService.getBudgetsExceedingThreshold(user.getId())).extracting(BudgetResponse::getName)
+                .contains("Category 0");
+    }
+
+    private Budget budget(String name, Category category, String amount) {
+        return Budget.builder()
+                .name(name)
+                .amount(new BigDecimal(amount))
+                .spent(BigDecimal.ZERO)
+                .startDate(JAN_1)
+                .endDate(JAN_1.withDayOfMonth(31))
+                .period(Budget.BudgetPeriod.MONTHLY)
+                .user(user)
+                .category(category)
+                .alertThreshold(BigDecimal.valueOf(80))
+                .isActive(true)
+                .build();
+    }
+
+    private void persist(Account account, Category category, LocalDate date, TransactionType type, String amount) {
+        entityManager.persist(Transaction.builder()
+                .amount(new BigDecimal(amount))
+                .type(type)
+                .transactionDate(date)
+                .account(account)
+                .category(category)
+                .isRecurring(false)
+                .build());
+    }
+}
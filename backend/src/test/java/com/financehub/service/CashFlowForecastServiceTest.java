@@ -0,0 +1,145 @@
+package com.financehub.service;
+
+import com.financehub.TestFixtures;
+import com.financehub.config.AuditingConfig;
+import com.financehub.dto.CashFlowForecast;
+import com.financehub.entity.Account;
+import com.financehub.entity.RecurringTransaction;
+import com.financehub.entity.RecurringTransaction.RecurrenceFrequency;
+import com.financehub.entity.Transaction.TransactionType;
+import com.financehub.entity.User;
+import com.financehub.exception.BadRequestException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for CashFlowForecastService: recurring templates expanded and merged into daily account balances.
+ *
+ * @author tekteku
+ * @version 1.0
+ * @since 2025-11-17
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({AuditingConfig.class, CashFlowForecastService.class})
+@DisplayName("Cash Flow Forecast Service Tests")
+class CashFlowForecastServiceTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 2, 1);
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private CashFlowForecastService forecastService;
+
+    private User user;
+    private Account checking;
+
+    @BeforeEach
+    void setUp() {
+        user = entityManager.persist(TestFixtures.user("forecast"));
+
+        checking = persistAccount("Checking");
+    }
+
+    @Test
+    @DisplayName("Should project daily balances from merged recurring schedules")
+    void shouldProjectDailyBalances() {
+        Account savings = persistAccount("Savings");
+        // Rent on the 31st, January already posted
+        persist(checking, RecurrenceFrequency.MONTHLY, TransactionType.EXPENSE, "500.00",
+                LocalDate.of(2025, 1, 31), LocalDate.of(2025, 2, 28), null, true);
+        // Salary every other Friday, the overdue January 17 occurrence is not projected
+        persist(checking, RecurrenceFrequency.BIWEEKLY, TransactionType.INCOME, "300.00",
+                LocalDate.of(2025, 1, 3), LocalDate.of(2025, 1, 17), null, true);
+        // Three days of parking
+        persist(checking, RecurrenceFrequency.DAILY, TransactionType.EXPENSE, "10.00",
+                LocalDate.of(2025, 2, 18), LocalDate.of(2025, 2, 18), LocalDate.of(2025, 2, 20), true);
+        persist(checking, RecurrenceFrequency.WEEKLY, TransactionType.EXPENSE, "99.00",
+                LocalDate.of(2025, 2, 1), LocalDate.of(2025, 2, 1), null, false);
+        persist(savings, RecurrenceFrequency.QUARTERLY, TransactionType.INCOME, "25.00",
+                LocalDate.of(2025, 1, 15), LocalDate.of(2025, 4, 15), null, true);
+        entityManager.flush();
+        entityManager.clear();
+
+        CashFlowForecast forecast = forecastService.getForecast(user.getId(), TODAY, LocalDate.of(2025, 3, 31));
+
+        assertThat(forecast.getDates()).hasSize(59).startsWith(TODAY).endsWith(LocalDate.of(2025, 3, 31));
+        CashFlowForecast.AccountProjection projection = forecast.getAccounts().stream()
+                .filter(a -> a.getAccountId().equals(checking.getId()))
+                .findFirst().orElseThrow();
+        assertThat(projection.getProjectedInflows()).isEqualByComparingTo("1200.00");
+        assertThat(projection.getProjectedOutflows()).isEqualByComparingTo("1030.00");
+        assertThat(projection.getClosingBalance()).isEqualByComparingTo("1170.00");
+        assertThat(projection.getLowestBalance()).isEqualByComparingTo("1000.00");
+        assertThat(projection.getLowestBalanceDate()).isEqualTo(TODAY);
+        assertThat(balanceOn(forecast, projection, LocalDate.of(2025, 2, 13))).isEqualByComparingTo("1000.00");
+        assertThat(balanceOn(forecast, projection, LocalDate.of(2025, 2, 14))).isEqualByComparingTo("1300.00");
+        assertThat(balanceOn(forecast, projection, LocalDate.of(2025, 2, 20))).isEqualByComparingTo("1270.00");
+        assertThat(balanceOn(forecast, projection, LocalDate.of(2025, 2, 28))).isEqualByComparingTo("1070.00");
+
+        assertThat(forecast.getAccounts())
+                .filteredOn(a -> a.getAccountId().equals(savings.getId()))
+                .singleElement()
+                .satisfies(a -> assertThat(a.getClosingBalance()).isEqualByComparingTo("1000.00"));
+    }
+
+    @Test
+    @DisplayName("Should project hundreds of templates over five years")
+    void shouldProjectLongHorizon() {
+        for (int i = 0; i < 300; i++) {
+            persist(checking, RecurrenceFrequency.WEEKLY, TransactionType.EXPENSE, "1.00",
+                    TODAY, TODAY, null, true);
+        }
+        entityManager.flush();
+        entityManager.clear();
+        LocalDate endDate = TODAY.plusYears(5).minusDays(1);
+
+        CashFlowForecast forecast = forecastService.getForecast(user.getId(), TODAY, endDate);
+
+        long weeks = ChronoUnit.WEEKS.between(TODAY, endDate) + 1;
+        assertThat(forecast.getDates()).hasSize((int) ChronoUnit.DAYS.between(TODAY, endDate) + 1);
+        assertThat(forecast.getAccounts().get(0).getClosingBalance())
+                .isEqualByComparingTo(BigDecimal.valueOf(1000 - 300 * weeks));
+        assertThatThrownBy(() -> forecastService.getForecast(user.getId(), TODAY, TODAY.plusYears(11)))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    private static BigDecimal balanceOn(CashFlowForecast forecast, CashFlowForecast.AccountProjection projection,
+                                        LocalDate date) {
+        return projection.getBalances().get(forecast.getDates().indexOf(date));
+    }
+
+    private Account persistAccount(String name) {
+        return entityManager.persist(TestFixtures.account(user, name, new BigDecimal("1000.00")));
+    }
+
+    private void persist(Account account, RecurrenceFrequency frequency, TransactionType type, String amount,
+                         LocalDate startDate, LocalDate nextOccurrenceDate, LocalDate endDate, boolean active) {
+        entityManager.persist(RecurringTransaction.builder()
+                .name(frequency.name())
+                .amount(new BigDecimal(amount))
+                .type(type)
+                .frequency(frequency)
+                .startDate(startDate)
+                .nextOccurrenceDate(nextOccurrenceDate)
+                .endDate(endDate)
+                .account(account)
+                .isActive(active)
+                .autoCreate(true)
+                .build());
+    }
+}
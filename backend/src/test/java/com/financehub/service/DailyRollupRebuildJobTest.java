@@ -0,0 +1,155 @@
+package com.financehub.service;
+
+import com.financehub.TestFixtures;
+import com.financehub.config.AuditingConfig;
+import com.financehub.entity.Account;
+import com.financehub.entity.Transaction;
+import com.financehub.entity.Transaction.TransactionType;
+import com.financehub.entity.User;
+import com.financehub.repository.DailyRollupBatchRepository;
+import com.financehub.repository.DailyRollupRepository;
+import com.financehub.repository.JobLeaseRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for DailyRollupRebuildJob: a database whose rollups predate the transactions is backfilled once.
+ *
+ * @author tekteku
+ * @version 1.0
+ * @since 2025-11-16
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({AuditingConfig.class, DailyRollupRebuildJob.class, DailyRollupService.class,
+        DailyRollupBatchRepository.class, JobCoordinator.class, JobLeaseRepository.class, SimpleMeterRegistry.class})
+@DisplayName("Daily Rollup Rebuild Job Tests")
+class DailyRollupRebuildJobTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private DailyRollupRebuildJob rebuildJob;
+
+    @Autowired
+    private DailyRollupRepository rollupRepository;
+
+    @Autowired
+    private DailyRollupBatchRepository batchRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DailyRollupService rollupService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("Should backfill rollups of existing transactions once")
+    void shouldBackfillOnce() {
+        // The empty test database was marked as backfilled on startup; drop the marker to look like an upgrade
+        assertThat(batchRepository.isBackfilled(DailyRollupService.ROLLUP_VERSION)).isTrue();
+        jdbcTemplate.update("DELETE FROM daily_rollup_backfills");
+
+        Account account = persistAccount("upgraded");
+        // Written before rollups existed: no rollup rows
+        entityManager.persist(Transaction.builder()
+                .amount(new BigDecimal("40.00"))
+                .type(TransactionType.EXPENSE)
+                .transactionDate(LocalDate.of(2025, 1, 5))
+                .isRecurring(false)
+                .account(account)
+                .build());
+        entityManager.flush();
+        assertThat(rollupRepository.count()).isZero();
+
+        rebuildJob.rebuildOnStartup();
+
+        assertThat(rollupRepository.findAll()).singleElement()
+                .satisfies(r -> assertThat(r.getTotal()).isEqualByComparingTo("40.00"));
+        assertThat(batchRepository.isBackfilled(DailyRollupService.ROLLUP_VERSION)).isTrue();
+
+        // Later starts leave the rollups to the write paths
+        rollupRepository.deleteAll();
+        rebuildJob.rebuildOnStartup();
+        assertThat(rollupRepository.count()).isZero();
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("Should wait for a writer in flight and rebuild including its transaction")
+    void shouldSerializeRebuildWithWriters() throws Exception {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        Account account = tx.execute(status -> persistAccount("writer"));
+        Long userId = account.getUser().getId();
+        CountDownLatch recorded = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            CompletableFuture<Void> writer = CompletableFuture.runAsync(() -> tx.executeWithoutResult(status -> {
+                Transaction transaction = entityManager.persist(Transaction.builder()
+                        .amount(new BigDecimal("40.00"))
+                        .type(TransactionType.EXPENSE)
+                        .transactionDate(LocalDate.of(2025, 1, 5))
+                        .isRecurring(false)
+                        .account(entityManager.find(Account.class, account.getId()))
+                        .build());
+                rollupService.record(userId, transaction, 1);
+                recorded.countDown();
+                await(release);
+            }));
+            assertThat(recorded.await(5, TimeUnit.SECONDS)).isTrue();
+
+            CompletableFuture<Integer> rebuild = CompletableFuture.supplyAsync(() -> rollupService.rebuild(userId));
+            Thread.sleep(200);
+            assertThat(rebuild).isNotDone();
+
+            release.countDown();
+            writer.get(5, TimeUnit.SECONDS);
+            assertThat(rebuild.get(5, TimeUnit.SECONDS)).isEqualTo(1);
+            assertThat(rollupRepository.findAll()).singleElement()
+                    .satisfies(r -> assertThat(r.getTotal()).isEqualByComparingTo("40.00"));
+        } finally {
+            release.countDown();
+            jdbcTemplate.update("DELETE FROM daily_rollups");
+            jdbcTemplate.update("DELETE FROM transactions");
+            jdbcTemplate.update("DELETE FROM accounts");
+            jdbcTemplate.update("DELETE FROM user_roles");
+            jdbcTemplate.update("DELETE FROM users");
+        }
+    }
+
+    private Account persistAccount(String username) {
+        User user = entityManager.persist(TestFixtures.user(username));
+        return entityManager.persist(TestFixtures.account(user));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
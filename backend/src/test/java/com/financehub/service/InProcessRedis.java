@@ -0,0 +1,233 @@
+package com.financehub.service;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Minimal Redis stand-in for tests: a RESP2 server on a local port that keeps string keys in memory.
+ * Supports the commands the application sends through Lettuce (GET, SET with NX/EX/PX, SETNX, SETEX, PSETEX,
+ * INCR, DEL, EXISTS) plus the connection handshake; HELLO is refused so clients fall back to RESP2.
+ *
+ * @author tekteku
+ * @version 1.0
+ * @since 2025-11-17
+ */
+final class InProcessRedis implements AutoCloseable {
+
+    private static final Set<String> WRITES = Set.of("SET", "SETNX", "SETEX", "PSETEX", "INCR", "DEL");
+
+    private record Value(String data, long expiresAt) {
+
+        boolean expired() {
+            return expiresAt > 0 && System.currentTimeMillis() >= expiresAt;
+        }
+    }
+
+    private final Map<String, Value> data = new ConcurrentHashMap<>();
+    private final List<Socket> clients = new ArrayList<>();
+    private final ServerSocket serverSocket;
+    private volatile boolean readOnly;
+
+    InProcessRedis() throws IOException {
+        serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        Thread acceptor = new Thread(this::accept, "in-process-redis");
+        acceptor.setDaemon(true);
+        acceptor.start();
+    }
+
+    int port() {
+        return serverSocket.getLocalPort();
+    }
+
+    void flushAll() {
+        data.clear();
+    }
+
+    /**
+     * Reject writes like a replica that is not promoted yet, reads keep working.
+     */
+    void readOnly(boolean readOnly) {
+        this.readOnly = readOnly;
+    }
+
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+        synchronized (clients) {
+            for (Socket client : clients) {
+                client.close();
+            }
+        }
+    }
+
+    private void accept() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket client = serverSocket.accept();
+                synchronized (clients) {
+                    clients.add(client);
+                }
+                Thread handler = new Thread(() -> serve(client), "in-process-redis-client");
+                handler.setDaemon(true);
+                handler.start();
+            } catch (IOException e) {
+                return;
+            }
+        }
+    }
+
+    private void serve(Socket client) {
+        try (client;
+             InputStream in = new BufferedInputStream(client.getInputStream());
+             OutputStream out = new BufferedOutputStream(client.getOutputStream())) {
+            while (true) {
+                List<String> command = readCommand(in);
+                out.write(execute(command).getBytes(StandardCharsets.UTF_8));
+                if (in.available() == 0) {
+                    out.flush();
+                }
+            }
+        } catch (IOException e) {
+            // Client disconnected or server closed
+        }
+    }
+
+    private String execute(List<String> command) {
+        String name = command.get(0).toUpperCase(Locale.ROOT);
+        if (readOnly && WRITES.contains(name)) {
+            return "-READONLY You can't write against a read only replica.\r\n";
+        }
+        switch (name) {
+            case "PING":
+                return "+PONG\r\n";
+            case "SELECT":
+            case "CLIENT":
+                return "+OK\r\n";
+            case "GET": {
+                Value value = live(command.get(1));
+                return value != null ? bulk(value.data()) : "$-1\r\n";
+            }
+            case "SET":
+                return set(command);
+            case "SETNX":
+                live(command.get(1));
+                return data.putIfAbsent(command.get(1), new Value(command.get(2), 0)) == null ? ":1\r\n" : ":0\r\n";
+            case "SETEX":
+                data.put(command.get(1), new Value(command.get(3),
+                        System.currentTimeMillis() + Long.parseLong(command.get(2)) * 1000));
+                return "+OK\r\n";
+            case "PSETEX":
+                data.put(command.get(1), new Value(command.get(3),
+                        System.currentTimeMillis() + Long.parseLong(command.get(2))));
+                return "+OK\r\n";
+            case "INCR": {
+                Value updated = data.compute(command.get(1), (key, value) -> {
+                    long current = value == null || value.expired() ? 0 : Long.parseLong(value.data());
+                    return new Value(Long.toString(current + 1), value == null || value.expired() ? 0 : value.expiresAt());
+                });
+                return ":" + updated.data() + "\r\n";
+            }
+            case "DEL":
+            case "EXISTS": {
+                long count = 0;
+                for (String key : command.subList(1, command.size())) {
+                    if (live(key) != null) {
+                        count++;
+                        if (name.equals("DEL")) {
+                            data.remove(key);
+                        }
+                    }
+                }
+                return ":" + count + "\r\n";
+            }
+            case "FLUSHALL":
+            case "FLUSHDB":
+                data.clear();
+                return "+OK\r\n";
+            default:
+                return "-ERR unknown command '" + command.get(0) + "'\r\n";
+        }
+    }
+
+    private String set(List<String> command) {
+        long expiresAt = 0;
+        boolean ifAbsent = false;
+        for (int i = 3; i < command.size(); i++) {
+            String option = command.get(i).toUpperCase(Locale.ROOT);
+            if (option.equals("NX")) {
+                ifAbsent = true;
+            } else if (option.equals("EX")) {
+                expiresAt = System.currentTimeMillis() + Long.parseLong(command.get(++i)) * 1000;
+            } else if (option.equals("PX")) {
+                expiresAt = System.currentTimeMillis() + Long.parseLong(command.get(++i));
+            }
+        }
+        Value value = new Value(command.get(2), expiresAt);
+        if (ifAbsent) {
+            live(command.get(1));
+            return data.putIfAbsent(command.get(1), value) == null ? "+OK\r\n" : "$-1\r\n";
+        }
+        data.put(command.get(1), value);
+        return "+OK\r\n";
+    }
+
+    private Value live(String key) {
+        Value value = data.get(key);
+        if (value != null && value.expired()) {
+            data.remove(key, value);
+            return null;
+        }
+        return value;
+    }
+
+    private static String bulk(String value) {
+        return "$" + value.getBytes(StandardCharsets.UTF_8).length + "\r\n" + value + "\r\n";
+    }
+
+    private static List<String> readCommand(InputStream in) throws IOException {
+        String header = readLine(in);
+        if (!header.startsWith("*")) {
+            return List.of(header.trim().split("\\s+"));
+        }
+        int count = Integer.parseInt(header.substring(1));
+        List<String> args = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int length = Integer.parseInt(readLine(in).substring(1));
+            byte[] bytes = in.readNBytes(length);
+            if (bytes.length < length) {
+                throw new EOFException();
+            }
+            readLine(in);
+            args.add(new String(bytes, StandardCharsets.UTF_8));
+        }
+        return args;
+    }
+
+    private static String readLine(InputStream in) throws IOException {
+        StringBuilder line = new StringBuilder();
+        int c;
+        while ((c = in.read()) != '\n') {
+            if (c < 0) {
+                throw new EOFException();
+            }
+            if (c != '\r') {
+                line.append((char) c);
+            }
+        }
+        return line.toString();
+    }
+}
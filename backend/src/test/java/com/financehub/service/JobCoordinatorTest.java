@@ -0,0 +1,199 @@
+package com.financehub.service;
+
+import com.financehub.repository.JobLeaseRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for JobCoordinator: several coordinators with their own node ids and a shared clock simulate
+ * replicas against one database. Runs without a test transaction so that every lease write commits,
+ * as it does between real nodes.
+ *
+ * @author tekteku
+ * @version 1.0
+ * @since 2025-11-17
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(JobLeaseRepository.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("Job Coordinator Tests")
+class JobCoordinatorTest {
+
+    private static final String JOB = "test-job";
+    private static final int SHARDS = 16;
+    private static final Duration LEASE_TTL = Duration.ofSeconds(30);
+
+    @Autowired
+    private JobLeaseRepository leaseRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final MutableClock clock = new MutableClock();
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM job_leases");
+        jdbcTemplate.update("DELETE FROM cluster_nodes");
+    }
+
+    @Test
+    @DisplayName("Should run an exclusive job on one node at a time")
+    void shouldRunExclusiveJobOnce() {
+        JobCoordinator a = node("a");
+        JobCoordinator b = node("b");
+        AtomicBoolean ranOnB = new AtomicBoolean();
+
+        boolean ranOnA = a.runExclusive(JOB, () -> {
+            assertThat(b.runExclusive(JOB, () -> ranOnB.set(true))).isFalse();
+            // Kept by heartbeats while it runs, however long that takes
+            clock.advance(LEASE_TTL.multipliedBy(2));
+            a.heartbeat();
+            assertThat(b.runExclusive(JOB, () -> ranOnB.set(true))).isFalse();
+        });
+
+        assertThat(ranOnA).isTrue();
+        assertThat(ranOnB).isFalse();
+        assertThat(b.runExclusive(JOB, () -> ranOnB.set(true))).isTrue();
+        assertThat(ranOnB).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should split shards evenly and disjointly between live nodes")
+    void shouldSplitShards() {
+        List<JobCoordinator> nodes = List.of(node("a"), node("b"), node("c"));
+        nodes.forEach(JobCoordinator::heartbeat);
+
+        // The first run takes every free shard, heartbeats then spread them
+        nodes.get(0).runSharded(JOB, shards -> assertThat(shards.owned()).hasSize(SHARDS));
+        heartbeats(nodes);
+
+        List<List<Integer>> slices = runConcurrently(nodes);
+        assertPartition(slices);
+        assertThat(slices).allSatisfy(slice -> assertThat(slice).hasSizeBetween(4, 6));
+    }
+
+    @Test
+    @DisplayName("Should take over the shards of a node that stops heartbeating and rebalance when nodes join")
+    void shouldTakeOverAndRebalance() {
+        JobCoordinator a = node("a");
+        JobCoordinator b = node("b");
+        JobCoordinator c = node("c");
+        List<JobCoordinator> nodes = List.of(a, b, c);
+        nodes.forEach(JobCoordinator::heartbeat);
+        a.runSharded(JOB, shards -> { });
+        heartbeats(nodes);
+
+        // c dies: its leases expire and the survivors share its shards
+        clock.advance(LEASE_TTL.plusSeconds(1));
+        heartbeats(List.of(a, b));
+        List<List<Integer>> slices = runConcurrently(List.of(a, b));
+        assertPartition(slices);
+        assertThat(slices).allSatisfy(slice -> assertThat(slice).hasSize(8));
+
+        // d joins: the others give shards away on their heartbeats and d takes them
+        JobCoordinator d = node("d");
+        d.heartbeat();
+        heartbeats(List.of(a, b, d));
+        slices = runConcurrently(List.of(a, b, d));
+        assertPartition(slices);
+        assertThat(slices).allSatisfy(slice -> assertThat(slice).hasSizeBetween(4, 6));
+
+        // A clean shutdown hands shards over without waiting for the lease to expire
+        d.leave();
+        heartbeats(List.of(a, b));
+        slices = runConcurrently(List.of(a, b));
+        assertPartition(slices);
+    }
+
+    private JobCoordinator node(String id) {
+        return new JobCoordinator(leaseRepository, true, id, SHARDS, LEASE_TTL, clock);
+    }
+
+    private void heartbeats(List<JobCoordinator> nodes) {
+        for (int round = 0; round < 2; round++) {
+            nodes.forEach(JobCoordinator::heartbeat);
+        }
+    }
+
+    /**
+     * Run the job on every node, each run still in progress while the next node starts its own.
+     */
+    private static List<List<Integer>> runConcurrently(List<JobCoordinator> nodes) {
+        List<List<Integer>> slices = new ArrayList<>();
+        runNested(nodes, 0, slices);
+        return slices;
+    }
+
+    private static void runNested(List<JobCoordinator> nodes, int index, List<List<Integer>> slices) {
+        if (index == nodes.size()) {
+            return;
+        }
+        boolean ran = nodes.get(index).runSharded(JOB, shards -> {
+            slices.add(shards.owned());
+            nodes.forEach(JobCoordinator::heartbeat);
+            runNested(nodes, index + 1, slices);
+        });
+        if (!ran) {
+            slices.add(List.of());
+            runNested(nodes, index + 1, slices);
+        }
+    }
+
+    private static void assertPartition(List<List<Integer>> slices) {
+        Set<Integer> seen = new HashSet<>();
+        for (List<Integer> slice : slices) {
+            for (Integer shard : slice) {
+                assertThat(seen.add(shard)).as("shard %d processed by one node only", shard).isTrue();
+            }
+        }
+        assertThat(seen).containsExactlyInAnyOrderElementsOf(IntStream.range(0, SHARDS).boxed().toList());
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant instant = Instant.parse("2025-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.financehub.service;
+
+import com.financehub.TestFixtures;
+import com.financehub.config.AuditingConfig;
+import com.financehub.entity.Account;
+import com.financehub.entity.RecurringTransaction;
+import com.financehub.entity.RecurringTransaction.RecurrenceFrequency;
+import com.financehub.entity.Transaction.TransactionType;
+import com.financehub.entity.User;
+import com.financehub.repository.DailyRollupBatchRepository;
+import com.financehub.repository.RecurringTransactionBatchRepository;
+import com.financehub.repository.TransactionBatchRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for RecurringTransactionMaterializer: catch-up of missed occurrences, end dates and idempotent re-runs.
+ *
+ * @author tekteku
+ * @version 1.0
+ * @since 2025-11-17
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({AuditingConfig.class, RecurringTransactionMaterializer.class, RecurringTransactionBatchRepository.class,
+        TransactionBatchRepository.class, BalanceLedgerService.class, DailyRollupService.class,
+        DailyRollupBatchRepository.class, TransactionColumnCache.class, UserDataVersions.class,
+        SimpleMeterRegistry.class})
+@DisplayName("Recurring Transaction Materializer Tests")
+class RecurringTransactionMaterializerTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 4, 15);
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private RecurringTransactionMaterializer materializer;
+
+    @Autowired
+    private RecurringTransactionBatchRepository recurringBatchRepository;
+
+    private Account account;
+
+    @BeforeEach
+    void setUp() {
+        User user = entityManager.persist(TestFixtures.user("recurring"));
+
+        account = entityManager.persist(TestFixtures.account(user, "Checking", new BigDecimal("1000.00")));
+    }
+
+    @Test
+    @DisplayName("Should catch up every missed occurrence once and advance the schedule")
+    void shouldCatchUpOnce() {
+        RecurringTransaction rent = persist("Rent", RecurrenceFrequency.MONTHLY, LocalDate.of(2025, 1, 31), null,
+                TransactionType.EXPENSE, "500.00", true);
+        RecurringTransaction gym = persist("Gym", RecurrenceFrequency.DAILY, LocalDate.of(2025, 4, 1),
+                LocalDate.of(2025, 4, 3), TransactionType.EXPENSE, "10.00", true);
+        persist("Manual", RecurrenceFrequency.DAILY, LocalDate.of(2025, 1, 1), null,
+                TransactionType.EXPENSE, "1.00", false);
+        entityManager.flush();
+
+        // A chunk of one template at a time exercises the keyset paging
+        long afterId = 0;
+        int created = 0;
+        RecurringTransactionMaterializer.Chunk chunk;
+        do {
+            chunk = materializer.materialize(TODAY, afterId, 1);
+            afterId = chunk.lastId();
+            created += chunk.transactions();
+        } while (chunk.templates() == 1);
+
+        assertThat(created).isEqualTo(6);
+        assertThat(dates(rent)).containsExactly(
+                LocalDate.of(2025, 1, 31), LocalDate.of(2025, 2, 28), LocalDate.of(2025, 3, 31));
+        assertThat(dates(gym)).hasSize(3);
+        assertThat(balance()).isEqualByComparingTo("-530.00");
+
+        entityManager.clear();
+        RecurringTransaction advanced = entityManager.find(RecurringTransaction.class, rent.getId());
+        assertThat(advanced.getLastOccurrenceDate()).isEqualTo(LocalDate.of(2025, 3, 31));
+        assertThat(advanced.getNextOccurrenceDate()).isEqualTo(LocalDate.of(2025, 4, 30));
+
+        // Nothing is due any more, the finished template included
+        assertThat(materializer.materialize(TODAY, 0, 100).transactions()).isZero();
+        assertThat(materializer.materialize(TODAY.plusMonths(1), 0, 100).transactions()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should not advance a schedule that moved since it was read")
+    void shouldRejectStaleAdvance() {
+        RecurringTransaction rent = persist("Rent", RecurrenceFrequency.MONTHLY, LocalDate.of(2025, 1, 31), null,
+                TransactionType.EXPENSE, "500.00", true);
+        entityManager.flush();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        boolean[] applied = recurringBatchRepository.advance(List.of(
+                new RecurringTransactionBatchRepository.Advance(rent.getId(), LocalDate.of(2025, 1, 31),
+                        LocalDate.of(2025, 2, 28), LocalDate.of(2025, 1, 31)),
+                new RecurringTransactionBatchRepository.Advance(rent.getId(), LocalDate.of(2025, 1, 31),
+                        LocalDate.of(2025, 2, 28), LocalDate.of(2025, 1, 31))), now);
+
+        assertThat(applied).containsExactly(true, false);
+    }
+
+    private RecurringTransaction persist(String name, RecurrenceFrequency frequency, LocalDate startDate,
+                                         LocalDate endDate, TransactionType type, String amount, boolean autoCreate) {
+        return entityManager.persist(RecurringTransaction.builder()
+                .name(name)
+                .amount(new BigDecimal(amount))
+                .type(type)
+                .frequency(frequency)
+                .startDate(startDate)
+                .endDate(endDate)
+                .nextOccurrenceDate(startDate)
+                .account(account)
+                .isActive(true)
+                .autoCreate(autoCreate)
+                .build());
+    }
+
+    private List<LocalDate> dates(RecurringTransaction template) {
+        return jdbcTemplate.queryForList("SELECT transaction_date FROM transactions " +
+                "WHERE recurring_transaction_id = ? AND is_recurring = true ORDER BY transaction_date",
+                LocalDate.class, template.getId());
+    }
+
+    private BigDecimal balance() {
+        entityManager.flush();
+        entityManager.clear();
+        return entityManager.find(Account.class, account.getId()).getCurrentBalance();
+    }
+}
@@ -0,0 +1,68 @@
+package com.financehub.service;
+
+import com.financehub.entity.Transaction.TransactionType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for TransactionColumns.
+ *
+ * @author tekteku
+ * @version 1.0
+ * @since 2025-11-17
+ */
+@DisplayName("Transaction Columns Tests")
+class TransactionColumnsTest {
+
+    private static final LocalDate JAN_31 = LocalDate.of(2025, 1, 31);
+    private static final LocalDate FEB_1 = LocalDate.of(2025, 2, 1);
+
+    private final TransactionColumns columns = TransactionColumns.builder()
+            .add(1, JAN_31, new BigDecimal("10.00"), null, TransactionType.EXPENSE)
+            .add(2, JAN_31, new BigDecimal("0.01"), 7L, TransactionType.EXPENSE)
+            .add(3, FEB_1, new BigDecimal("100.50"), null, TransactionType.INCOME)
+            .add(4, FEB_1, new BigDecimal("2.00"), 7L, TransactionType.EXPENSE)
+            .build();
+
+    @Test
+    @DisplayName("Should sum inclusive date ranges in cents")
+    void shouldSumRanges() {
+        assertThat(columns.sumCents(TransactionType.EXPENSE, JAN_31, FEB_1)).isEqualTo(1201);
+        assertThat(columns.sumCents(TransactionType.EXPENSE, JAN_31, JAN_31)).isEqualTo(1001);
+        assertThat(columns.sumCents(TransactionType.INCOME, FEB_1, LocalDate.MAX)).isEqualTo(10050);
+        assertThat(columns.sumCents(TransactionType.INCOME, LocalDate.MIN, JAN_31)).isZero();
+        assertThat(columns.sumCentsByCategory(TransactionType.EXPENSE, JAN_31, FEB_1))
+                .containsExactlyInAnyOrderEntriesOf(Map.of(TransactionColumns.NO_CATEGORY, 1000L, 7, 201L));
+    }
+
+    @Test
+    @DisplayName("Should bucket sums by month")
+    void shouldSumByMonth() {
+        TreeMap<YearMonth, long[]> months = columns.sumCentsByMonth(JAN_31, FEB_1);
+
+        assertThat(months).containsOnlyKeys(YearMonth.of(2025, 1), YearMonth.of(2025, 2));
+        assertThat(months.get(YearMonth.of(2025, 2))[TransactionType.INCOME.ordinal()]).isEqualTo(10050);
+        assertThat(months.get(YearMonth.of(2025, 2))[TransactionType.EXPENSE.ordinal()]).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("Should replace rows by id and keep date order on upsert and remove")
+    void shouldUpsertAndRemove() {
+        TransactionColumns moved = columns.upsert(1, FEB_1, new BigDecimal("10.00"), null, TransactionType.EXPENSE);
+        TransactionColumns twice = moved.upsert(1, FEB_1, new BigDecimal("10.00"), null, TransactionType.EXPENSE);
+
+        assertThat(twice.size()).isEqualTo(4);
+        assertThat(twice.sumCents(TransactionType.EXPENSE, JAN_31, JAN_31)).isEqualTo(1);
+        assertThat(twice.sumCents(TransactionType.EXPENSE, FEB_1, FEB_1)).isEqualTo(1200);
+        assertThat(twice.remove(4).remove(4).sumCents(TransactionType.EXPENSE, FEB_1, FEB_1)).isEqualTo(1000);
+        assertThat(columns.size()).isEqualTo(4);
+    }
+}
@@ -0,0 +1,93 @@
+package com.financehub.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.financehub.dto.TransactionExportRow;
+import com.financehub.entity.Transaction.TransactionType;
+import com.financehub.exception.BadRequestException;
+import com.financehub.repository.TransactionRepository;
+import com.financehub.service.TransactionExportService.ExportFormat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for TransactionExportService.
+ *
+ * @author tekteku
+ * @version 1.0
+ * @since 2025-11-14
+ */
+@DisplayName("Transaction Export Service Tests")
+class TransactionExportServiceTest {
+
+    private static final LocalDate START = LocalDate.of(2025, 1, 1);
+    private static final LocalDate END = LocalDate.of(2025, 12, 31);
+
+    private final TransactionRepository transactionRepository = mock(TransactionRepository.class);
+    private final AtomicBoolean streamClosed = new AtomicBoolean();
+    private TransactionExportService exportService;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        exportService = new TransactionExportService(transactionRepository, objectMapper);
+
+        Stream<TransactionExportRow> rows = Stream.of(
+                new TransactionExportRow(1L, LocalDate.of(2025, 2, 1), TransactionType.EXPENSE,
+                        new BigDecimal("12.50"), "Coffee, \"large\"", null, "=SUM(A1)", 7L, "Checking", "Food"),
+                new TransactionExportRow(2L, LocalDate.of(2025, 2, 2), TransactionType.INCOME,
+                        new BigDecimal("1000.00"), "Salary", "ACME", null, 7L, "Checking", null));
+        when(transactionRepository.streamExportRows(1L, START, END))
+                .thenReturn(rows.onClose(() -> streamClosed.set(true)));
+    }
+
+    @Test
+    @DisplayName("Should write escaped CSV rows and close the cursor")
+    void shouldExportCsv() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long count = exportService.export(1L, START, END, ExportFormat.CSV, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\r\n");
+        assertThat(count).isEqualTo(2);
+        assertThat(lines).hasSize(3);
+        assertThat(lines[0]).startsWith("id,date,type,amount");
+        assertThat(lines[1]).isEqualTo(
+                "1,2025-02-01,EXPENSE,12.50,\"Coffee, \"\"large\"\"\",,'=SUM(A1),7,Checking,Food");
+        assertThat(lines[2]).isEqualTo("2,2025-02-02,INCOME,1000.00,Salary,ACME,,7,Checking,");
+        assertThat(streamClosed).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should write one JSON document per line")
+    void shouldExportNdjson() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        exportService.export(1L, START, END, ExportFormat.NDJSON, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(lines[0]).startsWith("{\"id\":1,\"transactionDate\":\"2025-02-01\"");
+        assertThat(lines[1]).contains("\"payee\":\"ACME\"");
+        assertThat(streamClosed).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should reject an inverted date range")
+    void shouldRejectInvertedRange() {
+        assertThatThrownBy(() -> exportService.validateRange(END, START))
+                .isInstanceOf(BadRequestException.class);
+    }
+}
@@ -0,0 +1,159 @@
+package com.financehub.service;
+
+import com.financehub.TestFixtures;
+import com.financehub.config.AuditingConfig;
+import com.financehub.dto.ImportJobStatus;
+import com.financehub.entity.Account;
+import com.financehub.entity.Category;
+import com.financehub.entity.User;
+import com.financehub.repository.DailyRollupBatchRepository;
+import com.financehub.repository.TransactionBatchRepository;
+import com.financehub.service.TransactionImportService.ImportFormat;
+import com.financehub.service.TransactionImportService.ImportJob;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for TransactionImportService against an embedded database.
+ *
+ * @author tekteku
+ * @version 1.0
+ * @since 2025-11-14
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({AuditingConfig.class, TransactionImportService.class, BalanceLedgerService.class,
+        TransactionBatchRepository.class, DailyRollupService.class, DailyRollupBatchRepository.class,
+        TransactionColumnCache.class, UserDataVersions.class, SimpleMeterRegistry.class})
+@DisplayName("Transaction Import Service Tests")
+class TransactionImportServiceTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionImportService importService;
+
+    private User user;
+    private Account checking;
+    private Account savings;
+
+    @BeforeEach
+    void setUp() {
+        user = entityManager.persist(TestFixtures.user("importer"));
+
+        checking = entityManager.persist(TestFixtures.account(user, "Checking", new BigDecimal("100.00")));
+        savings = entityManager.persist(TestFixtures.account(user, "Savings", new BigDecimal("0.00")));
+
+        Category food = new Category();
+        food.setName("Food");
+        food.setType(Category.CategoryType.EXPENSE);
+        food.setIsSystem(true);
+        entityManager.persist(food);
+        entityManager.flush();
+    }
+
+    @Test
+    @DisplayName("Should import valid CSV rows, report bad ones and adjust balances once")
+    void shouldImportCsv() throws IOException {
+        String csv = """
+                date,amount,description,category,account
+                2025-01-02,-25.50,"Groceries, weekly",food,
+                2025-01-03,1000,Salary,,savings
+                2025-01-04,abc,Broken,,
+                2025-01-05,-5,Snack,Unknown,
+                2999-01-01,-1,Future,,
+                2025-01-06,-4.50,"Multi
+                line",,Checking
+                """;
+
+        ImportJobStatus status = run(ImportFormat.CSV, checking.getId(), csv);
+
+        assertThat(status.getStatus()).isEqualTo(ImportJobStatus.Status.COMPLETED);
+        assertThat(status.getProcessedRows()).isEqualTo(6);
+        assertThat(status.getImportedRows()).isEqualTo(3);
+        assertThat(status.getFailedRows()).isEqualTo(3);
+        assertThat(status.getErrors()).extracting(ImportJobStatus.RowError::getLine).containsExactly(4L, 5L, 6L);
+        assertThat(countTransactions()).isEqualTo(3);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM transactions WHERE user_id = ?", Long.class, user.getId())).isEqualTo(3);
+        assertThat(balanceOf(checking)).isEqualByComparingTo("70.00");
+        assertThat(balanceOf(savings)).isEqualByComparingTo("1000.00");
+    }
+
+    @Test
+    @DisplayName("Should import OFX statement transactions into the given account")
+    void shouldImportOfx() throws IOException {
+        String ofx = """
+                OFXHEADER:100
+                <OFX><BANKMSGSRSV1><STMTTRNRS><STMTRS><BANKTRANLIST>
+                <STMTTRN><TRNTYPE>DEBIT<DTPOSTED>20250110120000<TRNAMT>-12.34<FITID>1<NAME>Coffee &amp; Co</STMTTRN>
+                <STMTTRN>
+                <TRNTYPE>CREDIT
+                <DTPOSTED>20250111
+                <TRNAMT>50.00
+                <FITID>2
+                <NAME>Refund
+                </STMTTRN>
+                </BANKTRANLIST></STMTRS></STMTTRNRS></BANKMSGSRSV1></OFX>
+                """;
+
+        ImportJobStatus status = run(ImportFormat.OFX, checking.getId(), ofx);
+
+        assertThat(status.getImportedRows()).isEqualTo(2);
+        assertThat(status.getFailedRows()).isZero();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT payee FROM transactions WHERE amount = 12.34", String.class)).isEqualTo("Coffee & Co");
+        assertThat(balanceOf(checking)).isEqualByComparingTo("137.66");
+    }
+
+    @Test
+    @DisplayName("Should insert across several batches")
+    void shouldImportManyRows() throws IOException {
+        StringBuilder csv = new StringBuilder("date,amount,type\n");
+        for (int i = 0; i < 2500; i++) {
+            csv.append("2025-02-01,1.00,EXPENSE\n");
+        }
+
+        ImportJobStatus status = run(ImportFormat.CSV, checking.getId(), csv.toString());
+
+        assertThat(status.getImportedRows()).isEqualTo(2500);
+        assertThat(countTransactions()).isEqualTo(2500);
+        assertThat(balanceOf(checking)).isEqualByComparingTo("-2400.00");
+    }
+
+    private ImportJobStatus run(ImportFormat format, Long accountId, String content) throws IOException {
+        Path file = Files.createTempFile("import-test", ".tmp");
+        Files.writeString(file, content);
+        ImportJob job = new ImportJob("job", user.getId(), user.getUsername(), accountId, format, "test");
+        return importService.run(job, file);
+    }
+
+    private long countTransactions() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM transactions", Long.class);
+    }
+
+    private BigDecimal balanceOf(Account account) {
+        entityManager.flush();
+        entityManager.clear();
+        return entityManager.find(Account.class, account.getId()).getCurrentBalance();
+    }
+}
@@ -0,0 +1,247 @@
+package com.financehub.service;
+
+import com.financehub.TestFixtures;
+import com.financehub.config.AuditingConfig;
+import com.financehub.dto.TransactionRequest;
+import com.financehub.dto.TransactionResponse;
+import com.financehub.entity.Account;
+import com.financehub.entity.Transaction;
+import com.financehub.entity.User;
+import com.financehub.mapper.EntityMapper;
+import com.financehub.repository.AccountRepository;
+import com.financehub.repository.BalanceJournalRepository;
+import com.financehub.repository.DailyRollupBatchRepository;
+import com.financehub.repository.DailyRollupRepository;
+import com.financehub.repository.TransactionRepository;
+import com.financehub.repository.UserRepository;
+import com.financehub.security.UserPrincipal;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Stress test for concurrent balance updates through TransactionService, with the balance journal
+ * being compacted at the same time. Daily rollups maintained along the way must match a rebuild.
+ * Runs without a surrounding test transaction so every service call commits on its own connection.
+ *
+ * @author tekteku
+ * @version 1.0
+ * @since 2025-11-15
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({AuditingConfig.class, TransactionService.class, BalanceLedgerService.class, EntityMapper.class,
+        DailyRollupService.class, DailyRollupBatchRepository.class, TransactionColumnCache.class,
+        UserDataVersions.class, SimpleMeterRegistry.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("Transaction Service Concurrency Tests")
+class TransactionServiceConcurrencyTest {
+
+    private static final int THREADS = 16;
+    private static final int OPERATIONS_PER_THREAD = 25;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+    
+    @Autowired
+    private BalanceLedgerService ledgerService;
+    
+    @Autowired
+    private BalanceJournalRepository journalRepository;
+    
+    @Autowired
+    private DailyRollupService rollupService;
+    
+    @Autowired
+    private DailyRollupRepository rollupRepository;
+
+    private UserPrincipal principal;
+    private Account shared;
+    private Account other;
+
+    @BeforeEach
+    void setUp() {
+        User user = userRepository.save(TestFixtures.user("family"));
+        principal = new UserPrincipal(user.getId(), user.getUsername(), null, List.of("ROLE_USER"));
+
+        shared = accountRepository.save(TestFixtures.account(user, "Shared", BigDecimal.ZERO));
+        other = accountRepository.save(TestFixtures.account(user, "Other", BigDecimal.ZERO));
+    }
+
+    @AfterEach
+    void tearDown() {
+        journalRepository.deleteAll();
+        rollupRepository.deleteAll();
+        transactionRepository.deleteAll();
+        accountRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Concurrent creates, moves and deletes should not lose balance updates")
+    void shouldKeepBalancesConsistentUnderContention() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            int thread = t;
+            futures.add(executor.submit(asUser(() -> {
+                start.await();
+                for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+                    boolean income = (thread + i) % 2 == 0;
+                    TransactionResponse created = transactionService.createTransaction(request(
+                            shared.getId(), income, BigDecimal.valueOf(i + 1)));
+                    if (i % 5 == 0) {
+                        // Move it to the other account and back, locking both accounts
+                        transactionService.updateTransaction(created.getId(),
+                                request(other.getId(), income, BigDecimal.valueOf(i + 1)));
+                        transactionService.updateTransaction(created.getId(),
+                                request(shared.getId(), income, BigDecimal.valueOf(i + 2)));
+                    }
+                    if (i % 7 == 0) {
+                        transactionService.deleteTransaction(created.getId());
+                    }
+                }
+                return null;
+            })));
+        }
+        AtomicBoolean writing = new AtomicBoolean(true);
+        Future<?> compactor = Executors.newSingleThreadExecutor().submit(() -> {
+            while (writing.get()) {
+                ledgerService.compact(shared.getId(), 10);
+                ledgerService.compact(other.getId(), 10);
+            }
+        });
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        writing.set(false);
+        compactor.get(60, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        assertThat(balanceOf(shared)).isEqualByComparingTo(expectedBalance(shared));
+        assertThat(balanceOf(other)).isEqualByComparingTo(expectedBalance(other));
+        assertThat(transactionRepository.count()).isPositive();
+
+        // Folding the rest of the journal must leave the balance where it is
+        while (ledgerService.compact(shared.getId(), 100) > 0) {
+            // drain
+        }
+        assertThat(journalRepository.countByAccountId(shared.getId())).isZero();
+        assertThat(accountRepository.findById(shared.getId()).orElseThrow().getBalance())
+                .isEqualByComparingTo(expectedBalance(shared));
+
+        List<String> incremental = rollups();
+        rollupService.rebuild(principal.getId());
+        assertThat(incremental).isNotEmpty().isEqualTo(rollups());
+    }
+
+    @Test
+    @DisplayName("Overlapping compactions of one account should fold each journal entry once")
+    void shouldNotDoubleCountOverlappingCompactions() throws Exception {
+        BigDecimal expected = BigDecimal.ZERO;
+        for (int i = 1; i <= 200; i++) {
+            BigDecimal delta = BigDecimal.valueOf(i);
+            ledgerService.record(shared.getId(), delta, null);
+            expected = expected.add(delta);
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < 2; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                while (ledgerService.compact(shared.getId(), 7) > 0) {
+                    // drain
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        assertThat(journalRepository.countByAccountId(shared.getId())).isZero();
+        assertThat(accountRepository.findById(shared.getId()).orElseThrow().getBalance())
+                .isEqualByComparingTo(expected);
+    }
+
+    /** Non-empty rollup rows, rendered for comparison; rows emptied by deletes are not recreated by a rebuild. */
+    private List<String> rollups() {
+        return rollupRepository.findAll().stream()
+                .filter(r -> r.getTxCount() != 0)
+                .map(r -> r.getDay() + "/" + r.getCategoryId() + "/" + r.getType() + "="
+                        + r.getTotal().stripTrailingZeros().toPlainString() + "x" + r.getTxCount())
+                .sorted()
+                .toList();
+    }
+
+    private BigDecimal expectedBalance(Account account) {
+        return transactionRepository.findAll().stream()
+                .filter(t -> t.getAccount().getId().equals(account.getId()))
+                .map(t -> t.getType().balanceEffect(t.getAmount()))
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+
+    private BigDecimal balanceOf(Account account) {
+        return accountRepository.findById(account.getId()).orElseThrow().getCurrentBalance();
+    }
+
+    private <T> Callable<T> asUser(Callable<T> task) {
+        return () -> {
+            SecurityContextHolder.getContext().setAuthentication(
+                    new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+            try {
+                return task.call();
+            } finally {
+                SecurityContextHolder.clearContext();
+            }
+        };
+    }
+
+    private static TransactionRequest request(Long accountId, boolean income, BigDecimal amount) {
+        TransactionRequest request = new TransactionRequest();
+        request.setAccountId(accountId);
+        request.setAmount(amount);
+        request.setType(income ? Transaction.TransactionType.INCOME : Transaction.TransactionType.EXPENSE);
+        request.setTransactionDate(LocalDate.of(2025, 1, 1));
+        return request;
+    }
+}
@@ -0,0 +1,159 @@
+package com.financehub.service;
+
+import com.financehub.TestFixtures;
+import com.financehub.config.AuditingConfig;
+import com.financehub.entity.Account;
+import com.financehub.entity.Category;
+import com.financehub.entity.Transaction;
+import com.financehub.entity.User;
+import com.financehub.mapper.EntityMapper;
+import com.financehub.repository.DailyRollupBatchRepository;
+import com.financehub.security.UserPrincipal;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Guards the number of SQL statements issued by TransactionService read paths.
+ * Every transaction gets its own category so lazy loading would show up as one extra query per row;
+ * each read must cost the same number of statements whether it returns 2 rows or 20.
+ *
+ * @author tekteku
+ * @version 1.0
+ * @since 2025-11-14
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Import({AuditingConfig.class, TransactionService.class, BalanceLedgerService.class, EntityMapper.class,
+        DailyRollupService.class, DailyRollupBatchRepository.class, TransactionColumnCache.class,
+        UserDataVersions.class, SimpleMeterRegistry.class})
+@DisplayName("Transaction Service Query Count Tests")
+class TransactionServiceQueryCountTest {
+
+    private static final LocalDate FIRST_DAY = LocalDate.of(2025, 1, 1);
+    private static final int ROWS = 20;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    private Statistics statistics;
+    private Account account;
+
+    @BeforeEach
+    void setUp() {
+        User user = entityManager.persist(TestFixtures.user("counted"));
+
+        account = entityManager.persist(TestFixtures.account(user));
+
+        for (int i = 0; i < ROWS; i++) {
+            Category category = new Category();
+            category.setName("Category " + i);
+            category.setType(Category.CategoryType.EXPENSE);
+            category.setIsSystem(false);
+            category.setUser(user);
+            entityManager.persist(category);
+
+            entityManager.persist(Transaction.builder()
+                    .amount(BigDecimal.ONE)
+                    .type(Transaction.TransactionType.EXPENSE)
+                    .transactionDate(FIRST_DAY.plusDays(i))
+                    .account(account)
+                    .category(category)
+                    .isRecurring(false)
+                    .build());
+        }
+        entityManager.flush();
+
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                new UserPrincipal(user.getId(), user.getUsername(), null, List.of("ROLE_USER")), null, List.of()));
+        statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Offset listings should not issue a query per row")
+    void offsetListingsShouldHaveConstantStatementCount() {
+        assertConstant(size -> transactionService.getAllTransactions(page(size)).getContent());
+        assertConstant(size -> transactionService.getTransactionsByType(
+                Transaction.TransactionType.EXPENSE, page(size)).getContent());
+        assertConstant(size -> transactionService.getTransactionsByAccount(account.getId(), page(size)).getContent());
+    }
+
+    @Test
+    @DisplayName("Keyset listings should not issue a query per row")
+    void cursorListingsShouldHaveConstantStatementCount() {
+        assertConstant(size -> transactionService.getTransactionsPage(null, size).getContent());
+        assertConstant(size -> transactionService.getTransactionsPageByType(
+                Transaction.TransactionType.EXPENSE, null, size).getContent());
+        assertConstant(size -> transactionService.getTransactionsPageByAccount(account.getId(), null, size).getContent());
+    }
+
+    @Test
+    @DisplayName("Date range and recent listings should not issue a query per row")
+    void rangeListingsShouldHaveConstantStatementCount() {
+        assertConstant(size -> transactionService.getTransactionsByDateRange(
+                FIRST_DAY, FIRST_DAY.plusDays(size - 1)));
+        assertConstant(size -> transactionService.getRecentTransactions().subList(0, Math.min(size, 10)));
+    }
+
+    @Test
+    @DisplayName("Reading one transaction should take a single statement")
+    void singleReadShouldTakeOneStatement() {
+        Long id = transactionService.getRecentTransactions().get(0).getId();
+
+        long statements = countStatements(() -> transactionService.getTransactionById(id));
+
+        assertThat(statements).isEqualTo(1);
+    }
+
+    private void assertConstant(Read read) {
+        long small = countStatements(() -> assertThat(read.rows(2)).hasSize(2));
+        long large = countStatements(() -> assertThat(read.rows(10)).hasSize(10));
+        assertThat(large)
+                .as("statements for 10 rows compared to 2 rows")
+                .isEqualTo(small);
+    }
+
+    private long countStatements(Runnable action) {
+        entityManager.clear();
+        statistics.clear();
+        action.run();
+        return statistics.getPrepareStatementCount();
+    }
+
+    private static PageRequest page(int size) {
+        return PageRequest.of(0, size, Sort.by(Sort.Direction.DESC, "transactionDate"));
+    }
+
+    @FunctionalInterface
+    private interface Read {
+        List<?> rows(int size);
+    }
+}
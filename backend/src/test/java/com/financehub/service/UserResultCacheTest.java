@@ -0,0 +1,204 @@
+package com.financehub.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.financehub.dto.AnalyticsSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.math.BigDecimal;
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for UserResultCache against an in-process Redis stand-in.
+ * Two cache instances sharing one Redis play two application nodes.
+ *
+ * @author tekteku
+ * @version 1.0
+ * @since 2025-11-17
+ */
+@DisplayName("User Result Cache Tests")
+class UserResultCacheTest {
+
+    private static final TypeReference<AnalyticsSummary> SUMMARY = new TypeReference<>() {};
+    private static final LocalDate START = LocalDate.of(2025, 1, 1);
+    private static final LocalDate END = LocalDate.of(2025, 1, 31);
+
+    private static InProcessRedis redis;
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate template;
+
+    private final AtomicInteger loads = new AtomicInteger();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @BeforeAll
+    static void startRedis() throws Exception {
+        redis = new InProcessRedis();
+        connectionFactory = connectionFactory(redis.port());
+        template = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void stopRedis() throws Exception {
+        connectionFactory.destroy();
+        redis.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redis.flushAll();
+        redis.readOnly(false);
+    }
+
+    @Test
+    @DisplayName("Should serve results from the near cache and Redis until a write bumps the version")
+    void shouldServeUntilVersionBumped() {
+        UserDataVersions versionsA = new UserDataVersions(template);
+        UserDataVersions versionsB = new UserDataVersions(template);
+        UserResultCache nodeA = cache(100, template, versionsA);
+        UserResultCache nodeB = cache(0, template, versionsB);
+
+        AnalyticsSummary first = nodeA.get(1L, "summary", SUMMARY, loader("100.00"), START, END);
+        assertThat(nodeA.get(1L, "summary", SUMMARY, loader("100.00"), START, END)).isSameAs(first);
+        assertThat(nodeB.get(1L, "summary", SUMMARY, loader("100.00"), START, END))
+                .usingRecursiveComparison()
+                .isEqualTo(first);
+        assertThat(loads).hasValue(1);
+
+        // Other users, names and arguments get their own entries
+        nodeA.get(2L, "summary", SUMMARY, loader("5.00"), START, END);
+        nodeA.get(1L, "summary", SUMMARY, loader("7.00"), START, END.plusDays(1));
+        assertThat(loads).hasValue(3);
+
+        versionsB.bump(1L);
+        assertThat(nodeA.get(1L, "summary", SUMMARY, loader("150.00"), START, END).getTotalIncome())
+                .isEqualByComparingTo("150.00");
+        assertThat(nodeA.get(2L, "summary", SUMMARY, loader("5.00"), START, END).getTotalIncome())
+                .isEqualByComparingTo("5.00");
+        assertThat(loads).hasValue(4);
+        assertThat(meterRegistry.get("analytics.result-cache.requests").tag("outcome", "near").counter().count())
+                .isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should bump the version only when the writing transaction commits")
+    void shouldBumpAfterCommit() {
+        UserDataVersions versions = new UserDataVersions(template);
+        UserResultCache cache = cache(100, template, versions);
+        cache.get(1L, "summary", SUMMARY, loader("100.00"), START, END);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            versions.bump(1L);
+            cache.get(1L, "summary", SUMMARY, loader("100.00"), START, END);
+            assertThat(loads).hasValue(1);
+
+            TransactionSynchronizationUtils.triggerAfterCommit();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        cache.get(1L, "summary", SUMMARY, loader("100.00"), START, END);
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Should bypass cached results of a user whose bump failed until a retry succeeds")
+    void shouldBypassCacheAfterFailedBump() {
+        UserDataVersions versions = new UserDataVersions(template);
+        UserResultCache cache = cache(100, template, versions);
+        cache.get(1L, "summary", SUMMARY, loader("100.00"), START, END);
+        cache.get(2L, "summary", SUMMARY, loader("5.00"), START, END);
+        long before = versions.current(1L);
+
+        redis.readOnly(true);
+        versions.bump(1L);
+        assertThatThrownBy(() -> versions.current(1L)).isInstanceOf(IllegalStateException.class);
+        assertThat(cache.get(1L, "summary", SUMMARY, loader("120.00"), START, END).getTotalIncome())
+                .isEqualByComparingTo("120.00");
+        // Other users keep their cached results
+        cache.get(2L, "summary", SUMMARY, loader("5.00"), START, END);
+        assertThat(loads).hasValue(3);
+
+        redis.readOnly(false);
+        versions.retryFailedBumps();
+        assertThat(versions.current(1L)).isGreaterThan(before);
+        cache.get(1L, "summary", SUMMARY, loader("120.00"), START, END);
+        cache.get(1L, "summary", SUMMARY, loader("120.00"), START, END);
+        assertThat(loads).hasValue(4);
+    }
+
+    @Test
+    @DisplayName("Should compute results directly when Redis is unreachable")
+    void shouldFallBackWhenRedisIsDown() throws Exception {
+        int unusedPort;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            unusedPort = socket.getLocalPort();
+        }
+        LettuceConnectionFactory downFactory = connectionFactory(unusedPort);
+        try {
+            StringRedisTemplate downTemplate = new StringRedisTemplate(downFactory);
+            UserDataVersions versions = new UserDataVersions(downTemplate);
+            UserResultCache cache = cache(100, downTemplate, versions);
+
+            assertThat(cache.get(1L, "summary", SUMMARY, loader("1.00"), START, END).getTotalIncome())
+                    .isEqualByComparingTo("1.00");
+            assertThat(cache.get(1L, "summary", SUMMARY, loader("1.00"), START, END)).isNotNull();
+            assertThatCode(() -> versions.bump(1L)).doesNotThrowAnyException();
+            assertThat(loads).hasValue(2);
+        } finally {
+            downFactory.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("Should call the loader directly when disabled")
+    void shouldPassThroughWhenDisabled() {
+        UserResultCache cache = new UserResultCache(false, Duration.ofMinutes(1), 100, Duration.ofSeconds(30),
+                (StringRedisTemplate) null, new UserDataVersions(null), meterRegistry);
+
+        cache.get(1L, "summary", SUMMARY, loader("1.00"), START, END);
+        cache.get(1L, "summary", SUMMARY, loader("1.00"), START, END);
+        assertThat(loads).hasValue(2);
+    }
+
+    private UserResultCache cache(long nearCacheSize, StringRedisTemplate redisTemplate, UserDataVersions versions) {
+        return new UserResultCache(true, Duration.ofMinutes(1), nearCacheSize, Duration.ofSeconds(30),
+                redisTemplate, versions, meterRegistry);
+    }
+
+    private Supplier<AnalyticsSummary> loader(String income) {
+        return () -> {
+            loads.incrementAndGet();
+            return AnalyticsSummary.builder()
+                    .totalIncome(new BigDecimal(income))
+                    .totalExpenses(BigDecimal.ZERO)
+                    .balance(new BigDecimal(income))
+                    .currency("USD")
+                    .startDate(START)
+                    .endDate(END)
+                    .build();
+        };
+    }
+
+    private static LettuceConnectionFactory connectionFactory(int port) {
+        LettuceConnectionFactory factory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration("127.0.0.1", port));
+        factory.afterPropertiesSet();
+        factory.start();
+        return factory;
+    }
+}
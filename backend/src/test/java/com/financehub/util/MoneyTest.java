@@ -0,0 +1,77 @@
+package com.financehub.util;
+
+import com.financehub.entity.Budget;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for Money and the Budget percentages built on it.
+ *
+ * @author tekteku
+ * @version 1.0
+ * @since 2025-11-17
+ */
+@DisplayName("Money Tests")
+class MoneyTest {
+
+    @Test
+    @DisplayName("Should convert decimals to minor units exactly, rounding half-up")
+    void shouldConvertToMinorUnits() {
+        assertThat(Money.toMinorUnits(new BigDecimal("1234567890123.45"))).isEqualTo(123456789012345L);
+        assertThat(Money.toMinorUnits(new BigDecimal("-0.01"))).isEqualTo(-1);
+        assertThat(Money.toMinorUnits(new BigDecimal("2.345"))).isEqualTo(235);
+        assertThat(Money.toMinorUnits(new BigDecimal("-2.345"))).isEqualTo(-235);
+        assertThat(Money.toMinorUnits(new BigDecimal("999999999999999.99"))).isEqualTo(99999999999999999L);
+        assertThat(Money.toMinorUnits(null)).isZero();
+        assertThat(Money.of(new BigDecimal("5")).toBigDecimal()).isEqualTo(new BigDecimal("5.00"));
+    }
+
+    @Test
+    @DisplayName("Should compute percentages exactly like BigDecimal division")
+    void shouldMatchBigDecimalPercentages() {
+        Random random = new Random(7);
+        for (int i = 0; i < 10_000; i++) {
+            BigDecimal part = BigDecimal.valueOf(random.nextInt(2_000_000) - 1_000_000, 2);
+            BigDecimal total = BigDecimal.valueOf(random.nextInt(1_000_000) + 1, 2);
+            for (int scale : new int[]{2, 4}) {
+                BigDecimal expected = part.divide(total, scale, RoundingMode.HALF_UP).multiply(BigDecimal.valueOf(100));
+                assertThat(Money.of(part).percentageOf(Money.of(total), scale)).isEqualTo(expected);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject mixing currencies")
+    void shouldRejectCurrencyMismatch() {
+        Money usd = Money.of(BigDecimal.TEN);
+        Money eur = Money.of(BigDecimal.TEN, "EUR");
+
+        assertThatThrownBy(() -> usd.plus(eur)).isInstanceOf(IllegalArgumentException.class);
+        assertThat(usd.plus(usd).minus(Money.ofMinor(1))).isEqualTo(Money.of(new BigDecimal("19.99")));
+    }
+
+    @Test
+    @DisplayName("Should derive budget percentage and alert from minor units")
+    void shouldComputeBudgetPercentage() {
+        Budget budget = Budget.builder()
+                .amount(new BigDecimal("300.00"))
+                .spent(new BigDecimal("239.99"))
+                .alertThreshold(BigDecimal.valueOf(80))
+                .build();
+        assertThat(budget.getSpentPercentage()).isEqualTo(new BigDecimal("80.00"));
+        assertThat(budget.isAlertTriggered()).isTrue();
+
+        budget.setSpent(new BigDecimal("238.49"));
+        assertThat(budget.getSpentPercentage()).isEqualTo(new BigDecimal("79.00"));
+        assertThat(budget.isAlertTriggered()).isFalse();
+
+        budget.setAmount(BigDecimal.ZERO);
+        assertThat(budget.getSpentPercentage()).isEqualByComparingTo("0");
+    }
+}